@@ -12,6 +12,22 @@
 package address_book;
 
 import java.util.*;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import address_utils.formatter.ContactNormalizer;
+import address_utils.index.ContactIndex;
+import address_utils.index.FuzzyIndex;
+import address_utils.index.HashIndex;
+import address_utils.index.PhoneticIndex;
+import address_utils.index.PrefixIndex;
+import address_utils.index.TrigramIndex;
+import address_utils.index.ZipIndex;
+import address_utils.query.ContactQuery;
+import utilities.ConfigUtil;
+import utilities.LongIntMap;
 
 /**
  * Manages the list of contact entries in the address book.
@@ -21,6 +37,43 @@ import java.util.*;
  * Delegates contact selection to {@link ContactSearcher} and field
  * update interaction to {@link ContactUpdater}.
  * 
+ * Hash indexes on normalized email and phone are kept in step with every
+ * add, delete, and update, so exact lookups by either field take constant
+ * time regardless of the number of contacts. A trigram index over names,
+ * email, and phone narrows substring searches to a few candidates; it is
+ * built on the first such search and maintained from then on. Sorted
+ * prefix indexes over first, last, and full names answer "starts with"
+ * searches in the same way, and tries over the distinct first and last
+ * names find names despite typos. Phonetic indexes on first and last name,
+ * kept current from load onward like the hash indexes, find names that
+ * sound alike. A sorted ZIP code index answers range queries, and hash
+ * indexes on city and state and on state alone find contacts by region;
+ * both are kept current like the hash indexes.
+ * 
+ * Search results are kept in a bounded LRU {@link SearchCache} of
+ * {@code addressbook.search.cache.size} entries (default 256), emptied
+ * whenever a contact is added, deleted, or updated.
+ * 
+ * Every contact is given a stable numeric ID when it is added or loaded
+ * without one, and an open-addressing map from ID to list position makes
+ * lookup and deletion by ID constant-time. A deleted contact's place in the
+ * list is taken by the last contact, so deletion does not preserve order.
+ * 
+ * The address book is thread-safe. A {@link StampedLock} guards the contact
+ * list, ID map, and indexes: changes take the write lock and lookups share
+ * the read lock, so readers never block one another. Only {@link #size()},
+ * a single field read, is tried optimistically without the lock. Indexes
+ * built on first use are built under the write lock. Prompts for user input
+ * are never made while a lock is held, so a user deciding what to delete or
+ * update does not stall other threads.
+ * 
+ * Stored contacts are never changed in place. An update replaces the
+ * contact with an edited copy holding the same ID, so a thread scanning a
+ * list returned earlier sees each contact either wholly before or wholly
+ * after the change. A {@link ContactChangeListener} is told of every
+ * change before the write lock is released, so whatever it records is
+ * ordered with the change against any reader.
+ * 
  * Contact validation is handled externally prior to insertion.
  * 
  * @author James Stevens
@@ -29,33 +82,456 @@ import java.util.*;
  */
 public class AddressBook {
 
+    // Contacts tested per hold of the read lock when a cursor scans the list
+    private static final int SCAN_CHUNK = 4096;
+
+    private final StampedLock lock = new StampedLock();
+
     private List<Contact> contacts = new ArrayList<>();
 
+    private volatile ContactChangeListener listener;
+
+    // Position of each contact in the list, by ID, and the next ID to assign
+    private final LongIntMap positions = new LongIntMap();
+    private long nextId = 1;
+
+    private final HashIndex emailIndex = new HashIndex(Contact::getEmail, ContactNormalizer::emailKey);
+    private final HashIndex phoneIndex = new HashIndex(Contact::getPhone, ContactNormalizer::phoneKey);
+
+    // Columns of the trigram index
+    private static final int NAME_COLUMN = 0;
+    private static final int EMAIL_COLUMN = 1;
+    private static final int PHONE_COLUMN = 2;
+    private final TrigramIndex trigramIndex = new TrigramIndex(List.of(
+        Contact::getFoldedFullName,
+        Contact::getFoldedEmail,
+        Contact::getFoldedPhone));
+
+    private final PrefixIndex firstNamePrefixes = new PrefixIndex(Contact::getFirstName);
+    private final PrefixIndex lastNamePrefixes = new PrefixIndex(Contact::getLastName);
+    private final PrefixIndex fullNamePrefixes = new PrefixIndex(Contact::getFoldedFullName);
+
+    private final FuzzyIndex firstNameTypos = new FuzzyIndex(Contact::getFoldedFirstName);
+    private final FuzzyIndex lastNameTypos = new FuzzyIndex(Contact::getFoldedLastName);
+
+    private final PhoneticIndex firstNameSounds = new PhoneticIndex(Contact::getFoldedFirstName);
+    private final PhoneticIndex lastNameSounds = new PhoneticIndex(Contact::getFoldedLastName);
+
+    private final ZipIndex zipIndex = new ZipIndex();
+    private final HashIndex regionIndex =
+        new HashIndex(c -> c.getCity() + "," + c.getState(), ContactNormalizer::placeKey);
+    private final HashIndex stateIndex = new HashIndex(Contact::getState, ContactNormalizer::placeKey);
+
+    private final List<ContactIndex> indexes = List.of(emailIndex, phoneIndex, trigramIndex,
+        firstNamePrefixes, lastNamePrefixes, fullNamePrefixes, firstNameTypos, lastNameTypos,
+        firstNameSounds, lastNameSounds, zipIndex, regionIndex, stateIndex);
+
+    private final SearchCache searchCache =
+        new SearchCache(ConfigUtil.getInt("addressbook.search.cache.size", 256));
+
     /**
-     * Retrieves the list of all stored contacts.
+     * Retrieves the stored contacts.
      * 
-     * @return the current list of contacts
+     * @return a snapshot of the current list of contacts; changes to the
+     *         list do not affect the address book
      */
     public List<Contact> getContacts() {
-        return contacts;
+        long stamp = lock.readLock();
+        try {
+            return new ArrayList<>(contacts);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Runs an action on the live contact list under the read lock, so no
+     * change is applied while it runs and the list is not copied.
+     * 
+     * @param action reads the contacts; must not keep the list or change the book
+     * @return the action's result
+     */
+    public <T> T withContacts(Function<List<Contact>, T> action) {
+        List<Contact> view = Collections.unmodifiableList(contacts);
+        return read(() -> action.apply(view));
     }
 
     /**
-     * Replaces the current list of contacts (e.g., after loading from file).
+     * Tests contacts from a list position onward under the read lock,
+     * adding those the predicate accepts to {@code matches}, until it holds
+     * {@code wanted} contacts or {@value #SCAN_CHUNK} have been tested. The
+     * lock is released between calls, so a {@link ContactCursor} paging
+     * through a large book does not hold up changes for the whole scan.
      * 
-     * @param contacts the new list to store
+     * @param from      the position to start at
+     * @param predicate the test a contact must pass
+     * @param matches   receives the contacts that pass
+     * @param wanted    the size {@code matches} should reach
+     * @return the position to continue from, or -1 once the end of the list is reached
      */
-    public void setContacts(List<Contact> contacts) {
-        this.contacts = contacts;
+    int scan(int from, Predicate<? super Contact> predicate, List<Contact> matches, int wanted) {
+        long stamp = lock.readLock();
+        try {
+            int end = (int) Math.min(contacts.size(), (long) from + SCAN_CHUNK);
+            int i = from;
+            for (; i < end && matches.size() < wanted; i++) {
+                Contact c = contacts.get(i);
+                if (predicate.test(c)) matches.add(c);
+            }
+            return i < contacts.size() ? i : -1;
+        } finally {
+            lock.unlockRead(stamp);
+        }
     }
 
     /**
-     * Adds a validated contact to the address book.
+     * Sets the listener told of every add, delete, and update.
+     * 
+     * @param listener the listener, or null for none
+     */
+    public void setChangeListener(ContactChangeListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * @return the number of contacts stored
+     */
+    public int size() {
+        long stamp = lock.tryOptimisticRead();
+        int size = contacts.size();
+        if (lock.validate(stamp)) return size;
+        stamp = lock.readLock();
+        try {
+            return contacts.size();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Replaces the current list of contacts (e.g., after loading from file)
+     * and rebuilds the indexes.
+     * 
+     * Contacts without an ID, or whose ID an earlier contact in the list
+     * already has, are given new IDs.
+     * 
+     * @param contacts the contacts to store; the list is copied
+     * @return the number of contacts given a new ID
+     */
+    public int setContacts(List<Contact> contacts) {
+        long stamp = lock.writeLock();
+        try {
+            this.contacts = new ArrayList<>(contacts);
+            int assigned = assignIds();
+            searchCache.invalidate();
+            for (ContactIndex index : indexes) {
+                index.clear();
+                for (Contact c : this.contacts) index.add(c);
+            }
+            return assigned;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Adds a validated contact to the address book, giving it a new ID
+     * unless it has one that is not in use.
      * 
      * @param contact the contact to add
      */
     public void addContact(Contact contact) {
-        contacts.add(contact);
+        long stamp = lock.writeLock();
+        try {
+            long id = contact.getId();
+            if (id <= 0 || positions.containsKey(id)) {
+                contact.setId(nextId++);
+            } else {
+                nextId = Math.max(nextId, id + 1);
+            }
+            positions.put(contact.getId(), contacts.size());
+            contacts.add(contact);
+            indexContact(contact);
+            ContactChangeListener l = listener;
+            if (l != null) l.added(contact);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Finds a contact by ID.
+     * 
+     * @param id the contact's ID
+     * @return the contact, or null if none has the ID
+     */
+    public Contact getContact(long id) {
+        return read(() -> getContactLocked(id));
+    }
+
+    /**
+     * Removes a contact by ID, in constant time. The last contact in the
+     * list takes its place.
+     * 
+     * @param id the contact's ID
+     * @return the removed contact, or null if none has the ID
+     */
+    public Contact removeContact(long id) {
+        long stamp = lock.writeLock();
+        try {
+            return removeById(id);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    private Contact removeById(long id) {
+        Contact removed = detach(id);
+        if (removed != null) {
+            unindexContact(removed);
+            ContactChangeListener l = listener;
+            if (l != null) l.deleted(List.of(removed));
+        }
+        return removed;
+    }
+
+    /**
+     * Takes a contact out of the list and ID map, but not the indexes; the
+     * caller holds the write lock.
+     */
+    private Contact detach(long id) {
+        int position = positions.remove(id);
+        if (position == LongIntMap.MISSING) return null;
+
+        Contact removed = contacts.get(position);
+        int last = contacts.size() - 1;
+        if (position != last) {
+            Contact moved = contacts.get(last);
+            contacts.set(position, moved);
+            positions.put(moved.getId(), position);
+        }
+        contacts.remove(last);
+        return removed;
+    }
+
+    /**
+     * Returns the cache of search results for this address book.
+     * 
+     * @return the search cache
+     */
+    public SearchCache getSearchCache() {
+        return searchCache;
+    }
+
+    /**
+     * Finds contacts by exact email address, ignoring case.
+     * 
+     * @param email the complete email address
+     * @return the matching contacts; empty if none
+     */
+    public List<Contact> findByEmail(String email) {
+        return read(() -> emailIndex.get(email));
+    }
+
+    /**
+     * Finds contacts by exact phone number, comparing digits only.
+     * 
+     * @param phone the complete phone number in any format
+     * @return the matching contacts; empty if none
+     */
+    public List<Contact> findByPhone(String phone) {
+        return read(() -> phoneIndex.get(phone));
+    }
+
+    /**
+     * Finds contacts whose ZIP code lies in a range, inclusive.
+     * 
+     * A five-digit bound covers every ZIP+4 code within it, so 78200 to
+     * 78299 includes 78299-1234.
+     * 
+     * @param from the lowest ZIP or ZIP+4 code
+     * @param to   the highest ZIP or ZIP+4 code
+     * @return the matching contacts in ZIP code order; empty if none
+     * @throws IllegalArgumentException if either bound is not a ZIP or ZIP+4 code
+     */
+    public List<Contact> findByZipRange(String from, String to) {
+        return read(() -> zipIndex.between(from, to));
+    }
+
+    /**
+     * Finds contacts by region, ignoring case and extra spaces.
+     * 
+     * @param place a city and state separated by a comma, such as
+     *              "San Antonio, Texas", or a state alone
+     * @return the matching contacts; empty if none
+     */
+    public List<Contact> findByRegion(String place) {
+        HashIndex index = place.indexOf(',') >= 0 ? regionIndex : stateIndex;
+        return read(() -> index.get(place));
+    }
+
+    /**
+     * Narrows a substring search to the contacts that may match.
+     * 
+     * Uses the trigram index, building it on first use. Every contact whose
+     * field contains the term is returned, but so may a few that do not, so
+     * each candidate must still be checked.
+     * 
+     * @param field the search field: "first", "last", "full", "name", "email", or "phone"
+     * @param term  the lower-cased search term, at least three characters long
+     * @return the candidate contacts, or null if the field is not indexed
+     */
+    public List<Contact> findSubstringCandidates(String field, String term) {
+        int column;
+        switch (field.toLowerCase()) {
+            case "first":
+            case "last":
+            case "full":
+            case "name":
+                column = NAME_COLUMN; // First and last name are both within the full name
+                break;
+            case "email":
+                column = EMAIL_COLUMN;
+                break;
+            case "phone":
+                column = PHONE_COLUMN;
+                break;
+            default:
+                return null;
+        }
+        int indexColumn = column;
+        return readBuilding(trigramIndex::isBuilt, () -> trigramIndex.build(contacts),
+            () -> trigramIndex.candidates(indexColumn, term));
+    }
+
+    /**
+     * Finds contacts whose name starts with the given prefix, ignoring case.
+     * 
+     * Uses a sorted prefix index, building it on first use, so the cost
+     * depends on the number of matches returned rather than the size of
+     * the address book.
+     * 
+     * @param field  the name to match: "first", "last", or "full"
+     * @param prefix the start of the name
+     * @param limit  the most contacts to return
+     * @return up to {@code limit} matches in alphabetical order, or null if
+     *         the field has no prefix index
+     */
+    public List<Contact> findByPrefix(String field, String prefix, int limit) {
+        PrefixIndex index;
+        switch (field.toLowerCase()) {
+            case "first":
+                index = firstNamePrefixes;
+                break;
+            case "last":
+                index = lastNamePrefixes;
+                break;
+            case "full":
+            case "name":
+                index = fullNamePrefixes;
+                break;
+            default:
+                return null;
+        }
+        PrefixIndex prefixIndex = index;
+        return readBuilding(prefixIndex::isBuilt, () -> prefixIndex.build(contacts),
+            () -> prefixIndex.startingWith(prefix, limit));
+    }
+
+    /**
+     * Finds contacts whose name is within a few typos of the given name.
+     * 
+     * A single word is matched against both first and last names. Two or
+     * more words are split into a first name and a last name, and the edits
+     * needed for both are added together. Names are looked up in tries over
+     * the distinct first and last names, built on first use, so the
+     * cost depends on the size of the name dictionary rather than on the
+     * number of contacts.
+     * 
+     * @param name        the name as typed
+     * @param maxDistance the most edits allowed
+     * @param limit       the most contacts to return
+     * @return up to {@code limit} contacts, closest match first
+     */
+    public List<Contact> findFuzzy(String name, int maxDistance, int limit) {
+        String[] words = name.trim().toLowerCase().split("\\s+", 2);
+        if (words[0].isEmpty()) return new ArrayList<>();
+        return readBuilding(() -> firstNameTypos.isBuilt() && lastNameTypos.isBuilt(),
+            () -> {
+                if (!firstNameTypos.isBuilt()) firstNameTypos.build(contacts);
+                if (!lastNameTypos.isBuilt()) lastNameTypos.build(contacts);
+            },
+            () -> findFuzzy(words, maxDistance, limit));
+    }
+
+    private List<Contact> findFuzzy(String[] words, int maxDistance, int limit) {
+        List<Contact> result = new ArrayList<>();
+
+        if (words.length == 1) {
+            // Closest of the first- and last-name matches first; a contact may match both
+            Set<Contact> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+            List<FuzzyIndex.Match> matches = new ArrayList<>(firstNameTypos.within(words[0], maxDistance));
+            matches.addAll(lastNameTypos.within(words[0], maxDistance));
+            matches.sort(Comparator.comparingInt(FuzzyIndex.Match::getDistance));
+            for (FuzzyIndex.Match match : matches) {
+                for (Contact c : match.getContacts()) {
+                    if (result.size() >= limit) return result;
+                    if (seen.add(c)) result.add(c);
+                }
+            }
+            return result;
+        }
+
+        List<FuzzyIndex.Match> firstMatches = firstNameTypos.within(words[0], maxDistance);
+        List<FuzzyIndex.Match> lastMatches = lastNameTypos.within(words[1], maxDistance);
+        for (int total = 0; total <= maxDistance; total++) {
+            for (FuzzyIndex.Match first : firstMatches) {
+                for (FuzzyIndex.Match last : lastMatches) {
+                    if (first.getDistance() + last.getDistance() != total) continue;
+                    // Walk the shorter list and check the other name directly
+                    boolean byFirst = first.getContacts().size() <= last.getContacts().size();
+                    for (Contact c : byFirst ? first.getContacts() : last.getContacts()) {
+                        String other = byFirst ? c.getFoldedLastName() : c.getFoldedFirstName();
+                        if (!other.equals(byFirst ? last.getWord() : first.getWord())) continue;
+                        if (result.size() >= limit) return result;
+                        result.add(c);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Finds contacts whose name sounds like the given name.
+     * 
+     * A single word is compared with both first and last names. Two or more
+     * words are taken as a first name and a last name, and both must sound
+     * alike. Candidates come from hash probes of the phonetic indexes.
+     * 
+     * @param name the name as heard
+     * @return the matching contacts; empty if none
+     */
+    public List<Contact> findSoundingLike(String name) {
+        String[] words = name.trim().split("\\s+", 2);
+        if (words[0].isEmpty()) return new ArrayList<>();
+        return read(() -> findSoundingLike(words));
+    }
+
+    private List<Contact> findSoundingLike(String[] words) {
+
+        if (words.length == 1) {
+            List<Contact> result = firstNameSounds.get(words[0]);
+            Predicate<Contact> foundByFirstName = firstNameSounds.soundingLike(words[0]);
+            for (Contact c : lastNameSounds.get(words[0])) {
+                if (!foundByFirstName.test(c)) result.add(c);
+            }
+            return result;
+        }
+
+        List<Contact> result = lastNameSounds.get(words[1]);
+        result.removeIf(firstNameSounds.soundingLike(words[0]).negate());
+        return result;
     }
 
     /**
@@ -63,7 +539,8 @@ public class AddressBook {
      * 
      * Prompts the user to choose a search field, then uses
      * partial matching to find contacts. If one is selected and confirmed,
-     * the contact is removed and returned.
+     * the contact is removed and returned, unless someone else deleted or
+     * updated it after it was selected.
      * 
      * @param scanner a Scanner for user input
      * @return the deleted contact, or null if none deleted
@@ -75,7 +552,7 @@ public class AddressBook {
         System.out.print("Enter value to search from AddressBook delete: ");
         String value = scanner.nextLine();
 
-        List<Contact> matches = ContactSearcher.findMatches(contacts, field, value);
+        ContactCursor matches = ContactSearcher.search(this, field, value);
         Contact toDelete = ContactSearcher.selectFromList(matches, scanner);
 
         if (toDelete != null) {
@@ -83,7 +560,16 @@ public class AddressBook {
             String confirmation = scanner.nextLine().trim();
 
             if (confirmation.equalsIgnoreCase("y") || confirmation.equalsIgnoreCase("yes")) {
-                contacts.remove(toDelete);
+                long stamp = lock.writeLock();
+                try {
+                    if (getContactLocked(toDelete.getId()) != toDelete) {
+                        System.out.println("The contact was deleted or changed by someone else.");
+                        return null;
+                    }
+                    removeById(toDelete.getId());
+                } finally {
+                    lock.unlockWrite(stamp);
+                }
                 System.out.println("The contact, " + toDelete.getFirstName() + " " + toDelete.getLastName() + ", has been deleted.");
                 return toDelete;
             } else {
@@ -93,12 +579,68 @@ public class AddressBook {
         return null;
     }
 
+    /**
+     * Deletes every contact matching a query entered by the user.
+     * 
+     * The query is compiled once and the matches are found in a single pass.
+     * After the user confirms the number of matches, each is removed by ID
+     * in constant time, and the indexes drop the whole batch at once, so the
+     * sorted prefix indexes are compacted in one pass rather than one per
+     * contact.
+     * 
+     * @param scanner a Scanner for user input
+     * @return the deleted contacts; empty if none were deleted
+     */
+    public List<Contact> deleteMatching(Scanner scanner) {
+        System.out.print("Enter query (e.g. last:smi* AND NOT state:TX): ");
+        ContactQuery query;
+        try {
+            query = ContactQuery.parse(scanner.nextLine());
+        } catch (IllegalArgumentException e) {
+            System.out.println("Invalid query: " + e.getMessage());
+            return new ArrayList<>();
+        }
+
+        List<Contact> matches = withContacts(all -> ContactSearcher.findMatches(all, query));
+        if (matches.isEmpty()) {
+            System.out.println("No matching contacts found.");
+            return matches;
+        }
+
+        System.out.print("Delete " + matches.size() + " matching contact(s)? (y/n): ");
+        String confirmation = scanner.nextLine().trim();
+        if (!confirmation.equalsIgnoreCase("y") && !confirmation.equalsIgnoreCase("yes")) {
+            System.out.println("Deletion cancelled.");
+            return new ArrayList<>();
+        }
+
+        List<Contact> deleted = new ArrayList<>(matches.size());
+        long stamp = lock.writeLock();
+        try {
+            for (Contact c : matches) {
+                if (getContactLocked(c.getId()) == c) { // Unless deleted or changed meanwhile
+                    detach(c.getId());
+                    deleted.add(c);
+                }
+            }
+            unindexContacts(deleted);
+            ContactChangeListener l = listener;
+            if (l != null && !deleted.isEmpty()) l.deleted(deleted);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        System.out.println(deleted.size() + " contact(s) deleted.");
+        return deleted;
+    }
+
     /**
      * Updates an existing contact based on user input.
      * 
      * Searches for a contact using user-selected criteria, then allows
-     * field-by-field update with confirmation. The method returns both
-     * the original and updated version for audit/logging purposes.
+     * field-by-field update with confirmation. The fields are edited on a
+     * copy, which then takes the original's place in the list and indexes
+     * under the same ID. The method returns both the original and updated
+     * version for audit/logging purposes.
      * 
      * @param scanner a Scanner for user input
      * @return a two-element array: [original, updated], or null if cancelled
@@ -110,13 +652,29 @@ public class AddressBook {
         System.out.print("Enter value to search from AddressBook update: ");
         String value = scanner.nextLine();
 
-        List<Contact> matches = ContactSearcher.findMatches(contacts, field, value);
+        ContactCursor matches = ContactSearcher.search(this, field, value);
         Contact toUpdate = ContactSearcher.selectFromList(matches, scanner);
 
         if (toUpdate != null) {
-            Contact oldCopy = new Contact(toUpdate); // Snapshot before change
-            ContactUpdater.updateFields(toUpdate, scanner); // Apply updates
-            return new Contact[] { oldCopy, toUpdate };
+            Contact edited = new Contact(toUpdate); // Same ID
+            ContactUpdater.updateFields(edited, scanner); // Prompts without holding the lock
+
+            long stamp = lock.writeLock();
+            try {
+                int position = positions.get(toUpdate.getId());
+                if (position == LongIntMap.MISSING || contacts.get(position) != toUpdate) {
+                    System.out.println("The contact was deleted or changed by someone else.");
+                    return null;
+                }
+                unindexContact(toUpdate);
+                contacts.set(position, edited);
+                indexContact(edited);
+                ContactChangeListener l = listener;
+                if (l != null) l.updated(toUpdate, edited);
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+            return new Contact[] { toUpdate, edited };
         }
 
         return null;
@@ -130,7 +688,87 @@ public class AddressBook {
      * @return a copy of the current list of contacts
      */
     public List<Contact> getFormattedContacts() {
-        return new ArrayList<>(contacts);
+        return getContacts();
+    }
+
+    /**
+     * Runs a read under the read lock. Index lookups walk hash tables and
+     * trees that a concurrent change may be rebuilding, so they are not
+     * attempted optimistically.
+     */
+    private <T> T read(Supplier<T> reader) {
+        long stamp = lock.readLock();
+        try {
+            return reader.get();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Runs a read under the read lock, first building an index under the
+     * write lock if it has not been built.
+     */
+    private <T> T readBuilding(Supplier<Boolean> built, Runnable build, Supplier<T> reader) {
+        long stamp = lock.readLock();
+        try {
+            if (!built.get()) {
+                long writeStamp = lock.tryConvertToWriteLock(stamp);
+                if (writeStamp == 0) {
+                    lock.unlockRead(stamp);
+                    writeStamp = lock.writeLock();
+                }
+                stamp = writeStamp;
+                if (!built.get()) build.run(); // Another thread may have built it meanwhile
+            }
+            return reader.get();
+        } finally {
+            lock.unlock(stamp);
+        }
+    }
+
+    /**
+     * Finds a contact by ID; the caller holds the lock.
+     */
+    private Contact getContactLocked(long id) {
+        int position = positions.get(id);
+        return position != LongIntMap.MISSING ? contacts.get(position) : null;
+    }
+
+    /**
+     * Gives IDs to the contacts that lack one or share one with an earlier
+     * contact, and maps every ID to its position.
+     */
+    private int assignIds() {
+        positions.clear();
+        nextId = 1;
+        for (Contact c : contacts) nextId = Math.max(nextId, c.getId() + 1);
+
+        int assigned = 0;
+        for (int i = 0; i < contacts.size(); i++) {
+            Contact c = contacts.get(i);
+            if (c.getId() <= 0 || positions.containsKey(c.getId())) {
+                c.setId(nextId++);
+                assigned++;
+            }
+            positions.put(c.getId(), i);
+        }
+        return assigned;
+    }
+
+    private void indexContact(Contact contact) {
+        searchCache.invalidate();
+        for (ContactIndex index : indexes) index.add(contact);
+    }
+
+    private void unindexContact(Contact contact) {
+        searchCache.invalidate();
+        for (ContactIndex index : indexes) index.remove(contact);
+    }
+
+    private void unindexContacts(List<Contact> removed) {
+        searchCache.invalidate();
+        for (ContactIndex index : indexes) index.removeAll(removed);
     }
 
     /**
@@ -149,7 +787,15 @@ public class AddressBook {
         System.out.println("3. Full name");
         System.out.println("4. Email");
         System.out.println("5. Phone");
-        System.out.print("Enter choice (1-5): ");
+        System.out.println("6. First name starts with");
+        System.out.println("7. Last name starts with");
+        System.out.println("8. Full name starts with");
+        System.out.println("9. Query (e.g. last:smi* AND state:TX)");
+        System.out.println("10. Name, allowing typos");
+        System.out.println("11. Name that sounds like");
+        System.out.println("12. ZIP code or range (e.g. 78200-78299)");
+        System.out.println("13. City and state, or state (e.g. San Antonio, Texas)");
+        System.out.print("Enter choice (1-13): ");
 
         String choice = scanner.nextLine().trim();
         switch (choice) {
@@ -158,6 +804,14 @@ public class AddressBook {
             case "3": return "full";
             case "4": return "email";
             case "5": return "phone";
+            case "6": return "first-prefix";
+            case "7": return "last-prefix";
+            case "8": return "full-prefix";
+            case "9": return "query";
+            case "10": return "fuzzy";
+            case "11": return "phonetic";
+            case "12": return "zip";
+            case "13": return "region";
             default:
                 System.out.println("Invalid selection.");
                 return null;
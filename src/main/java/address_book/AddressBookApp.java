@@ -62,9 +62,15 @@ public class AddressBookApp {
                     controller.display(); // Show all contacts
                     break;
                 case "5":
-                    controller.save();   // Save contacts before exiting
+                    controller.close();  // Wait for pending saves before exiting
                     System.out.println("Goodbye!");
                     return;
+                case "6":
+                    controller.deleteMatching(); // Delete every contact matching a query
+                    break;
+                case "7":
+                    controller.findDuplicates(); // List probable duplicate contacts
+                    break;
                 default:
                     System.out.println("Invalid choice."); // Invalid input fallback
             }
@@ -81,6 +87,8 @@ public class AddressBookApp {
         System.out.println("3. Update Contact");
         System.out.println("4. Display Contacts");
         System.out.println("5. Exit");
+        System.out.println("6. Delete Contacts Matching a Query");
+        System.out.println("7. Find Duplicate Contacts");
         System.out.print("Enter choice: ");
     }
 }
@@ -13,8 +13,14 @@ package address_book;
 
 import java.util.List;
 import java.util.Scanner;
+import java.util.function.BiConsumer;
 
+import address_utils.dedupe.DuplicateFinder;
+import address_utils.formatter.ContactFormatter;
 import address_utils.storage.AddressBookStorage;
+import address_utils.storage.PendingSave;
+import address_utils.storage.SaveScheduler;
+import utilities.ConfigUtil;
 
 /**
  * Handles user-driven operations such as adding, deleting, updating, and displaying contacts.
@@ -24,6 +30,16 @@ import address_utils.storage.AddressBookStorage;
  * - {@link AddressBookStorage} for persistent storage
  * - {@link ContactInputHandler} for collecting validated user input
  * 
+ * Each change is journaled rather than saved. A full save, which folds the
+ * journal into the files on disk, is requested only once the journal needs
+ * compaction, after a load that replayed it, and on flush or exit. Full
+ * saves are coalesced by a {@link SaveScheduler} and written on a
+ * background thread. The journal is written by a listener the address
+ * book calls under its write lock, and a save seals the journal and
+ * captures the contacts under the book's read lock, so a save sees every
+ * change together with its journal record or neither. No lock is held
+ * while the user is prompted, so a save never waits for the user.
+ * 
  * It is designed for use in CLI-based applications and is managed by {@link AddressBookApp}.
  * 
  * @author James Stevens
@@ -36,6 +52,32 @@ public class AddressBookController {
     private final AddressBook addressBook = new AddressBook();
     private final AddressBookStorage storage = new AddressBookStorage();
     private final ContactInputHandler inputHandler = new ContactInputHandler();
+    private final SaveScheduler saveScheduler = new SaveScheduler(
+        this::writeContacts,
+        ConfigUtil.getLong("addressbook.save.window.ms", 5000),
+        ConfigUtil.getInt("addressbook.save.max.mutations", 1000));
+
+    /**
+     * Creates a controller whose address book journals every change to storage.
+     */
+    public AddressBookController() {
+        addressBook.setChangeListener(new ContactChangeListener() {
+            @Override
+            public void added(Contact contact) {
+                storage.recordAdd(contact);
+            }
+
+            @Override
+            public void deleted(List<Contact> contacts) {
+                storage.recordDeletes(contacts);
+            }
+
+            @Override
+            public void updated(Contact before, Contact after) {
+                storage.recordUpdate(before, after);
+            }
+        });
+    }
 
     /**
      * Provides access to the input scanner.
@@ -48,71 +90,203 @@ public class AddressBookController {
 
     /**
      * Loads contact data from persistent storage into memory.
+     * 
+     * A save is requested if the journal was replayed or any contact was
+     * given a new ID, so the files on disk catch up.
      */
     public void load() {
-        addressBook.setContacts(storage.load());
+        int assigned = addressBook.setContacts(storage.load());
+        if (assigned > 0) storage.recordAssignedIds();
+        if (storage.hasUnsavedChanges() || assigned > 0) {
+            save(); // Fold the replayed journal and new IDs into the files on disk
+        }
     }
 
     /**
-     * Saves current in-memory contact list to disk.
+     * Requests that the in-memory contact list be saved to disk.
+     * 
+     * The address book is marked dirty and the save is coalesced with others
+     * made within the configured window
+     * ({@code addressbook.save.window.ms}, default 5000) or mutation count
+     * ({@code addressbook.save.max.mutations}, default 1000), then runs in
+     * the background. Use {@link #flush()} to wait for it.
      */
     public void save() {
-        storage.save(addressBook.getContacts());  
+        saveScheduler.markDirty();
+    }
+
+    /**
+     * Saves any pending changes, including journaled ones, now and waits
+     * until they are on disk.
+     */
+    public void flush() {
+        if (storage.hasUnsavedChanges()) save();
+        saveScheduler.flush();
+    }
+
+    /**
+     * Flushes pending changes and stops the background save thread.
+     * Called when the application exits.
+     */
+    public void close() {
+        if (storage.hasUnsavedChanges()) save();
+        saveScheduler.close();
+    }
+
+    /**
+     * Requests a save once the journal has grown past the compaction
+     * threshold. Smaller journals stay on disk and are replayed on load.
+     */
+    private void compactIfNeeded() {
+        if (storage.needsCompaction()) save();
+    }
+
+    /**
+     * Performs one full save on the save thread. The contacts are captured
+     * under the address book's read lock; the slow write happens outside it.
+     */
+    private void writeContacts() {
+        PendingSave pending = addressBook.withContacts(storage::beginSave);
+        storage.completeSave(pending);
     }
 
     /**
      * Prompts the user to enter new contact information and adds it to the address book.
-     * Data is then saved to persistent storage.
+     * The addition is then journaled, and a save is requested if the journal needs compaction.
      */
     public void add() {
         Contact contact = inputHandler.promptContactDetails(scanner);
         addressBook.addContact(contact);
-        save();
+        compactIfNeeded();
     }
 
     /**
      * Prompts the user to select a contact to delete.
-     * If deletion is confirmed and successful, data is saved.
+     * If deletion is confirmed and successful, the deletion is journaled,
+     * and a save is requested if the journal needs compaction.
      */
     public void delete() {
         Contact deleted = addressBook.deleteContact(scanner);
         if (deleted != null) {
-            save();
+            compactIfNeeded();
         } else {
             System.out.println("No contact selected.");
         }
     }
 
+    /**
+     * Prompts the user for a query and deletes every matching contact.
+     * The deletions are journaled in one write, and a save is requested if the journal needs compaction.
+     */
+    public void deleteMatching() {
+        List<Contact> deleted = addressBook.deleteMatching(scanner);
+        if (!deleted.isEmpty()) {
+            compactIfNeeded();
+        }
+    }
+
     /**
      * Prompts the user to search and update a contact.
-     * If the update is completed, changes are saved.
+     * If the update is completed, changes are journaled, and a save is
+     * requested if the journal needs compaction.
      */
     public void update() {
-        Contact[] result = addressBook.updateContact(scanner);  
+        Contact[] result = addressBook.updateContact(scanner);
         if (result != null) {
-            save();
+            compactIfNeeded();
         } else {
             System.out.println("No contact selected.");
         }
     }
 
     /**
-     * Displays all formatted contacts to the console.
+     * Displays all formatted contacts to the console, a page at a time.
      * If no contacts exist, displays a corresponding message.
+     * 
+     * A book larger than one page ({@code addressbook.page.size}, default 20)
+     * is shown with next and previous navigation; only the contacts on the
+     * page shown are formatted. The pages read a snapshot taken when the
+     * display starts, so the lock is not held while the user browses.
      */
     public void display() {
         List<Contact> contactList = addressBook.getFormattedContacts();
 
         if (contactList.isEmpty()) {
             System.out.println("Address book is empty.");
-        } else {
-            System.out.println("\n---------- Address Book Contacts ----------\n");
-            for (Contact c : contactList) {
+            return;
+        }
+
+        System.out.println("\n---------- Address Book Contacts ----------\n");
+        browse(contactList.size(), "contacts", (from, to) -> {
+            for (Contact c : contactList.subList(from, to)) {
                 System.out.println("------------------------------------------");
                 System.out.println(c);
                 System.out.println("------------------------------------------");
             }
+        });
+    }
+
+    /**
+     * Finds clusters of contacts that probably describe the same person and
+     * lists them a page at a time.
+     * 
+     * The search runs on a snapshot, outside the lock, so saves and other
+     * operations are not held up while it runs. Nothing is changed; the
+     * clusters are candidates for the user to review.
+     */
+    public void findDuplicates() {
+        List<Contact> contactList = addressBook.getFormattedContacts();
+
+        List<List<Contact>> clusters = new DuplicateFinder().findClusters(contactList);
+        if (clusters.isEmpty()) {
+            System.out.println("No duplicate contacts found.");
+            return;
         }
+
+        System.out.println("\n---------- Possible Duplicates ----------\n");
+        browse(clusters.size(), "groups", (from, to) -> {
+            for (int i = from; i < to; i++) {
+                System.out.println("Group " + (i + 1) + ":");
+                for (Contact c : clusters.get(i)) {
+                    System.out.println("  " + ContactFormatter.formatCompact(c) + ", " + c.getPhone() + ", " + c.getEmail()
+                        + ", " + c.getCity() + ", " + c.getState() + " " + c.getZipCode());
+                }
+            }
+        });
     }
-}
 
+    /**
+     * Shows items a page at a time, with next and previous navigation when
+     * there is more than one page.
+     *
+     * @param count    the number of items
+     * @param noun     what the items are called, for the page summary
+     * @param showPage prints the items from the first index, inclusive, to the second, exclusive
+     */
+    private void browse(int count, String noun, BiConsumer<Integer, Integer> showPage) {
+        int pageSize = ContactSearcher.PAGE_SIZE;
+        int pages = (count + pageSize - 1) / pageSize;
+        int page = 0;
+        while (true) {
+            int from = page * pageSize;
+            showPage.accept(from, Math.min(from + pageSize, count));
+            if (pages == 1) return;
+
+            System.out.println("Page " + (page + 1) + " of " + pages + " (" + count + " " + noun + ")");
+            while (true) {
+                System.out.print("n for next page, p for previous page, Enter to return: ");
+                String input = scanner.nextLine().trim();
+                if (input.isEmpty()) return;
+                if (input.equalsIgnoreCase("n") && page + 1 < pages) {
+                    page++;
+                    break;
+                }
+                if (input.equalsIgnoreCase("p") && page > 0) {
+                    page--;
+                    break;
+                }
+                System.out.println("Invalid choice. Try again.");
+            }
+        }
+    }
+}
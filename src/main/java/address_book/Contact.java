@@ -19,12 +19,24 @@ package address_book;
  * 
  * Supports standard getter/setter access and can be cloned via the copy constructor.
  * 
+ * Each contact in an address book has a stable numeric ID, assigned by the
+ * {@link AddressBook} when it is added and saved with it. A contact that
+ * has not been added yet has ID 0.
+ * 
+ * Lower-cased forms of the searchable fields (names, phone, and email) are
+ * computed on first use and kept until the field is set again, so repeated
+ * case-insensitive searches do not allocate a new String per contact.
+ * Fields that are already lower case share the original String.
+ * 
  * @author James Stevens
  * @version 1.0
  * @since 2025-07-01
  */
 public class Contact {
 
+	// Stable identifier; 0 until assigned by an address book
+	private long id;
+
 	// Fields for contact details
 	private String firstName;
 	private String lastName;
@@ -35,6 +47,15 @@ public class Contact {
 	private String phone;
 	private String email;
 
+	// Lower-cased forms of the searchable fields; null until first used or
+	// after the underlying field is set. Strings are immutable, so a racing
+	// reader at worst computes the same value twice.
+	private String foldedFirstName;
+	private String foldedLastName;
+	private String foldedFullName;
+	private String foldedPhone;
+	private String foldedEmail;
+
 	/**
 	 * Constructs a contact with all fields initialized.
 	 *
@@ -65,6 +86,7 @@ public class Contact {
 	 * @param other the contact to duplicate
 	 */
 	public Contact(Contact other) {
+		this.id = other.id;
 		this.firstName = other.firstName;
 		this.lastName = other.lastName;
 		this.street = other.street;
@@ -73,15 +95,30 @@ public class Contact {
 		this.zipCode = other.zipCode;
 		this.phone = other.phone;
 		this.email = other.email;
+		this.foldedFirstName = other.foldedFirstName;
+		this.foldedLastName = other.foldedLastName;
+		this.foldedFullName = other.foldedFullName;
+		this.foldedPhone = other.foldedPhone;
+		this.foldedEmail = other.foldedEmail;
 	}
 
 	// Getters and setters
+	public long getId() {
+		return id;
+	}
+
+	public void setId(long id) {
+		this.id = id;
+	}
+
 	public String getFirstName() {
 		return firstName;
 	}
 
 	public void setFirstName(String firstName) {
 		this.firstName = firstName;
+		this.foldedFirstName = null;
+		this.foldedFullName = null;
 	}
 
 	public String getLastName() {
@@ -90,6 +127,8 @@ public class Contact {
 
 	public void setLastName(String lastName) {
 		this.lastName = lastName;
+		this.foldedLastName = null;
+		this.foldedFullName = null;
 	}
 
 	public String getStreet() {
@@ -130,6 +169,7 @@ public class Contact {
 
 	public void setPhone(String phone) {
 		this.phone = phone;
+		this.foldedPhone = null;
 	}
 
 	public String getEmail() {
@@ -138,6 +178,47 @@ public class Contact {
 
 	public void setEmail(String email) {
 		this.email = email;
+		this.foldedEmail = null;
+	}
+
+	// Lower-cased forms for case-insensitive search
+	public String getFoldedFirstName() {
+		String folded = foldedFirstName;
+		if (folded == null) foldedFirstName = folded = fold(firstName);
+		return folded;
+	}
+
+	public String getFoldedLastName() {
+		String folded = foldedLastName;
+		if (folded == null) foldedLastName = folded = fold(lastName);
+		return folded;
+	}
+
+	/**
+	 * Returns the lower-cased first and last name separated by a space.
+	 *
+	 * @return the folded full name
+	 */
+	public String getFoldedFullName() {
+		String folded = foldedFullName;
+		if (folded == null) foldedFullName = folded = fold(firstName + " " + lastName);
+		return folded;
+	}
+
+	public String getFoldedPhone() {
+		String folded = foldedPhone;
+		if (folded == null) foldedPhone = folded = fold(phone);
+		return folded;
+	}
+
+	public String getFoldedEmail() {
+		String folded = foldedEmail;
+		if (folded == null) foldedEmail = folded = fold(email);
+		return folded;
+	}
+
+	private static String fold(String value) {
+		return value != null ? value.toLowerCase() : "";
 	}
 
 	/**
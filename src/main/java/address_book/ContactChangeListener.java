@@ -0,0 +1,50 @@
+/*
+ * Author: James Stevens
+ * Date: 01 July 2025
+ * Course: SWEN 656 - Advanced Software Design and Implementation
+ *
+ * Copyright (c) 2025 James Stevens
+ * This file is part of the Address Book project and may not be used, copied,
+ * modified, or distributed without permission.
+ */
+
+package address_book;
+
+import java.util.List;
+
+/**
+ * Receives each change made to an {@link AddressBook}.
+ *
+ * The address book calls the listener while it still holds its write lock,
+ * so a reader of the book, such as a save capturing the contacts, sees a
+ * change together with whatever the listener did for it, or neither.
+ * Listeners should therefore be quick and must not call back into the book.
+ *
+ * @author James Stevens
+ * @version 1.0
+ * @since 2025-07-01
+ */
+public interface ContactChangeListener {
+
+    /**
+     * Called after a contact is added.
+     *
+     * @param contact the added contact, with its ID
+     */
+    void added(Contact contact);
+
+    /**
+     * Called after one or more contacts are deleted.
+     *
+     * @param contacts the deleted contacts
+     */
+    void deleted(List<Contact> contacts);
+
+    /**
+     * Called after a contact is replaced by an updated copy.
+     *
+     * @param before the contact as it was
+     * @param after  the contact that took its place
+     */
+    void updated(Contact before, Contact after);
+}
@@ -0,0 +1,154 @@
+/*
+ * Author: James Stevens
+ * Date: 01 July 2025
+ * Course: SWEN 656 - Advanced Software Design and Implementation
+ *
+ * Copyright (c) 2025 James Stevens
+ * This file is part of the Address Book project and may not be used, copied,
+ * modified, or distributed without permission.
+ */
+
+package address_book;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Lazily evaluated, pageable view of search results.
+ *
+ * A cursor over a list and a predicate tests contacts only as far as the
+ * pages requested so far require, so showing the first page of a broad
+ * search on a large book stops at the first few matches. Each match found
+ * is remembered, so going back to an earlier page reads those matches
+ * again rather than repeating the search.
+ *
+ * A cursor over a list reads the list it was created over; it is valid
+ * until that list changes. A cursor over an {@link AddressBook} reads the
+ * book's live list in chunks, holding the book's read lock for each chunk
+ * only, so the list is never copied. A contact moved by a deletion made
+ * between chunks (the last contact takes the deleted one's place) may be
+ * missed if the scan has already passed its new place.
+ *
+ * @author James Stevens
+ * @version 1.0
+ * @since 2025-07-01
+ */
+public class ContactCursor {
+
+    /**
+     * Tests contacts from a position onward, adding matches until
+     * {@code wanted} are known; returns the position to continue from,
+     * or -1 once every contact has been tested.
+     */
+    private interface Source {
+        int scan(int from, int wanted, List<Contact> matches);
+    }
+
+    // Every contact of the list, when all of them match
+    private final List<Contact> all;
+    private final Source source;
+
+    // Matches found so far, and the position the next scan starts from
+    private final List<Contact> matches = new ArrayList<>();
+    private int next;
+
+    private ContactCursor(List<Contact> all, Source source) {
+        this.all = all;
+        this.source = source;
+    }
+
+    /**
+     * Creates a cursor over every contact of a list, such as results an
+     * index has already found.
+     *
+     * @param contacts the contacts, in the order they should be paged
+     * @return the cursor
+     */
+    public static ContactCursor of(List<Contact> contacts) {
+        return new ContactCursor(contacts, null);
+    }
+
+    /**
+     * Creates a cursor over the contacts of a list accepted by a predicate.
+     *
+     * @param contacts  the contacts to search
+     * @param predicate the test a contact must pass
+     * @return the cursor; nothing is tested until a page is read
+     */
+    public static ContactCursor filtering(List<Contact> contacts, Predicate<? super Contact> predicate) {
+        return new ContactCursor(null, (from, wanted, matches) -> {
+            int i = from;
+            for (; i < contacts.size() && matches.size() < wanted; i++) {
+                Contact c = contacts.get(i);
+                if (predicate.test(c)) matches.add(c);
+            }
+            return i < contacts.size() ? i : -1;
+        });
+    }
+
+    /**
+     * Creates a cursor over the contacts of an address book accepted by a
+     * predicate, reading the book's live list a chunk at a time.
+     *
+     * @param book      the address book to search
+     * @param predicate the test a contact must pass
+     * @return the cursor; nothing is tested until a page is read
+     */
+    public static ContactCursor filtering(AddressBook book, Predicate<? super Contact> predicate) {
+        return new ContactCursor(null, (from, wanted, matches) -> book.scan(from, predicate, matches, wanted));
+    }
+
+    /**
+     * Returns one page of matches, testing only as many contacts as needed
+     * to fill it.
+     *
+     * @param offset the number of matches to skip
+     * @param limit  the most matches to return
+     * @return the matches on the page; shorter than {@code limit}, or empty,
+     *         past the last match
+     */
+    public List<Contact> page(int offset, int limit) {
+        int end = advanceTo(offset + limit);
+        List<Contact> page = new ArrayList<>(Math.max(0, end - offset));
+        for (int i = offset; i < end; i++) page.add(get(i));
+        return page;
+    }
+
+    /**
+     * Indicates whether there are more than {@code count} matches, finding
+     * at most one more match to decide.
+     *
+     * @param count the number of matches already seen
+     * @return true if a match follows the first {@code count}
+     */
+    public boolean hasMoreThan(int count) {
+        return advanceTo(count + 1) > count;
+    }
+
+    /**
+     * Finds every remaining match.
+     *
+     * @return all matches, in list order
+     */
+    public List<Contact> toList() {
+        return page(0, Integer.MAX_VALUE - 1);
+    }
+
+    /**
+     * Finds matches until {@code wanted} are known or the list ends.
+     *
+     * @return the number of matches known, at most {@code wanted}
+     */
+    private int advanceTo(int wanted) {
+        if (all != null) return Math.min(wanted, all.size());
+        while (matches.size() < wanted && next >= 0) {
+            next = source.scan(next, wanted, matches);
+        }
+        return Math.min(wanted, matches.size());
+    }
+
+    private Contact get(int index) {
+        return all != null ? all.get(index) : matches.get(index);
+    }
+}
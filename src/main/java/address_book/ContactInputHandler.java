@@ -13,6 +13,8 @@ package address_book;
 
 import java.util.Scanner;
 
+import utilities.StringPool;
+
 /**
  * Handles user input for creating or updating a contact.
  * 
@@ -45,7 +47,9 @@ public class ContactInputHandler {
         String phone = promptUntilValid(scanner, "Enter the phone number (e.g. 2105551212): ", "phone number", FieldValidator::isValidPhoneNumberFormatted);
         String email = promptUntilValid(scanner, "Enter the email address: ", "email", FieldValidator::isValidEmail);
 
-        return new Contact(firstName, lastName, street, city, state, zipCode, phone, email);
+        // Share the repeated fields with loaded contacts
+        return new Contact(firstName, lastName, street, StringPool.cities().canonical(city),
+                           StringPool.states().canonical(state), StringPool.zipCodes().canonical(zipCode), phone, email);
     }
 
     /**
@@ -11,56 +11,424 @@
 
 package address_book;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.RandomAccess;
 import java.util.Scanner;
-import java.util.stream.Collectors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import address_utils.formatter.ContactFormatter;
+import address_utils.formatter.ContactNormalizer;
+import address_utils.query.ContactQuery;
+import utilities.ConfigUtil;
 
 /**
  * Provides search functionality within a list of contacts.
  * 
  * Supports searching by first name, last name, full name, email, or phone number,
- * and allows users to select a contact from a list of matching results.
+ * by the start of a name, or by a multi-field {@link ContactQuery}, and allows
+ * users to select a contact from a list of matching results.
  * 
  * Used during update and delete operations to locate a specific contact.
  * 
+ * Linear searches over books of at least
+ * {@code addressbook.search.parallel.threshold} contacts (default 100000)
+ * are split into chunks and run on the common fork-join pool; the results
+ * come back in list order, as they would from a single thread.
+ * 
  * @author James Stevens
  * @version 1.0
  * @since 2025-07-01
  */
 public class ContactSearcher {
 
+    // Digits in a complete phone number
+    private static final int PHONE_DIGITS = 10;
+
+    // Shortest term the trigram index can answer
+    private static final int MIN_INDEXED_TERM = 3;
+
+    // Suffix of the fields that match the start of a name
+    private static final String PREFIX_MODE = "-prefix";
+
+    // Most results a prefix search returns
+    public static final int MAX_PREFIX_MATCHES = 20;
+
+    // Field whose value is a query in the ContactQuery language
+    private static final String QUERY_FIELD = "query";
+
+    // Field whose value is a name that may contain typos
+    private static final String FUZZY_FIELD = "fuzzy";
+
+    // Most results a fuzzy search returns
+    public static final int MAX_FUZZY_MATCHES = 20;
+
+    // Field whose value is a name to match by sound
+    private static final String PHONETIC_FIELD = "phonetic";
+
+    // Field whose value is a ZIP code or range of ZIP codes
+    private static final String ZIP_FIELD = "zip";
+
+    // A ZIP or ZIP+4 code, not part of a longer run of digits
+    private static final Pattern ZIP_CODE = Pattern.compile("(?<!\\d)\\d{5}(?:-?\\d{4})?(?!\\d)");
+
+    // Field whose value is "city, state" or a state
+    private static final String REGION_FIELD = "region";
+
+    // Smallest list searched in parallel
+    private static final int PARALLEL_THRESHOLD =
+        ConfigUtil.getInt("addressbook.search.parallel.threshold", 100_000);
+
+    // Contacts listed at a time
+    public static final int PAGE_SIZE = Math.max(1, ConfigUtil.getInt("addressbook.page.size", 20));
+
+    // Chunks per worker thread, so uneven chunks still balance across workers
+    private static final int CHUNKS_PER_THREAD = 4;
+    private static final int MIN_CHUNK_SIZE = 8192;
+
+    /**
+     * Finds contacts in an address book that match a search term.
+     * 
+     * A complete email address or phone number is looked up exactly in the
+     * address book's hash index, in constant time. Other terms of at least
+     * {@value #MIN_INDEXED_TERM} characters are narrowed to candidates by the
+     * address book's trigram index, and only those are checked. Shorter terms
+     * fall back to the partial, case-insensitive scan of
+     * {@link #findMatches(List, String, String)}.
+     * 
+     * The prefix fields ("first-prefix", "last-prefix", "full-prefix") match
+     * names that start with the value, and return the first
+     * {@value #MAX_PREFIX_MATCHES} in alphabetical order. The "fuzzy" field
+     * matches names with one typo, or two for values longer than four
+     * characters, and returns the {@value #MAX_FUZZY_MATCHES} closest. The
+     * "phonetic" field matches names that sound like the value. The "zip"
+     * field takes a ZIP code or a range such as "78200-78299", and the
+     * "region" field a city and state such as "San Antonio, Texas" or a
+     * state alone; both are answered from sorted or hash indexes.
+     * 
+     * Results are answered from the address book's {@link SearchCache} when
+     * the same search has run since the book last changed.
+     *
+     * @param book  the address book to search
+     * @param field the field to search by: "first", "last", "full", "email", "phone",
+     *              a prefix field, "query", "fuzzy", "phonetic", "zip", or "region"
+     * @param value the value to search for (case-insensitive)
+     * @return list of matching contacts (can be empty if no match is found)
+     */
+    public static List<Contact> findMatches(AddressBook book, String field, String value) {
+        SearchCache cache = book.getSearchCache();
+        long generation = cache.getGeneration();
+        List<Contact> matches = cache.get(field, value);
+        if (matches == null) {
+            matches = findIndexed(book, field, value);
+            if (matches == null) {
+                matches = book.withContacts(contacts -> findMatches(contacts, field, value)); // Scanned in place
+            }
+            cache.put(field, value, matches, generation);
+        }
+        return matches;
+    }
+
+    /**
+     * Searches an address book as {@link #findMatches(AddressBook, String, String)}
+     * does, but returns a cursor that finds only the matches on the pages read.
+     * 
+     * Searches answered by an index, which are already cheap, are found in
+     * full and cached. Searches that would scan the whole book instead
+     * test contacts only until the requested page is filled, reading the
+     * book's list in place a chunk at a time rather than copying it.
+     *
+     * @param book  the address book to search
+     * @param field the field to search by, as for {@link #findMatches(AddressBook, String, String)}
+     * @param value the value to search for (case-insensitive)
+     * @return a cursor over the matches; empty if the query is invalid
+     */
+    public static ContactCursor search(AddressBook book, String field, String value) {
+        SearchCache cache = book.getSearchCache();
+        long generation = cache.getGeneration();
+        List<Contact> matches = cache.get(field, value);
+        if (matches == null) {
+            matches = findIndexed(book, field, value);
+            if (matches == null) {
+                Predicate<Contact> matcher = scanMatcherFor(field, value);
+                return matcher != null
+                    ? ContactCursor.filtering(book, matcher)
+                    : ContactCursor.of(new ArrayList<>());
+            }
+            cache.put(field, value, matches, generation);
+        }
+        return ContactCursor.of(matches);
+    }
+
+    /**
+     * Answers a search from the address book's indexes.
+     *
+     * @return the matches, or null if the search needs a scan
+     */
+    private static List<Contact> findIndexed(AddressBook book, String field, String value) {
+        if (isPrefixField(field)) {
+            return findByPrefix(book, baseField(field), value, MAX_PREFIX_MATCHES);
+        }
+        if (field.equalsIgnoreCase(FUZZY_FIELD)) {
+            return findFuzzy(book, value, fuzzyDistanceFor(value), MAX_FUZZY_MATCHES);
+        }
+        if (field.equalsIgnoreCase(PHONETIC_FIELD)) {
+            return findSoundingLike(book, value);
+        }
+        if (field.equalsIgnoreCase(ZIP_FIELD)) {
+            return findByZip(book, value);
+        }
+        if (field.equalsIgnoreCase(REGION_FIELD)) {
+            return book.findByRegion(value);
+        }
+
+        switch (field.toLowerCase()) {
+            case "email":
+                if (isCompleteEmail(value)) return book.findByEmail(value);
+                break;
+            case "phone":
+                if (ContactNormalizer.phoneKey(value).length() == PHONE_DIGITS) return book.findByPhone(value);
+                break;
+            default:
+                break;
+        }
+
+        String searchTerm = value.toLowerCase();
+        if (searchTerm.length() >= MIN_INDEXED_TERM) {
+            List<Contact> candidates = book.findSubstringCandidates(field, searchTerm);
+            if (candidates != null) {
+                Predicate<Contact> matcher = matcherFor(field, searchTerm);
+                candidates.removeIf(matcher.negate());
+                return candidates;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Finds contacts whose name starts with a prefix, ignoring case.
+     * 
+     * Reads only the matches from the address book's sorted prefix index,
+     * so latency does not grow with the size of the book.
+     *
+     * @param book   the address book to search
+     * @param field  the name to match: "first", "last", or "full"
+     * @param prefix the start of the name
+     * @param limit  the most contacts to return
+     * @return up to {@code limit} matching contacts in alphabetical order
+     */
+    public static List<Contact> findByPrefix(AddressBook book, String field, String prefix, int limit) {
+        List<Contact> matches = book.findByPrefix(field, prefix, limit);
+        return matches != null ? matches : new ArrayList<>();
+    }
+
+    /**
+     * Finds contacts whose name is within a few edits of the given name,
+     * ranked by edit distance.
+     * 
+     * One word is compared with both first and last names; two words are
+     * compared as a first and last name, with their edits added together.
+     * The comparison walks trie indexes over the distinct names, so the
+     * contacts themselves are never scanned.
+     *
+     * @param book        the address book to search
+     * @param name        the name as typed
+     * @param maxDistance the most insertions, deletions, and substitutions allowed
+     * @param limit       the most contacts to return
+     * @return up to {@code limit} contacts, closest first
+     */
+    public static List<Contact> findFuzzy(AddressBook book, String name, int maxDistance, int limit) {
+        return book.findFuzzy(name, maxDistance, limit);
+    }
+
+    /**
+     * Finds contacts whose name sounds like the given name, using the
+     * address book's Double Metaphone indexes.
+     * 
+     * One word is compared with both first and last names; two words are
+     * compared as a first and last name. Each lookup is a hash probe.
+     *
+     * @param book the address book to search
+     * @param name the name as heard, such as "Kathryn Smyth"
+     * @return the contacts whose name sounds alike
+     */
+    public static List<Contact> findSoundingLike(AddressBook book, String name) {
+        return book.findSoundingLike(name);
+    }
+
+    /**
+     * Finds contacts by a ZIP code or an inclusive range of ZIP codes.
+     * 
+     * The range is two codes separated by a hyphen, "..", "to", or spaces,
+     * such as "78200-78299"; a single five-digit ZIP matches all of its
+     * ZIP+4 codes. Answered from the address book's sorted ZIP index.
+     *
+     * @param book  the address book to search
+     * @param value a ZIP code or range of ZIP codes
+     * @return the matching contacts in ZIP code order; empty if none, or if
+     *         the value is not a ZIP code or range
+     */
+    public static List<Contact> findByZip(AddressBook book, String value) {
+        Matcher zip = ZIP_CODE.matcher(value);
+        List<String> codes = new ArrayList<>(2);
+        while (zip.find()) codes.add(zip.group());
+        if (codes.isEmpty() || codes.size() > 2) {
+            System.out.println("Invalid ZIP code or range: " + value);
+            return new ArrayList<>();
+        }
+        return book.findByZipRange(codes.get(0), codes.get(codes.size() - 1));
+    }
+
+    /**
+     * Allows one typo in short names and two in longer ones.
+     */
+    private static int fuzzyDistanceFor(String value) {
+        return value.trim().length() <= 4 ? 1 : 2;
+    }
+
+    private static boolean isPrefixField(String field) {
+        return field.toLowerCase().endsWith(PREFIX_MODE);
+    }
+
+    private static String baseField(String field) {
+        return field.substring(0, field.length() - PREFIX_MODE.length());
+    }
+
+    /**
+     * Checks whether a search term has the shape of a whole email address:
+     * a local part, "@", and a domain containing a dot.
+     * Not routed through {@link FieldValidator}, whose failures are logged.
+     */
+    private static boolean isCompleteEmail(String value) {
+        String term = value.trim();
+        int at = term.indexOf('@');
+        int dot = term.lastIndexOf('.');
+        return at > 0 && at == term.lastIndexOf('@') && dot > at + 1 && dot < term.length() - 1
+            && term.indexOf(' ') < 0;
+    }
+
     /**
      * Finds contacts that match a given search term for a specified field.
      * 
      * Case-insensitive and supports partial matching.
      *
      * @param contacts the list of contacts to search within
-     * @param field the field to search by: "first", "last", "full", "email", or "phone"
+     * @param field the field to search by: "first", "last", "full", "email", "phone",
+     *              a prefix field, or "query" for a {@link ContactQuery}
      * @param value the value to search for (case-insensitive)
-     * @return list of matching contacts (can be empty if no match is found)
+     * @return list of matching contacts (can be empty if no match is found,
+     *         or if the query is invalid)
      */
     public static List<Contact> findMatches(List<Contact> contacts, String field, String value) {
-        String searchTerm = value.toLowerCase();
+        Predicate<Contact> matcher = scanMatcherFor(field, value);
+        return matcher != null ? filter(contacts, matcher) : new ArrayList<>();
+    }
 
-        return contacts.stream().filter(c -> {
-            switch (field.toLowerCase()) {
-                case "first":
-                    return c.getFirstName().toLowerCase().contains(searchTerm);
-                case "last":
-                    return c.getLastName().toLowerCase().contains(searchTerm);
-                case "full":
-                case "name":
-                    String fullName = (c.getFirstName() + " " + c.getLastName()).toLowerCase();
-                    return fullName.contains(searchTerm);
-                case "email":
-                    return c.getEmail().toLowerCase().contains(searchTerm);
-                case "phone":
-                    return c.getPhone().toLowerCase().contains(searchTerm);
-                default:
-                    return false;
+    /**
+     * Builds the test a scan applies, compiling a query for the "query" field.
+     *
+     * @return the test, or null if the field is unknown or the query is invalid
+     */
+    private static Predicate<Contact> scanMatcherFor(String field, String value) {
+        if (field.equalsIgnoreCase(QUERY_FIELD)) {
+            try {
+                return ContactQuery.parse(value);
+            } catch (IllegalArgumentException e) {
+                System.out.println("Invalid query: " + e.getMessage());
+                return null;
             }
-        }).collect(Collectors.toList());
+        }
+        return matcherFor(field, value.toLowerCase());
+    }
+
+    /**
+     * Finds contacts that match a compiled query, in a single pass.
+     * Large lists are searched in parallel, as by {@link #filter(List, Predicate)}.
+     *
+     * @param contacts the list of contacts to search within
+     * @param query    the compiled query
+     * @return list of matching contacts (can be empty if no match is found)
+     */
+    public static List<Contact> findMatches(List<Contact> contacts, ContactQuery query) {
+        return filter(contacts, query);
+    }
+
+    /**
+     * Selects the contacts accepted by a predicate, in list order.
+     * 
+     * Lists of at least {@code addressbook.search.parallel.threshold}
+     * contacts are searched in parallel on the common fork-join pool.
+     *
+     * @param contacts  the list of contacts to search within
+     * @param predicate the test to apply; must be safe to call from several threads
+     * @return the accepted contacts, in list order
+     */
+    public static List<Contact> filter(List<Contact> contacts, Predicate<? super Contact> predicate) {
+        return filter(contacts, predicate, ForkJoinPool.commonPool(), PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Selects the contacts accepted by a predicate, in list order, searching
+     * in parallel on the given pool once the list reaches {@code threshold}.
+     *
+     * @param contacts  the list of contacts to search within
+     * @param predicate the test to apply; must be safe to call from several threads
+     * @param pool      the pool that searches the chunks
+     * @param threshold the smallest list searched in parallel
+     * @return the accepted contacts, in list order
+     */
+    public static List<Contact> filter(List<Contact> contacts, Predicate<? super Contact> predicate,
+                                       ForkJoinPool pool, int threshold) {
+        int size = contacts.size();
+        if (size < threshold || pool.getParallelism() < 2 || !(contacts instanceof RandomAccess)) {
+            return filterRange(contacts, predicate, 0, size);
+        }
+        int chunkSize = Math.max(MIN_CHUNK_SIZE, size / (pool.getParallelism() * CHUNKS_PER_THREAD));
+        return pool.invoke(new FilterTask(contacts, predicate, 0, size, chunkSize));
+    }
+
+    private static List<Contact> filterRange(List<Contact> contacts, Predicate<? super Contact> predicate,
+                                             int from, int to) {
+        List<Contact> matches = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            Contact c = contacts.get(i);
+            if (predicate.test(c)) matches.add(c);
+        }
+        return matches;
+    }
+
+    /**
+     * Builds the test for one field, resolving the field once rather than
+     * for every contact. Compares against the contact's cached lower-cased
+     * fields, so no String is allocated per contact.
+     *
+     * @return the test, or null if the field is unknown
+     */
+    private static Predicate<Contact> matcherFor(String field, String searchTerm) {
+        switch (field.toLowerCase()) {
+            case "first-prefix":
+                return c -> c.getFoldedFirstName().startsWith(searchTerm);
+            case "last-prefix":
+                return c -> c.getFoldedLastName().startsWith(searchTerm);
+            case "full-prefix":
+                return c -> c.getFoldedFullName().startsWith(searchTerm);
+            case "first":
+                return c -> c.getFoldedFirstName().contains(searchTerm);
+            case "last":
+                return c -> c.getFoldedLastName().contains(searchTerm);
+            case "full":
+            case "name":
+                return c -> c.getFoldedFullName().contains(searchTerm);
+            case "email":
+                return c -> c.getFoldedEmail().contains(searchTerm);
+            case "phone":
+                return c -> c.getFoldedPhone().contains(searchTerm);
+            default:
+                return null;
+        }
     }
 
     /**
@@ -74,27 +442,97 @@ public class ContactSearcher {
      * @return the selected contact, or null if no valid selection is made
      */
     public static Contact selectFromList(List<Contact> matches, Scanner scanner) {
-        if (matches.isEmpty()) {
+        return selectFromList(ContactCursor.of(matches), scanner);
+    }
+
+    /**
+     * Prompts the user to select a contact from a cursor over matches.
+     * 
+     * Matches are listed a page at a time ({@code addressbook.page.size},
+     * default 20); the user selects by number or moves to the next or
+     * previous page. Only the matches on the pages shown
+     * are found and formatted.
+     *
+     * @param matches the cursor over matched contacts
+     * @param scanner the Scanner to read user input
+     * @return the selected contact, or null if no valid selection is made
+     */
+    public static Contact selectFromList(ContactCursor matches, Scanner scanner) {
+        List<Contact> page = matches.page(0, PAGE_SIZE);
+        if (page.isEmpty()) {
             System.out.println("No matching contacts found.");
             return null;
-        } else if (matches.size() == 1) {
-            return matches.get(0); 
-        } else {
-            System.out.println("Multiple matches found:");
-            for (int i = 0; i < matches.size(); i++) {
-                System.out.println((i + 1) + ". " + ContactFormatter.formatCompact(matches.get(i)));
+        } else if (page.size() == 1 && !matches.hasMoreThan(1)) {
+            return page.get(0);
+        }
+
+        System.out.println("Multiple matches found:");
+        int offset = 0;
+        while (true) {
+            for (int i = 0; i < page.size(); i++) {
+                System.out.println((offset + i + 1) + ". " + ContactFormatter.formatCompact(page.get(i)));
             }
+            boolean hasNext = matches.hasMoreThan(offset + page.size());
+            boolean hasPrevious = offset > 0;
 
             while (true) {
-                System.out.print("Select contact by number: ");
+                System.out.print("Select contact by number"
+                    + (hasNext ? ", n for next page" : "")
+                    + (hasPrevious ? ", p for previous page" : "") + ": ");
+                String input = scanner.nextLine().trim();
+                if (hasNext && input.equalsIgnoreCase("n")) {
+                    offset += PAGE_SIZE;
+                    break;
+                }
+                if (hasPrevious && input.equalsIgnoreCase("p")) {
+                    offset -= PAGE_SIZE;
+                    break;
+                }
                 try {
-                    int choice = Integer.parseInt(scanner.nextLine());
-                    if (choice >= 1 && choice <= matches.size()) {
-                        return matches.get(choice - 1);
+                    int choice = Integer.parseInt(input);
+                    if (choice > offset && choice <= offset + page.size()) {
+                        return page.get(choice - offset - 1);
                     }
                 } catch (NumberFormatException ignored) {}
                 System.out.println("Invalid selection. Try again.");
             }
+            page = matches.page(offset, PAGE_SIZE);
+        }
+    }
+
+    /**
+     * Searches a range of the list, splitting it in half until chunks are
+     * small enough to scan, then joins the results in list order.
+     */
+    @SuppressWarnings("serial") // Fork-join tasks are never serialized
+    private static class FilterTask extends RecursiveTask<List<Contact>> {
+
+        private final List<Contact> contacts;
+        private final Predicate<? super Contact> predicate;
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+
+        FilterTask(List<Contact> contacts, Predicate<? super Contact> predicate, int from, int to, int chunkSize) {
+            this.contacts = contacts;
+            this.predicate = predicate;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        protected List<Contact> compute() {
+            if (to - from <= chunkSize) {
+                return filterRange(contacts, predicate, from, to);
+            }
+            int middle = (from + to) >>> 1;
+            FilterTask left = new FilterTask(contacts, predicate, from, middle, chunkSize);
+            left.fork();
+            List<Contact> right = new FilterTask(contacts, predicate, middle, to, chunkSize).compute();
+            List<Contact> matches = left.join();
+            matches.addAll(right);
+            return matches;
         }
     }
 }
@@ -13,6 +13,8 @@ package address_book;
 
 import java.util.Scanner;
 
+import utilities.StringPool;
+
 /**
  * Provides functionality to update fields of an existing Contact object.
  * 
@@ -44,7 +46,8 @@ public class ContactUpdater {
             contact.getPhone(), contact.getEmail()
         );
 
-        // Prompt user for each field and conditionally update
+        // Prompt user for each field and conditionally update; repeated
+        // fields are shared with other contacts through their pools
         if (confirm("Update first name? (y/n): ", scanner)) {
             System.out.print("New first name: ");
             contact.setFirstName(scanner.nextLine());
@@ -62,17 +65,17 @@ public class ContactUpdater {
 
         if (confirm("Update city? (y/n): ", scanner)) {
             System.out.print("New city: ");
-            contact.setCity(scanner.nextLine());
+            contact.setCity(StringPool.cities().canonical(scanner.nextLine()));
         }
 
         if (confirm("Update state? (y/n): ", scanner)) {
             System.out.print("New state: ");
-            contact.setState(scanner.nextLine());
+            contact.setState(StringPool.states().canonical(scanner.nextLine()));
         }
 
         if (confirm("Update ZIP code? (y/n): ", scanner)) {
             System.out.print("New ZIP: ");
-            contact.setZipCode(scanner.nextLine());
+            contact.setZipCode(StringPool.zipCodes().canonical(scanner.nextLine()));
         }
 
         if (confirm("Update phone? (y/n): ", scanner)) {
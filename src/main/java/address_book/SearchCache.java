@@ -0,0 +1,150 @@
+/*
+ * Author: James Stevens
+ * Date: 01 July 2025
+ * Course: SWEN 656 - Advanced Software Design and Implementation
+ *
+ * Copyright (c) 2025 James Stevens
+ * This file is part of the Address Book project and may not be used, copied,
+ * modified, or distributed without permission.
+ */
+
+package address_book;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bounded, least-recently-used cache of search results.
+ *
+ * Results are keyed by search field and value, both trimmed and lower-cased,
+ * since every search mode ignores case. The owning {@link AddressBook} calls
+ * {@link #invalidate()} whenever its contacts change, which empties the cache
+ * and advances its generation, so a cached result never outlives the book it
+ * was computed from. Changes made to a {@link Contact} directly, rather than
+ * through the address book, are not seen.
+ *
+ * Hit, miss, and eviction counts are kept for tuning the capacity.
+ *
+ * @author James Stevens
+ * @version 1.0
+ * @since 2025-07-01
+ */
+public class SearchCache {
+
+    private final int capacity;
+    private final LinkedHashMap<String, List<Contact>> entries;
+
+    private long generation;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * Creates an empty cache.
+     *
+     * @param capacity the most results to keep; 0 disables caching
+     */
+    public SearchCache(int capacity) {
+        this.capacity = Math.max(0, capacity);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, List<Contact>> eldest) {
+                if (size() <= SearchCache.this.capacity) return false;
+                evictions++;
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Looks up a cached result and marks it most recently used.
+     *
+     * @param field the search field
+     * @param value the search value
+     * @return a copy of the cached matches, or null on a miss
+     */
+    public synchronized List<Contact> get(String field, String value) {
+        List<Contact> matches = entries.get(key(field, value));
+        if (matches == null) {
+            misses++;
+            return null;
+        }
+        hits++;
+        return new ArrayList<>(matches); // Callers may modify the list they get
+    }
+
+    /**
+     * Caches a result, evicting the least recently used one if full.
+     *
+     * @param field   the search field
+     * @param value   the search value
+     * @param matches the matches found
+     */
+    public synchronized void put(String field, String value, List<Contact> matches) {
+        if (capacity == 0) return;
+        entries.put(key(field, value), Collections.unmodifiableList(new ArrayList<>(matches)));
+    }
+
+    /**
+     * Caches a result unless the address book has changed since the search
+     * began, so a search that raced a change cannot cache a stale result.
+     *
+     * @param field      the search field
+     * @param value      the search value
+     * @param matches    the matches found
+     * @param generation the {@link #getGeneration() generation} read before searching
+     */
+    public synchronized void put(String field, String value, List<Contact> matches, long generation) {
+        if (generation == this.generation) put(field, value, matches);
+    }
+
+    /**
+     * Discards every cached result. Called when the address book changes.
+     */
+    public synchronized void invalidate() {
+        entries.clear();
+        generation++;
+    }
+
+    /**
+     * @return the number of times the address book has changed since creation
+     */
+    public synchronized long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * @return the number of lookups answered from the cache
+     */
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    /**
+     * @return the number of lookups that had to search
+     */
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * @return the number of results dropped to make room for newer ones
+     */
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * @return the number of results currently cached
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private static String key(String field, String value) {
+        return field.trim().toLowerCase() + '\u0000' + value.trim().toLowerCase();
+    }
+}
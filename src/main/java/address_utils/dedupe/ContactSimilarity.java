@@ -0,0 +1,193 @@
+/*
+ * Author: James Stevens
+ * Date: 01 July 2025
+ * Course: SWEN 656 - Advanced Software Design and Implementation
+ *
+ * Copyright (c) 2025 James Stevens
+ * This file is part of the Address Book project and may not be used, copied,
+ * modified, or distributed without permission.
+ */
+
+package address_utils.dedupe;
+
+import address_book.Contact;
+import address_utils.formatter.ContactNormalizer;
+
+/**
+ * Weighted similarity of two contacts, from 0 (nothing alike) to 1 (the
+ * same in every field).
+ *
+ * Names, street, and the part of the email address before the "@" are
+ * compared with the Jaro-Winkler measure, which tolerates typos and
+ * favors strings that agree at the start; email domains are left out,
+ * since unrelated people share common ones. The measure is halved when
+ * the digits in the two strings differ, since "12 Oak St" and "21 Oak St",
+ * or "ann.lee7" and "ann.lee9", are different places and people. Phone
+ * numbers are compared by digits and ZIP codes by their first five
+ * digits, since a near-miss in either is a different number. The weights
+ * favor the fields that identify a person: two relatives sharing a phone
+ * and address score below the default threshold unless their names and
+ * email also agree.
+ *
+ * @author James Stevens
+ * @version 1.0
+ * @since 2025-07-01
+ */
+public final class ContactSimilarity {
+
+    private static final double FIRST_NAME_WEIGHT = 0.15;
+    private static final double LAST_NAME_WEIGHT = 0.25;
+    private static final double EMAIL_WEIGHT = 0.20;
+    private static final double PHONE_WEIGHT = 0.15;
+    private static final double STREET_WEIGHT = 0.15;
+    private static final double ZIP_WEIGHT = 0.10;
+
+    // Jaro-Winkler: longest common prefix rewarded, and its weight
+    private static final int MAX_PREFIX = 4;
+    private static final double PREFIX_SCALE = 0.1;
+
+    private ContactSimilarity() {
+    }
+
+    /**
+     * Scores how likely two contacts are to describe the same person.
+     *
+     * @param a one contact
+     * @param b another contact
+     * @return the weighted similarity, between 0 and 1
+     */
+    public static double score(Contact a, Contact b) {
+        return FIRST_NAME_WEIGHT * jaroWinkler(a.getFoldedFirstName(), b.getFoldedFirstName())
+            + LAST_NAME_WEIGHT * jaroWinkler(a.getFoldedLastName(), b.getFoldedLastName())
+            + EMAIL_WEIGHT * emailSimilarity(a.getFoldedEmail(), b.getFoldedEmail())
+            + PHONE_WEIGHT * (samePhone(a.getPhone(), b.getPhone()) ? 1 : 0)
+            + STREET_WEIGHT * textSimilarity(nullToEmpty(a.getStreet()), nullToEmpty(b.getStreet()))
+            + ZIP_WEIGHT * (sameZip(a.getZipCode(), b.getZipCode()) ? 1 : 0);
+    }
+
+    /**
+     * Tests whether two contacts score at least a threshold, comparing the
+     * cheapest fields first and stopping as soon as the remaining fields
+     * could not lift the score to the threshold.
+     *
+     * @param a         one contact
+     * @param b         another contact
+     * @param threshold the least score for a match
+     * @return true if {@link #score(Contact, Contact)} is at least {@code threshold}
+     */
+    public static boolean isDuplicate(Contact a, Contact b, double threshold) {
+        double score = PHONE_WEIGHT * (samePhone(a.getPhone(), b.getPhone()) ? 1 : 0)
+            + ZIP_WEIGHT * (sameZip(a.getZipCode(), b.getZipCode()) ? 1 : 0);
+        double remaining = FIRST_NAME_WEIGHT + LAST_NAME_WEIGHT + EMAIL_WEIGHT + STREET_WEIGHT;
+        if (score + remaining < threshold) return false;
+
+        score += LAST_NAME_WEIGHT * jaroWinkler(a.getFoldedLastName(), b.getFoldedLastName());
+        remaining -= LAST_NAME_WEIGHT;
+        if (score + remaining < threshold) return false;
+
+        score += FIRST_NAME_WEIGHT * jaroWinkler(a.getFoldedFirstName(), b.getFoldedFirstName());
+        remaining -= FIRST_NAME_WEIGHT;
+        if (score + remaining < threshold) return false;
+
+        score += EMAIL_WEIGHT * emailSimilarity(a.getFoldedEmail(), b.getFoldedEmail());
+        remaining -= EMAIL_WEIGHT;
+        if (score + remaining < threshold) return false;
+
+        return score + STREET_WEIGHT * textSimilarity(nullToEmpty(a.getStreet()), nullToEmpty(b.getStreet())) >= threshold;
+    }
+
+    /**
+     * Computes the Jaro-Winkler similarity of two strings, ignoring case.
+     *
+     * @param s one string
+     * @param t another string
+     * @return 1 for equal strings, 0 for strings with nothing in common
+     */
+    public static double jaroWinkler(String s, String t) {
+        int n = s.length();
+        int m = t.length();
+        if (n == 0 && m == 0) return 1;
+        if (n == 0 || m == 0) return 0;
+
+        // Characters match if equal and no further apart than this
+        int window = Math.max(0, Math.max(n, m) / 2 - 1);
+        boolean[] sMatched = new boolean[n];
+        boolean[] tMatched = new boolean[m];
+        int matches = 0;
+        for (int i = 0; i < n; i++) {
+            char c = Character.toLowerCase(s.charAt(i));
+            int end = Math.min(m, i + window + 1);
+            for (int j = Math.max(0, i - window); j < end; j++) {
+                if (!tMatched[j] && Character.toLowerCase(t.charAt(j)) == c) {
+                    sMatched[i] = true;
+                    tMatched[j] = true;
+                    matches++;
+                    break;
+                }
+            }
+        }
+        if (matches == 0) return 0;
+
+        // Matched characters that appear in a different order
+        int transpositions = 0;
+        for (int i = 0, j = 0; i < n; i++) {
+            if (!sMatched[i]) continue;
+            while (!tMatched[j]) j++;
+            if (Character.toLowerCase(s.charAt(i)) != Character.toLowerCase(t.charAt(j))) transpositions++;
+            j++;
+        }
+        double jaro = ((double) matches / n + (double) matches / m
+            + (matches - transpositions / 2.0) / matches) / 3;
+
+        int prefix = 0;
+        int limit = Math.min(MAX_PREFIX, Math.min(n, m));
+        while (prefix < limit
+                && Character.toLowerCase(s.charAt(prefix)) == Character.toLowerCase(t.charAt(prefix))) {
+            prefix++;
+        }
+        return jaro + prefix * PREFIX_SCALE * (1 - jaro);
+    }
+
+    private static double emailSimilarity(String a, String b) {
+        if (a.equals(b)) return 1;
+        int atA = a.indexOf('@');
+        int atB = b.indexOf('@');
+        return textSimilarity(atA >= 0 ? a.substring(0, atA) : a, atB >= 0 ? b.substring(0, atB) : b);
+    }
+
+    /**
+     * Jaro-Winkler similarity, halved when the strings' digits differ.
+     */
+    private static double textSimilarity(String a, String b) {
+        double similarity = jaroWinkler(a, b);
+        return sameDigits(a, b) ? similarity : similarity / 2;
+    }
+
+    /**
+     * Compares the digits of two strings in order, ignoring everything else.
+     */
+    private static boolean sameDigits(String a, String b) {
+        int i = 0;
+        int j = 0;
+        while (true) {
+            while (i < a.length() && !Character.isDigit(a.charAt(i))) i++;
+            while (j < b.length() && !Character.isDigit(b.charAt(j))) j++;
+            if (i == a.length() || j == b.length()) return i == a.length() && j == b.length();
+            if (a.charAt(i++) != b.charAt(j++)) return false;
+        }
+    }
+
+    private static boolean samePhone(String a, String b) {
+        if (a == null || b == null) return false;
+        String digits = ContactNormalizer.phoneKey(a);
+        return !digits.isEmpty() && digits.equals(ContactNormalizer.phoneKey(b));
+    }
+
+    private static boolean sameZip(String a, String b) {
+        return a != null && b != null && a.length() >= 5 && b.length() >= 5 && a.regionMatches(0, b, 0, 5);
+    }
+
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+}
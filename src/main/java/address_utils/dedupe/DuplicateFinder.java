@@ -0,0 +1,366 @@
+/*
+ * Author: James Stevens
+ * Date: 01 July 2025
+ * Course: SWEN 656 - Advanced Software Design and Implementation
+ *
+ * Copyright (c) 2025 James Stevens
+ * This file is part of the Address Book project and may not be used, copied,
+ * modified, or distributed without permission.
+ */
+
+package address_utils.dedupe;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+import org.apache.commons.codec.language.DoubleMetaphone;
+
+import address_book.Contact;
+import address_utils.formatter.ContactNormalizer;
+
+/**
+ * Finds clusters of contacts that probably describe the same person,
+ * without comparing every pair.
+ *
+ * Each contact is given blocking keys: its phone digits, the local part
+ * of its email address, and the Double Metaphone code of its last name
+ * with its five-digit ZIP. Only contacts sharing a key are compared, with
+ * {@link ContactSimilarity}, so the work grows with the sizes of the
+ * blocks rather than the square of the book. Small blocks are compared
+ * pair by pair, and a pair sharing several keys is compared only in the
+ * first such block they share. Larger ones, such as a common email name, are
+ * sorted by name and again by email, and after each sort every contact is
+ * compared with its next {@value #WINDOW} neighbors only. No contact is
+ * compared more than a fixed number of times per key, so the work grows
+ * linearly with the book however the blocks are sized.
+ *
+ * Keys are computed and blocks compared in parallel on a fork-join pool.
+ * Pairs scoring at least the threshold are then joined into clusters, so
+ * A matching B and B matching C puts all three together.
+ *
+ * @author James Stevens
+ * @version 1.0
+ * @since 2025-07-01
+ */
+public class DuplicateFinder {
+
+    /** Similarity at or above which two contacts are reported as duplicates. */
+    public static final double DEFAULT_THRESHOLD = 0.80;
+
+    // Neighbors each contact is compared with in a large block, after each sort
+    private static final int WINDOW = 8;
+
+    // Largest block compared pair by pair, where that costs no more than the window
+    private static final int MAX_BLOCK = 2 * WINDOW + 1;
+
+    // Blocking keys per contact, in the order blocks are considered
+    private static final int PHONE_KEY = 0;
+    private static final int EMAIL_KEY = 1;
+    private static final int SOUND_KEY = 2;
+    private static final int KEYS = 3;
+
+    // Contacts per task when computing keys, and comparisons per task when comparing blocks
+    private static final int KEY_CHUNK = 4096;
+    private static final long COMPARE_CHUNK = 16_384;
+
+    private final double threshold;
+    private final ForkJoinPool pool;
+    private final DoubleMetaphone encoder = new DoubleMetaphone();
+
+    /**
+     * Creates a finder using the {@link #DEFAULT_THRESHOLD} and the common fork-join pool.
+     */
+    public DuplicateFinder() {
+        this(DEFAULT_THRESHOLD, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a finder.
+     *
+     * @param threshold the similarity at or above which two contacts are duplicates
+     * @param pool      the pool that computes keys and compares blocks
+     */
+    public DuplicateFinder(double threshold, ForkJoinPool pool) {
+        this.threshold = threshold;
+        this.pool = pool;
+    }
+
+    /**
+     * Finds the clusters of probable duplicates.
+     *
+     * @param contacts the contacts to examine; not modified
+     * @return the clusters of two or more contacts, each in list order, ordered
+     *         by their first contact's position in the list
+     */
+    public List<List<Contact>> findClusters(List<Contact> contacts) {
+        int n = contacts.size();
+        String[][] keys = new String[n][];
+        Map<String, String> sounds = new ConcurrentHashMap<>();
+        pool.invoke(new KeyTask(contacts, keys, sounds, 0, n));
+
+        byte[] pairwise = new byte[n];
+        List<Block> blocks = blocks(keys, pairwise);
+        long[] pairs = pool.invoke(new CompareTask(contacts, keys, pairwise, blocks, 0, blocks.size()));
+        return clusters(contacts, pairs);
+    }
+
+    /**
+     * Groups contact positions by key, one kind of key at a time. Positions
+     * are sorted by the hash of their key, packed with it into a long, so
+     * grouping needs no map entry per contact; the rare runs whose hashes
+     * agree but whose keys differ are split by key. Blocks of one contact
+     * are dropped. Bit {@code kind} of {@code pairwise[i]} is set when the
+     * block of that kind holding position {@code i} is compared pair by pair.
+     */
+    private static List<Block> blocks(String[][] keys, byte[] pairwise) {
+        List<Block> blocks = new ArrayList<>();
+        for (int kind = 0; kind < KEYS; kind++) {
+            long[] packed = new long[keys.length];
+            int count = 0;
+            for (int i = 0; i < keys.length; i++) {
+                String key = keys[i][kind];
+                if (key != null) packed[count++] = ((long) key.hashCode() << 32) | i;
+            }
+            Arrays.sort(packed, 0, count);
+
+            for (int start = 0; start < count; ) {
+                int end = start + 1;
+                while (end < count && (packed[end] >>> 32) == (packed[start] >>> 32)) end++;
+                if (end - start > 1) addRun(keys, kind, packed, start, end, blocks, pairwise);
+                start = end;
+            }
+        }
+        return blocks;
+    }
+
+    private static void addRun(String[][] keys, int kind, long[] packed, int from, int to, List<Block> blocks,
+                               byte[] pairwise) {
+        Map<String, List<Integer>> byKey = new LinkedHashMap<>();
+        for (int i = from; i < to; i++) {
+            int position = (int) packed[i];
+            byKey.computeIfAbsent(keys[position][kind], k -> new ArrayList<>()).add(position);
+        }
+        for (List<Integer> positions : byKey.values()) {
+            if (positions.size() < 2) continue;
+            int[] members = new int[positions.size()];
+            for (int i = 0; i < members.length; i++) members[i] = positions.get(i);
+            if (members.length <= MAX_BLOCK) {
+                for (int member : members) pairwise[member] |= (byte) (1 << kind);
+            }
+            blocks.add(new Block(kind, members));
+        }
+    }
+
+    /**
+     * Joins matching pairs into clusters with a union-find forest.
+     */
+    private static List<List<Contact>> clusters(List<Contact> contacts, long[] pairs) {
+        int[] parent = new int[contacts.size()];
+        for (int i = 0; i < parent.length; i++) parent[i] = i;
+        for (long pair : pairs) {
+            int a = root(parent, (int) (pair >>> 32));
+            int b = root(parent, (int) pair);
+            if (a != b) parent[Math.max(a, b)] = Math.min(a, b); // Lowest position is the root
+        }
+
+        Map<Integer, List<Contact>> byRoot = new TreeMap<>();
+        for (long pair : pairs) {
+            byRoot.putIfAbsent(root(parent, (int) (pair >>> 32)), new ArrayList<>());
+        }
+        for (int i = 0; i < parent.length; i++) {
+            List<Contact> cluster = byRoot.get(root(parent, i));
+            if (cluster != null) cluster.add(contacts.get(i));
+        }
+        return new ArrayList<>(byRoot.values());
+    }
+
+    private static int root(int[] parent, int i) {
+        while (parent[i] != i) {
+            parent[i] = parent[parent[i]]; // Halve the path as we go
+            i = parent[i];
+        }
+        return i;
+    }
+
+    /**
+     * Computes the blocking keys of one contact, indexed by kind.
+     */
+    private String[] keysOf(Contact c, Map<String, String> sounds) {
+        String[] keys = new String[KEYS];
+        String phone = c.getPhone() != null ? ContactNormalizer.phoneKey(c.getPhone()) : "";
+        if (phone.length() >= 7) keys[PHONE_KEY] = phone;
+
+        String email = c.getFoldedEmail();
+        int at = email.indexOf('@');
+        int plus = email.indexOf('+');
+        int end = plus > 0 && (at < 0 || plus < at) ? plus : at; // Drop "+tag" from "name+tag@host"
+        if (end > 0) keys[EMAIL_KEY] = email.substring(0, end);
+
+        String last = c.getFoldedLastName().trim();
+        String zip = c.getZipCode() != null ? c.getZipCode().trim() : "";
+        if (!last.isEmpty() && zip.length() >= 5) {
+            String code = sounds.computeIfAbsent(last, name -> {
+                String primary = encoder.doubleMetaphone(name);
+                return primary != null ? primary : "";
+            });
+            if (!code.isEmpty()) keys[SOUND_KEY] = code + ":" + zip.substring(0, 5);
+        }
+        return keys;
+    }
+
+    /**
+     * Computes the keys of a range of contacts.
+     */
+    @SuppressWarnings("serial") // Fork-join tasks are never serialized
+    private class KeyTask extends RecursiveAction {
+
+        private final List<Contact> contacts;
+        private final String[][] keys;
+        private final Map<String, String> sounds;
+        private final int from;
+        private final int to;
+
+        KeyTask(List<Contact> contacts, String[][] keys, Map<String, String> sounds, int from, int to) {
+            this.contacts = contacts;
+            this.keys = keys;
+            this.sounds = sounds;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= KEY_CHUNK) {
+                for (int i = from; i < to; i++) keys[i] = keysOf(contacts.get(i), sounds);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new KeyTask(contacts, keys, sounds, from, middle),
+                      new KeyTask(contacts, keys, sounds, middle, to));
+        }
+    }
+
+    /**
+     * Compares the contacts within a range of blocks and returns the
+     * matching pairs, packed as two positions in one long.
+     */
+    @SuppressWarnings("serial") // Fork-join tasks are never serialized
+    private class CompareTask extends RecursiveTask<long[]> {
+
+        private final List<Contact> contacts;
+        private final String[][] keys;
+        private final byte[] pairwise;
+        private final List<Block> blocks;
+        private final int from;
+        private final int to;
+
+        CompareTask(List<Contact> contacts, String[][] keys, byte[] pairwise, List<Block> blocks, int from, int to) {
+            this.contacts = contacts;
+            this.keys = keys;
+            this.pairwise = pairwise;
+            this.blocks = blocks;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected long[] compute() {
+            if (to - from <= 1 || work() <= COMPARE_CHUNK) {
+                Pairs pairs = new Pairs();
+                for (int b = from; b < to; b++) compareBlock(blocks.get(b), pairs);
+                return pairs.toArray();
+            }
+            int middle = (from + to) >>> 1;
+            CompareTask left = new CompareTask(contacts, keys, pairwise, blocks, from, middle);
+            left.fork();
+            long[] right = new CompareTask(contacts, keys, pairwise, blocks, middle, to).compute();
+            long[] both = left.join();
+            both = Arrays.copyOf(both, both.length + right.length);
+            System.arraycopy(right, 0, both, both.length - right.length, right.length);
+            return both;
+        }
+
+        /**
+         * Estimates the comparisons in the range, to size the tasks.
+         */
+        private long work() {
+            long work = 0;
+            for (int b = from; b < to; b++) {
+                long size = blocks.get(b).members.length;
+                work += size <= MAX_BLOCK ? size * (size - 1) / 2 : 2 * size * WINDOW;
+                if (work > COMPARE_CHUNK) break;
+            }
+            return work;
+        }
+
+        private void compareBlock(Block block, Pairs pairs) {
+            int[] members = block.members;
+            if (members.length <= MAX_BLOCK) {
+                for (int i = 0; i < members.length; i++) {
+                    for (int j = i + 1; j < members.length; j++) compare(members[i], members[j], block.kind, pairs);
+                }
+                return;
+            }
+            Integer[] sorted = new Integer[members.length];
+            for (int i = 0; i < members.length; i++) sorted[i] = members[i];
+            Arrays.sort(sorted, Comparator.comparing(i -> contacts.get(i).getFoldedFullName()));
+            compareWindows(sorted, block.kind, pairs);
+            Arrays.sort(sorted, Comparator.comparing(i -> contacts.get(i).getFoldedEmail()));
+            compareWindows(sorted, block.kind, pairs);
+        }
+
+        private void compareWindows(Integer[] sorted, int kind, Pairs pairs) {
+            for (int i = 0; i < sorted.length; i++) {
+                int end = Math.min(sorted.length, i + WINDOW + 1);
+                for (int j = i + 1; j < end; j++) compare(sorted[i], sorted[j], kind, pairs);
+            }
+        }
+
+        private void compare(int a, int b, int kind, Pairs pairs) {
+            String[] ka = keys[a];
+            String[] kb = keys[b];
+            for (int k = 0; k < kind; k++) {
+                // Compared in that earlier block, unless it was too large to compare every pair
+                if ((pairwise[a] & (1 << k)) != 0 && ka[k] != null && ka[k].equals(kb[k])) return;
+            }
+            if (ContactSimilarity.isDuplicate(contacts.get(a), contacts.get(b), threshold)) {
+                pairs.add(Math.min(a, b), Math.max(a, b));
+            }
+        }
+    }
+
+    /**
+     * Positions of the contacts sharing one key, and the kind of key.
+     */
+    private static final class Block {
+
+        final int kind;
+        final int[] members;
+
+        Block(int kind, int[] members) {
+            this.kind = kind;
+            this.members = members;
+        }
+    }
+
+    /**
+     * Growable list of packed position pairs.
+     */
+    private static final class Pairs {
+
+        private long[] values = new long[16];
+        private int size;
+
+        void add(int a, int b) {
+            if (size == values.length) values = Arrays.copyOf(values, size * 2);
+            values[size++] = ((long) a << 32) | (b & 0xFFFFFFFFL);
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -21,6 +21,11 @@ import address_book.Contact;
  * - Escaping fields with quotes and commas
  * - Outputting full contact records as comma-separated lines
  * 
+ * The contact's ID follows the eight fields as a ninth column. A contact
+ * without an ID is written as the eight fields alone, the format of files
+ * saved before IDs were introduced. A header may end with one more column
+ * naming the journal generation the file was saved with.
+ * 
  * Used primarily for data persistence in flat files.
  * 
  * @author James Stevens
@@ -29,13 +34,27 @@ import address_book.Contact;
  */
 public class ContactCSVFormatter {
 
+    /** Start of the header column holding the journal generation. */
+    public static final String JOURNAL_COLUMN = "Journal ";
+
     /**
      * Returns the header row for the CSV file.
      * 
      * @return a comma-separated string representing column names
      */
     public static String header() {
-        return "First Name,Last Name,Street,City,State,Zip,Phone,Email";
+        return "First Name,Last Name,Street,City,State,Zip,Phone,Email,Id";
+    }
+
+    /**
+     * Returns the header row for the CSV file, followed by a column naming
+     * the newest journal generation the file reflects.
+     * 
+     * @param journalGeneration the newest journal generation saved in the file
+     * @return a comma-separated string representing column names
+     */
+    public static String header(long journalGeneration) {
+        return header() + "," + JOURNAL_COLUMN + journalGeneration;
     }
 
     /**
@@ -50,6 +69,17 @@ public class ContactCSVFormatter {
     public static String toCSV(Contact c) {
         if (c == null) return "";
 
+        String fields = fieldsToCSV(c);
+        return c.getId() != 0 ? fields + "," + c.getId() : fields;
+    }
+
+    /**
+     * Converts a Contact's eight fields, without its ID, into a CSV row.
+     * 
+     * @param c the Contact to format
+     * @return a comma-separated string of the contact's fields
+     */
+    public static String fieldsToCSV(Contact c) {
         return String.join(",",
             escape(c.getFirstName()),
             escape(c.getLastName()),
@@ -65,14 +95,15 @@ public class ContactCSVFormatter {
     /**
      * Escapes special characters in a CSV field.
      * 
-     * Fields with quotes or commas are wrapped in double quotes.
+     * Fields with quotes, commas, or line breaks are wrapped in double quotes.
      * Quotes inside the field are duplicated.
      * 
      * @param value the raw field value
      * @return the escaped CSV-safe value
      */
     private static String escape(String value) {
-        if (value.contains(",") || value.contains("\"")) {
+        if (value.contains(",") || value.contains("\"")
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
             return "\"" + value.replace("\"", "\"\"") + "\"";
         }
         return value;
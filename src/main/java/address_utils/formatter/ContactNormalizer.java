@@ -11,6 +11,8 @@
 
 package address_utils.formatter;
 
+import java.util.Locale;
+
 import address_book.FieldValidator;
 
 /**
@@ -19,6 +21,7 @@ import address_book.FieldValidator;
  * Specifically supports:
  * - Converting phone numbers to U.S. style (XXX) XXX-XXXX format
  * - Formatting ZIP codes to 12345 or 12345-6789 format
+ * - Reducing phone numbers and emails to keys for exact lookups
  * 
  * Invalid input is returned unmodified. Logging of invalid entries is handled
  * separately by the {@code ValidationLoggingAspect}.
@@ -64,4 +67,61 @@ public class ContactNormalizer {
             ? digits
             : digits.substring(0, 5) + "-" + digits.substring(5);
     }
+
+    /**
+     * Reduces a phone number to its digits, the key used for exact lookups.
+     * 
+     * Unlike {@link #normalizePhone(String)}, this accepts any input, so
+     * "(312) 555-1212" and "3125551212" produce the same key.
+     * 
+     * @param raw the phone number in any format
+     * @return the digits of the phone number, in order
+     */
+    public static String phoneKey(String raw) {
+        StringBuilder digits = new StringBuilder(raw.length());
+        for (int i = 0; i < raw.length(); i++) {
+            char c = raw.charAt(i);
+            if (c >= '0' && c <= '9') digits.append(c);
+        }
+        return digits.toString();
+    }
+
+    /**
+     * Reduces an email address to the key used for exact lookups.
+     * 
+     * @param raw the email address as entered
+     * @return the trimmed, lower-cased address
+     */
+    public static String emailKey(String raw) {
+        return raw.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Reduces a place name, or a comma-separated "city, state" pair, to the
+     * key used for exact lookups.
+     * 
+     * Case, surrounding spaces, and runs of spaces are ignored, so
+     * " san  Antonio ,TEXAS" and "San Antonio, Texas" produce the same key.
+     * 
+     * @param raw the place as entered
+     * @return the lower-cased place, with single spaces between words and
+     *         none around commas
+     */
+    public static String placeKey(String raw) {
+        StringBuilder key = new StringBuilder(raw.length());
+        boolean space = false;
+        for (int i = 0; i < raw.length(); i++) {
+            char c = raw.charAt(i);
+            if (Character.isWhitespace(c)) {
+                space = true;
+                continue;
+            }
+            if (space && c != ',' && key.length() > 0 && key.charAt(key.length() - 1) != ',') {
+                key.append(' ');
+            }
+            key.append(Character.toLowerCase(c));
+            space = false;
+        }
+        return key.toString();
+    }
 }
@@ -0,0 +1,66 @@
+/*
+ * Author: James Stevens
+ * Date: 01 July 2025
+ * Course: SWEN 656 - Advanced Software Design and Implementation
+ *
+ * Copyright (c) 2025 James Stevens
+ * This file is part of the Address Book project and may not be used, copied,
+ * modified, or distributed without permission.
+ */
+
+package address_utils.index;
+
+import java.util.*;
+
+import address_book.Contact;
+
+/**
+ * Maintains the buckets of contacts that share a key in the hash, phonetic,
+ * and ZIP indexes.
+ *
+ * Most keys are held by a few contacts, so a bucket starts as a small list.
+ * A key such as a state or a common last name can be held by a large share
+ * of the book, and removing from a list of that size means a linear search
+ * and shift, so once a bucket reaches {@value #LARGE_BUCKET} contacts it
+ * becomes a linked hash set, which removes in constant time and keeps
+ * insertion order. Contact does not override {@code equals}, so both kinds
+ * of bucket find contacts by identity.
+ *
+ * @author James Stevens
+ * @version 1.0
+ * @since 2025-07-01
+ */
+final class ContactBuckets {
+
+    static final int LARGE_BUCKET = 32;
+
+    private ContactBuckets() {
+    }
+
+    /**
+     * Adds a contact to the bucket for a key, creating or enlarging the
+     * bucket as needed.
+     */
+    static <K> void add(Map<K, Collection<Contact>> entries, K key, Contact contact) {
+        Collection<Contact> bucket = entries.get(key);
+        if (bucket == null) {
+            bucket = new ArrayList<>(1);
+            entries.put(key, bucket);
+        } else if (bucket.size() == LARGE_BUCKET && bucket instanceof ArrayList) {
+            bucket = new LinkedHashSet<>(bucket);
+            entries.put(key, bucket);
+        }
+        bucket.add(contact);
+    }
+
+    /**
+     * Removes a contact from the bucket for a key, dropping the bucket once
+     * it is empty.
+     */
+    static <K> void remove(Map<K, Collection<Contact>> entries, K key, Contact contact) {
+        Collection<Contact> bucket = entries.get(key);
+        if (bucket == null) return;
+        bucket.remove(contact);
+        if (bucket.isEmpty()) entries.remove(key);
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Author: James Stevens
+ * Date: 01 July 2025
+ * Course: SWEN 656 - Advanced Software Design and Implementation
+ *
+ * Copyright (c) 2025 James Stevens
+ * This file is part of the Address Book project and may not be used, copied,
+ * modified, or distributed without permission.
+ */
+
+package address_utils.index;
+
+import java.util.Collection;
+
+import address_book.Contact;
+
+/**
+ * A secondary index over the contacts of an address book.
+ *
+ * The address book notifies every index as contacts are added and removed.
+ * A contact whose fields change is removed before the change and added
+ * again afterwards, so an index may compute its keys from the contact's
+ * current field values.
+ *
+ * @author James Stevens
+ * @version 1.0
+ * @since 2025-07-01
+ */
+public interface ContactIndex {
+
+    /**
+     * Indexes a contact.
+     *
+     * @param contact the contact that joined the address book
+     */
+    void add(Contact contact);
+
+    /**
+     * Removes a contact from the index. Contacts are matched by identity.
+     *
+     * @param contact the contact that left the address book, with the
+     *                field values it had when it was added
+     */
+    void remove(Contact contact);
+
+    /**
+     * Removes several contacts from the index, as if by {@link #remove(Contact)}
+     * for each. Indexes that can remove a batch more cheaply than one
+     * contact at a time override this.
+     *
+     * @param removed the contacts that left the address book
+     */
+    default void removeAll(Collection<Contact> removed) {
+        for (Contact c : removed) remove(c);
+    }
+
+    /**
+     * Removes every contact from the index.
+     */
+    void clear();
+}
@@ -0,0 +1,258 @@
+/*
+ * Author: James Stevens
+ * Date: 01 July 2025
+ * Course: SWEN 656 - Advanced Software Design and Implementation
+ *
+ * Copyright (c) 2025 James Stevens
+ * This file is part of the Address Book project and may not be used, copied,
+ * modified, or distributed without permission.
+ */
+
+package address_utils.index;
+
+import java.util.*;
+import java.util.function.Function;
+
+import address_book.Contact;
+
+/**
+ * Trie over the distinct lower-cased values of one field, searched with a
+ * Levenshtein automaton to find values within a small edit distance of a
+ * misspelled query.
+ *
+ * Each distinct value ends at a trie node holding the contacts with that
+ * value. A search walks the trie depth first, carrying one row of the
+ * edit-distance table per level: the row for a node is computed from its
+ * parent's row and the node's character, so values sharing a prefix share
+ * that work. Once every entry of a row exceeds the allowed distance, no
+ * value below that node can match and the branch is skipped. The search
+ * therefore touches a small part of the name dictionary, and never the
+ * contacts themselves.
+ *
+ * Values whose last contact is removed stay in the trie, unreported, until
+ * the index is rebuilt. Like the other lazily built indexes, the trie is
+ * built on the first query and ignores updates until then.
+ *
+ * @author James Stevens
+ * @version 1.0
+ * @since 2025-07-01
+ */
+public class FuzzyIndex implements ContactIndex {
+
+    private final Function<Contact, String> field;
+
+    private boolean built;
+    private Node root = new Node();
+    private final Map<String, Node> nodes = new HashMap<>();
+
+    /**
+     * Creates an index over the given field.
+     *
+     * @param field extracts the indexed text from a contact
+     */
+    public FuzzyIndex(Function<Contact, String> field) {
+        this.field = field;
+    }
+
+    /**
+     * Indicates whether the index has been built.
+     *
+     * @return true once {@link #build(Collection)} has run since the last {@link #clear()}
+     */
+    public boolean isBuilt() {
+        return built;
+    }
+
+    /**
+     * Indexes every contact, replacing any previous contents.
+     *
+     * @param all the contacts of the address book
+     */
+    public void build(Collection<Contact> all) {
+        clear();
+        built = true;
+        for (Contact c : all) add(c);
+    }
+
+    @Override
+    public void add(Contact contact) {
+        if (!built) return;
+        String word = keyOf(contact);
+        Node node = nodes.get(word);
+        if (node == null) {
+            node = root;
+            for (int i = 0; i < word.length(); i++) node = node.child(word.charAt(i));
+            node.word = word;
+            node.contacts = new ArrayList<>(1);
+            nodes.put(word, node);
+        }
+        node.contacts.add(contact);
+    }
+
+    @Override
+    public void remove(Contact contact) {
+        if (!built) return;
+        Node node = nodes.get(keyOf(contact));
+        if (node == null) return;
+        List<Contact> contacts = node.contacts;
+        for (int i = 0; i < contacts.size(); i++) {
+            if (contacts.get(i) == contact) {
+                contacts.remove(i);
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        root = new Node();
+        nodes.clear();
+        built = false;
+    }
+
+    /**
+     * Finds the distinct values within {@code maxDistance} edits of a term.
+     *
+     * @param term        the lower-cased search term
+     * @param maxDistance the most insertions, deletions, and substitutions allowed
+     * @return the matching values, closest first and then alphabetically
+     * @throws IllegalStateException if the index has not been built
+     */
+    public List<Match> within(String term, int maxDistance) {
+        if (!built) throw new IllegalStateException("Index has not been built");
+        Search search = new Search(term, maxDistance);
+        int[] first = search.row(0);
+        for (int i = 0; i <= term.length(); i++) first[i] = i;
+        if (root.word != null && term.length() <= maxDistance) search.report(root, term.length());
+        search.descend(root, 1);
+
+        List<Match> matches = search.matches;
+        matches.sort(Comparator.comparingInt((Match m) -> m.distance).thenComparing(m -> m.word));
+        return matches;
+    }
+
+    private String keyOf(Contact contact) {
+        String value = field.apply(contact);
+        return value != null ? value.toLowerCase() : "";
+    }
+
+    /**
+     * One search: the term, the rows of the edit-distance table for the
+     * current path, and the matches found so far.
+     */
+    private static final class Search {
+
+        final String term;
+        final int maxDistance;
+        final List<Match> matches = new ArrayList<>();
+        private int[][] rows = new int[16][];
+
+        Search(String term, int maxDistance) {
+            this.term = term;
+            this.maxDistance = maxDistance;
+        }
+
+        /**
+         * Returns the row for a trie depth, allocating it on first use.
+         */
+        int[] row(int depth) {
+            if (depth >= rows.length) rows = Arrays.copyOf(rows, depth * 2);
+            if (rows[depth] == null) rows[depth] = new int[term.length() + 1];
+            return rows[depth];
+        }
+
+        /**
+         * Visits the children of {@code parent}, whose row is at {@code depth - 1}.
+         */
+        void descend(Node parent, int depth) {
+            int[] previous = row(depth - 1);
+            int[] current = row(depth);
+            int n = term.length();
+            for (int c = 0; c < parent.size; c++) {
+                Node node = parent.children[c];
+                char ch = parent.keys[c];
+                current[0] = depth;
+                int smallest = depth;
+                for (int i = 1; i <= n; i++) {
+                    int cost = term.charAt(i - 1) == ch ? 0 : 1;
+                    int value = Math.min(Math.min(current[i - 1] + 1, previous[i] + 1), previous[i - 1] + cost);
+                    current[i] = value;
+                    if (value < smallest) smallest = value;
+                }
+                if (smallest > maxDistance) continue; // Every longer value is further away
+                if (node.word != null && current[n] <= maxDistance) report(node, current[n]);
+                if (node.size > 0) descend(node, depth + 1);
+            }
+        }
+
+        void report(Node node, int distance) {
+            if (!node.contacts.isEmpty()) matches.add(new Match(node.word, distance, node.contacts));
+        }
+    }
+
+    /**
+     * A value found by {@link #within(String, int)}.
+     */
+    public static final class Match {
+
+        private final String word;
+        private final int distance;
+        private final List<Contact> contacts;
+
+        Match(String word, int distance, List<Contact> contacts) {
+            this.word = word;
+            this.distance = distance;
+            this.contacts = Collections.unmodifiableList(contacts);
+        }
+
+        /**
+         * @return the lower-cased value that matched
+         */
+        public String getWord() {
+            return word;
+        }
+
+        /**
+         * @return the edit distance from the search term
+         */
+        public int getDistance() {
+            return distance;
+        }
+
+        /**
+         * @return a read-only view of the contacts holding the value, in the
+         *         order they were added
+         */
+        public List<Contact> getContacts() {
+            return contacts;
+        }
+    }
+
+    /**
+     * A trie node. Children are kept in parallel arrays of their characters
+     * and nodes; a node that ends a value holds it and its contacts.
+     */
+    private static final class Node {
+
+        char[] keys = new char[0];
+        Node[] children = new Node[0];
+        int size;
+        String word;
+        List<Contact> contacts;
+
+        Node child(char ch) {
+            for (int i = 0; i < size; i++) {
+                if (keys[i] == ch) return children[i];
+            }
+            if (size == keys.length) {
+                int capacity = Math.max(2, size * 2);
+                keys = Arrays.copyOf(keys, capacity);
+                children = Arrays.copyOf(children, capacity);
+            }
+            Node node = new Node();
+            keys[size] = ch;
+            children[size++] = node;
+            return node;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Author: James Stevens
+ * Date: 01 July 2025
+ * Course: SWEN 656 - Advanced Software Design and Implementation
+ *
+ * Copyright (c) 2025 James Stevens
+ * This file is part of the Address Book project and may not be used, copied,
+ * modified, or distributed without permission.
+ */
+
+package address_utils.index;
+
+import java.util.*;
+import java.util.function.Function;
+
+import address_book.Contact;
+
+/**
+ * Exact-match index from a normalized field value to the contacts holding it.
+ *
+ * Keys are produced by applying a normalizer to one field of each contact,
+ * and lookups apply the same normalizer to the query, so for example an email
+ * index built with lower-casing finds "Ada@Example.com" when asked for
+ * "ada@example.com". Lookups and updates take constant time regardless of
+ * the number of contacts.
+ *
+ * @author James Stevens
+ * @version 1.0
+ * @since 2025-07-01
+ */
+public class HashIndex implements ContactIndex {
+
+    private final Function<Contact, String> field;
+    private final Function<String, String> normalizer;
+    private final Map<String, Collection<Contact>> entries = new HashMap<>();
+
+    /**
+     * Creates an empty index.
+     *
+     * @param field      extracts the indexed field from a contact
+     * @param normalizer reduces a field value or query to its key
+     */
+    public HashIndex(Function<Contact, String> field, Function<String, String> normalizer) {
+        this.field = field;
+        this.normalizer = normalizer;
+    }
+
+    @Override
+    public void add(Contact contact) {
+        ContactBuckets.add(entries, keyOf(contact), contact);
+    }
+
+    @Override
+    public void remove(Contact contact) {
+        ContactBuckets.remove(entries, keyOf(contact), contact);
+    }
+
+    @Override
+    public void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Finds the contacts whose field has the same key as the given value.
+     *
+     * @param value the value to look up, in any form the normalizer accepts
+     * @return the matching contacts in insertion order; empty if none
+     */
+    public List<Contact> get(String value) {
+        Collection<Contact> matches = entries.get(normalizer.apply(value));
+        return matches != null ? new ArrayList<>(matches) : new ArrayList<>();
+    }
+
+    private String keyOf(Contact contact) {
+        String value = field.apply(contact);
+        return normalizer.apply(value != null ? value : "");
+    }
+}
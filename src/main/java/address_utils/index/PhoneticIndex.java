@@ -0,0 +1,155 @@
+/*
+ * Author: James Stevens
+ * Date: 01 July 2025
+ * Course: SWEN 656 - Advanced Software Design and Implementation
+ *
+ * Copyright (c) 2025 James Stevens
+ * This file is part of the Address Book project and may not be used, copied,
+ * modified, or distributed without permission.
+ */
+
+package address_utils.index;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.apache.commons.codec.language.DoubleMetaphone;
+
+import address_book.Contact;
+
+/**
+ * Index from the Double Metaphone codes of one field to the contacts holding
+ * it, for finding names that sound alike ("Smith" and "Smyth", "Catherine"
+ * and "Kathryn").
+ *
+ * Double Metaphone gives each name a primary code and, for names with more
+ * than one plausible pronunciation, an alternate code. A contact is indexed
+ * under both, and a lookup probes both codes of the query, so two names
+ * match when any of their codes agree. Lookups are hash probes.
+ *
+ * Names repeat heavily across an address book, so the codes of each
+ * distinct name are computed once and remembered; indexing a large book
+ * encodes each name only on its first appearance. Lookups never add to
+ * that cache, so concurrent lookups only read the index.
+ *
+ * @author James Stevens
+ * @version 1.0
+ * @since 2025-07-01
+ */
+public class PhoneticIndex implements ContactIndex {
+
+    private final Function<Contact, String> field;
+    private final DoubleMetaphone encoder = new DoubleMetaphone();
+    private final Map<String, String[]> codesByName = new HashMap<>();
+    private final Map<String, Collection<Contact>> entries = new HashMap<>();
+
+    /**
+     * Creates an empty index.
+     *
+     * @param field extracts the indexed name from a contact
+     */
+    public PhoneticIndex(Function<Contact, String> field) {
+        this.field = field;
+    }
+
+    @Override
+    public void add(Contact contact) {
+        for (String code : codesOf(contact, true)) {
+            ContactBuckets.add(entries, code, contact);
+        }
+    }
+
+    @Override
+    public void remove(Contact contact) {
+        for (String code : codesOf(contact, true)) {
+            ContactBuckets.remove(entries, code, contact);
+        }
+    }
+
+    @Override
+    public void clear() {
+        entries.clear();
+        codesByName.clear();
+    }
+
+    /**
+     * Finds the contacts whose name sounds like the given name.
+     *
+     * @param name the name as heard
+     * @return the matching contacts, those sharing the primary code first;
+     *         empty if none
+     */
+    public List<Contact> get(String name) {
+        List<Contact> result = new ArrayList<>();
+        String[] codes = codes(name, false);
+        if (codes.length == 0) return result;
+
+        Collection<Contact> primary = entries.get(codes[0]);
+        if (primary != null) result.addAll(primary);
+        if (codes.length > 1) {
+            Collection<Contact> alternate = entries.get(codes[1]);
+            if (alternate != null) {
+                for (Contact c : alternate) {
+                    if (!hasCode(codesOf(c, false), codes[0])) result.add(c); // Not already found by the primary code
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Builds a test for contacts whose name sounds like the given name,
+     * encoding the name once.
+     *
+     * @param name the name as heard
+     * @return a predicate that is true when any code of a contact's name
+     *         matches any code of {@code name}
+     */
+    public Predicate<Contact> soundingLike(String name) {
+        String[] theirs = codes(name, false);
+        return contact -> {
+            for (String ours : codesOf(contact, false)) {
+                for (String code : theirs) {
+                    if (ours.equals(code)) return true;
+                }
+            }
+            return false;
+        };
+    }
+
+    private static boolean hasCode(String[] codes, String code) {
+        for (String c : codes) {
+            if (c.equals(code)) return true;
+        }
+        return false;
+    }
+
+    private String[] codesOf(Contact contact, boolean remember) {
+        String value = field.apply(contact);
+        return codes(value != null ? value : "", remember);
+    }
+
+    /**
+     * Returns the distinct Double Metaphone codes of a name, primary first.
+     * Codes of indexed names are remembered; those of queries are not, so
+     * lookups never grow the cache.
+     */
+    private String[] codes(String name, boolean remember) {
+        String key = name.trim().toLowerCase();
+        String[] codes = codesByName.get(key);
+        if (codes == null) {
+            String primary = encoder.doubleMetaphone(key, false);
+            String alternate = encoder.doubleMetaphone(key, true);
+            if (primary == null || primary.isEmpty()) {
+                codes = new String[0];
+            } else if (alternate == null || alternate.isEmpty() || alternate.equals(primary)) {
+                codes = new String[] { primary };
+            } else {
+                codes = new String[] { primary, alternate };
+            }
+            if (remember) codesByName.put(key, codes);
+        }
+        return codes;
+    }
+}
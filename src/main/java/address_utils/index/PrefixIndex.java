@@ -0,0 +1,217 @@
+/*
+ * Author: James Stevens
+ * Date: 01 July 2025
+ * Course: SWEN 656 - Advanced Software Design and Implementation
+ *
+ * Copyright (c) 2025 James Stevens
+ * This file is part of the Address Book project and may not be used, copied,
+ * modified, or distributed without permission.
+ */
+
+package address_utils.index;
+
+import java.util.*;
+import java.util.function.Function;
+
+import address_book.Contact;
+
+/**
+ * Sorted index over one field for case-insensitive prefix search.
+ *
+ * Contacts are kept in two parallel arrays ordered by their field value under
+ * {@link String#CASE_INSENSITIVE_ORDER}, so all contacts sharing a prefix sit
+ * next to each other. A prefix query binary searches for the first of them
+ * and reads forward, returning the first {@code limit} matches in lexical
+ * order without looking at the rest of the book. Contacts with equal values
+ * stay in the order they were added.
+ *
+ * Keys are the field values themselves rather than lower-cased copies, so
+ * for fields stored on the contact the index costs two references per
+ * contact. Adding or removing a contact shifts the tail of the arrays, which
+ * is a single memory move even for large books. A batch of removals is done
+ * in one compacting pass over the arrays rather than one move per contact.
+ *
+ * Like {@link TrigramIndex}, the index is built on the first query, and
+ * updates are ignored until then.
+ *
+ * @author James Stevens
+ * @version 1.0
+ * @since 2025-07-01
+ */
+public class PrefixIndex implements ContactIndex {
+
+    private static final Comparator<String> ORDER = String.CASE_INSENSITIVE_ORDER;
+
+    private final Function<Contact, String> field;
+
+    private boolean built;
+    private String[] keys = new String[0];
+    private Contact[] contacts = new Contact[0];
+    private int size;
+
+    /**
+     * Creates an index over the given field.
+     *
+     * @param field extracts the indexed text from a contact
+     */
+    public PrefixIndex(Function<Contact, String> field) {
+        this.field = field;
+    }
+
+    /**
+     * Indicates whether the index has been built.
+     *
+     * @return true once {@link #build(Collection)} has run since the last {@link #clear()}
+     */
+    public boolean isBuilt() {
+        return built;
+    }
+
+    /**
+     * Indexes every contact, replacing any previous contents.
+     *
+     * @param all the contacts of the address book
+     */
+    public void build(Collection<Contact> all) {
+        Entry[] entries = new Entry[all.size()];
+        int n = 0;
+        for (Contact c : all) entries[n++] = new Entry(keyOf(c), c);
+        Arrays.sort(entries, (a, b) -> ORDER.compare(a.key, b.key)); // Stable, so ties keep list order
+
+        keys = new String[n];
+        contacts = new Contact[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = entries[i].key;
+            contacts[i] = entries[i].contact;
+        }
+        size = n;
+        built = true;
+    }
+
+    @Override
+    public void add(Contact contact) {
+        if (!built) return;
+        String key = keyOf(contact);
+        int at = upperBound(key);
+        if (size == keys.length) {
+            int capacity = Math.max(16, size + (size >> 1));
+            keys = Arrays.copyOf(keys, capacity);
+            contacts = Arrays.copyOf(contacts, capacity);
+        }
+        System.arraycopy(keys, at, keys, at + 1, size - at);
+        System.arraycopy(contacts, at, contacts, at + 1, size - at);
+        keys[at] = key;
+        contacts[at] = contact;
+        size++;
+    }
+
+    @Override
+    public void remove(Contact contact) {
+        if (!built) return;
+        String key = keyOf(contact);
+        for (int i = lowerBound(key); i < size && ORDER.compare(keys[i], key) == 0; i++) {
+            if (contacts[i] == contact) {
+                System.arraycopy(keys, i + 1, keys, i, size - i - 1);
+                System.arraycopy(contacts, i + 1, contacts, i, size - i - 1);
+                size--;
+                keys[size] = null;
+                contacts[size] = null;
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void removeAll(Collection<Contact> removed) {
+        if (!built || removed.isEmpty()) return;
+        if (removed.size() == 1) {
+            remove(removed.iterator().next());
+            return;
+        }
+        Set<Contact> gone = Collections.newSetFromMap(new IdentityHashMap<>(removed.size() * 2));
+        gone.addAll(removed);
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            if (gone.contains(contacts[i])) continue;
+            keys[kept] = keys[i];
+            contacts[kept] = contacts[i];
+            kept++;
+        }
+        Arrays.fill(keys, kept, size, null);
+        Arrays.fill(contacts, kept, size, null);
+        size = kept;
+    }
+
+    @Override
+    public void clear() {
+        keys = new String[0];
+        contacts = new Contact[0];
+        size = 0;
+        built = false;
+    }
+
+    /**
+     * Finds contacts whose field starts with the given prefix, ignoring case.
+     *
+     * @param prefix the prefix to match; an empty prefix matches every contact
+     * @param limit  the most contacts to return
+     * @return up to {@code limit} matches, ordered by field value
+     * @throws IllegalStateException if the index has not been built
+     */
+    public List<Contact> startingWith(String prefix, int limit) {
+        if (!built) throw new IllegalStateException("Index has not been built");
+        List<Contact> result = new ArrayList<>(Math.min(limit, 64));
+        for (int i = lowerBound(prefix); i < size && result.size() < limit; i++) {
+            if (!keys[i].regionMatches(true, 0, prefix, 0, prefix.length())) break;
+            result.add(contacts[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the first position whose key is not less than {@code key}.
+     */
+    private int lowerBound(String key) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (ORDER.compare(keys[mid], key) < 0) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
+
+    /**
+     * Returns the first position whose key is greater than {@code key}.
+     */
+    private int upperBound(String key) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (ORDER.compare(keys[mid], key) <= 0) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
+
+    private String keyOf(Contact contact) {
+        String value = field.apply(contact);
+        return value != null ? value : "";
+    }
+
+    /**
+     * A key and its contact, paired only while sorting.
+     */
+    private static final class Entry {
+
+        final String key;
+        final Contact contact;
+
+        Entry(String key, Contact contact) {
+            this.key = key;
+            this.contact = contact;
+        }
+    }
+}
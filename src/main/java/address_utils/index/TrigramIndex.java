@@ -0,0 +1,291 @@
+/*
+ * Author: James Stevens
+ * Date: 01 July 2025
+ * Course: SWEN 656 - Advanced Software Design and Implementation
+ *
+ * Copyright (c) 2025 James Stevens
+ * This file is part of the Address Book project and may not be used, copied,
+ * modified, or distributed without permission.
+ */
+
+package address_utils.index;
+
+import java.util.*;
+import java.util.function.Function;
+
+import address_book.Contact;
+
+/**
+ * Inverted trigram index for case-insensitive substring search.
+ *
+ * Every contact is given an integer slot, and each indexed column maps every
+ * three-character sequence of its lower-cased text to a posting list of the
+ * slots containing it. A substring query of three or more characters can only
+ * match contacts that appear in the posting list of every trigram of the
+ * query, so intersecting those lists yields a small candidate set that the
+ * caller verifies with an ordinary {@code contains} check.
+ *
+ * Slots are handed out in increasing order, so posting lists are appended to
+ * in sorted order and stored as primitive int arrays. Removing a contact only
+ * marks its slot dead; the whole index is rebuilt once dead slots outnumber
+ * live ones. An updated contact is removed and added again under a new slot.
+ *
+ * The index is built on the first query rather than when contacts are loaded,
+ * so startup does not pay for it; until then, updates are ignored.
+ *
+ * @author James Stevens
+ * @version 1.0
+ * @since 2025-07-01
+ */
+public class TrigramIndex implements ContactIndex {
+
+    private static final int GRAM = 3;
+    private static final int MIN_REBUILD_SLOTS = 1024;
+
+    private final List<Function<Contact, String>> columns;
+
+    private boolean built;
+    private final PostingTable postings = new PostingTable();
+    private final Map<Contact, Integer> slotOf = new IdentityHashMap<>();
+    private Contact[] contacts = new Contact[16]; // By slot; null once removed
+    private int nextSlot;
+
+    /**
+     * Creates an index over the given columns.
+     *
+     * @param columns extracts the text of each searchable column from a contact
+     */
+    public TrigramIndex(List<Function<Contact, String>> columns) {
+        if (columns.size() > 0x7FFF) throw new IllegalArgumentException("Too many columns");
+        this.columns = List.copyOf(columns);
+    }
+
+    /**
+     * Indicates whether the index has been built.
+     *
+     * @return true once {@link #build(Collection)} has run since the last {@link #clear()}
+     */
+    public boolean isBuilt() {
+        return built;
+    }
+
+    /**
+     * Indexes every contact, replacing any previous contents.
+     *
+     * @param all the contacts of the address book
+     */
+    public void build(Collection<Contact> all) {
+        reset();
+        built = true;
+        for (Contact c : all) add(c);
+    }
+
+    @Override
+    public void add(Contact contact) {
+        if (!built || slotOf.containsKey(contact)) return;
+        int slot = nextSlot++;
+        if (slot == contacts.length) contacts = Arrays.copyOf(contacts, slot * 2);
+        contacts[slot] = contact;
+        slotOf.put(contact, slot);
+
+        for (int column = 0; column < columns.size(); column++) {
+            String text = textOf(contact, column);
+            for (int i = 0; i + GRAM <= text.length(); i++) {
+                postings.getOrCreate(key(column, text, i)).addSorted(slot);
+            }
+        }
+    }
+
+    @Override
+    public void remove(Contact contact) {
+        if (!built) return;
+        Integer slot = slotOf.remove(contact);
+        if (slot == null) return;
+        contacts[slot] = null;
+
+        int dead = nextSlot - slotOf.size();
+        if (dead > MIN_REBUILD_SLOTS && dead > slotOf.size()) {
+            compact();
+        }
+    }
+
+    @Override
+    public void clear() {
+        reset();
+        built = false;
+    }
+
+    /**
+     * Finds the contacts whose column text may contain the given term.
+     *
+     * Every contact whose lower-cased column text contains the term is
+     * returned, along with possibly a few that do not, so callers must
+     * verify each candidate.
+     *
+     * @param column the column index, in constructor order
+     * @param term   the lower-cased search term, at least three characters
+     * @return the candidate contacts in slot order
+     * @throws IllegalStateException if the index has not been built
+     * @throws IllegalArgumentException if the term is shorter than three characters
+     */
+    public List<Contact> candidates(int column, String term) {
+        if (!built) throw new IllegalStateException("Index has not been built");
+        if (term.length() < GRAM) throw new IllegalArgumentException("Term shorter than " + GRAM);
+
+        // Fetch the posting list of every trigram, shortest first
+        List<IntList> lists = new ArrayList<>();
+        for (int i = 0; i + GRAM <= term.length(); i++) {
+            IntList list = postings.get(key(column, term, i));
+            if (list == null) return new ArrayList<>(); // Some trigram occurs nowhere
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(list -> list.size));
+
+        IntList smallest = lists.get(0);
+        int[] candidates = Arrays.copyOf(smallest.items, smallest.size);
+        int count = candidates.length;
+        for (int l = 1; l < lists.size() && count > 0; l++) {
+            count = intersect(candidates, count, lists.get(l));
+        }
+
+        List<Contact> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Contact c = contacts[candidates[i]];
+            if (c != null) result.add(c);
+        }
+        return result;
+    }
+
+    /**
+     * Keeps only the first {@code count} candidates that also appear in
+     * {@code list}. Both are sorted, and the search position in {@code list}
+     * only moves forward, so a small candidate set is cheap to test against
+     * a long list.
+     *
+     * @return the number of candidates kept, compacted to the front of the array
+     */
+    private static int intersect(int[] candidates, int count, IntList list) {
+        int kept = 0;
+        int from = 0;
+        for (int i = 0; i < count && from < list.size; i++) {
+            int found = Arrays.binarySearch(list.items, from, list.size, candidates[i]);
+            if (found >= 0) {
+                candidates[kept++] = candidates[i];
+                from = found + 1;
+            } else {
+                from = -found - 1;
+            }
+        }
+        return kept;
+    }
+
+    /**
+     * Reassigns slots to the live contacts and rebuilds every posting list.
+     */
+    private void compact() {
+        List<Contact> live = new ArrayList<>(slotOf.size());
+        for (int slot = 0; slot < nextSlot; slot++) {
+            if (contacts[slot] != null) live.add(contacts[slot]);
+        }
+        build(live);
+    }
+
+    private void reset() {
+        postings.clear();
+        slotOf.clear();
+        contacts = new Contact[16];
+        nextSlot = 0;
+    }
+
+    private String textOf(Contact contact, int column) {
+        String text = columns.get(column).apply(contact);
+        return text != null ? text.toLowerCase() : "";
+    }
+
+    /**
+     * Packs a column number and three characters into a non-zero key.
+     */
+    private static long key(int column, String text, int offset) {
+        return (1L << 63) | ((long) column << 48)
+            | ((long) text.charAt(offset) << 32)
+            | ((long) text.charAt(offset + 1) << 16)
+            | text.charAt(offset + 2);
+    }
+
+    /**
+     * Growable, sorted list of slots.
+     */
+    private static final class IntList {
+
+        int[] items = new int[2];
+        int size;
+
+        /**
+         * Appends a slot no smaller than any already present. A contact
+         * whose text repeats a trigram adds it only once.
+         */
+        void addSorted(int slot) {
+            if (size > 0 && items[size - 1] == slot) return;
+            if (size == items.length) items = Arrays.copyOf(items, size * 2);
+            items[size++] = slot;
+        }
+    }
+
+    /**
+     * Open-addressing hash table from trigram keys to posting lists,
+     * avoiding a boxed {@code Long} per lookup.
+     */
+    private static final class PostingTable {
+
+        private long[] keys = new long[1024];
+        private IntList[] lists = new IntList[1024];
+        private int size;
+
+        IntList get(long key) {
+            int mask = keys.length - 1;
+            for (int i = hash(key) & mask; keys[i] != 0; i = (i + 1) & mask) {
+                if (keys[i] == key) return lists[i];
+            }
+            return null;
+        }
+
+        IntList getOrCreate(long key) {
+            int mask = keys.length - 1;
+            int i = hash(key) & mask;
+            for (; keys[i] != 0; i = (i + 1) & mask) {
+                if (keys[i] == key) return lists[i];
+            }
+            IntList list = new IntList();
+            keys[i] = key;
+            lists[i] = list;
+            if (++size * 2 > keys.length) grow();
+            return list;
+        }
+
+        void clear() {
+            keys = new long[1024];
+            lists = new IntList[1024];
+            size = 0;
+        }
+
+        private void grow() {
+            long[] oldKeys = keys;
+            IntList[] oldLists = lists;
+            keys = new long[oldKeys.length * 2];
+            lists = new IntList[oldKeys.length * 2];
+            int mask = keys.length - 1;
+            for (int j = 0; j < oldKeys.length; j++) {
+                if (oldKeys[j] == 0) continue;
+                int i = hash(oldKeys[j]) & mask;
+                while (keys[i] != 0) i = (i + 1) & mask;
+                keys[i] = oldKeys[j];
+                lists[i] = oldLists[j];
+            }
+        }
+
+        private static int hash(long key) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32));
+        }
+    }
+}
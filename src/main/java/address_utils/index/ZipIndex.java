@@ -0,0 +1,109 @@
+/*
+ * Author: James Stevens
+ * Date: 01 July 2025
+ * Course: SWEN 656 - Advanced Software Design and Implementation
+ *
+ * Copyright (c) 2025 James Stevens
+ * This file is part of the Address Book project and may not be used, copied,
+ * modified, or distributed without permission.
+ */
+
+package address_utils.index;
+
+import java.util.*;
+
+import address_book.Contact;
+
+/**
+ * Sorted index of contacts by numeric ZIP code, for range queries such as
+ * every contact in 78200 through 78299.
+ *
+ * A ZIP code is keyed as one number, the five-digit ZIP followed by its
+ * four-digit extension (0000 when there is none), so ZIP+4 codes sort
+ * directly after their five-digit ZIP. A range bound given as a five-digit
+ * ZIP covers all of its extensions. Contacts whose ZIP code is not a valid
+ * ZIP or ZIP+4 are not indexed.
+ *
+ * The index is a red-black tree over the distinct keys, kept in step with
+ * every change: updates and the start of a range lookup take logarithmic
+ * time, and reading the range costs only the matches it returns.
+ *
+ * @author James Stevens
+ * @version 1.0
+ * @since 2025-07-01
+ */
+public class ZipIndex implements ContactIndex {
+
+    // Not a ZIP code
+    private static final int NO_KEY = -1;
+
+    private final TreeMap<Integer, Collection<Contact>> entries = new TreeMap<>();
+
+    @Override
+    public void add(Contact contact) {
+        int key = key(contact.getZipCode(), false);
+        if (key == NO_KEY) return;
+        ContactBuckets.add(entries, key, contact);
+    }
+
+    @Override
+    public void remove(Contact contact) {
+        int key = key(contact.getZipCode(), false);
+        if (key != NO_KEY) ContactBuckets.remove(entries, key, contact);
+    }
+
+    @Override
+    public void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Finds the contacts whose ZIP code lies in a range, inclusive.
+     *
+     * @param from the lowest ZIP or ZIP+4 code
+     * @param to   the highest ZIP or ZIP+4 code
+     * @return the matching contacts in ZIP code order; empty if none or if
+     *         {@code from} is above {@code to}
+     * @throws IllegalArgumentException if either bound is not a ZIP or ZIP+4 code
+     */
+    public List<Contact> between(String from, String to) {
+        int low = key(from, false);
+        int high = key(to, true);
+        if (low == NO_KEY) throw new IllegalArgumentException("Not a ZIP code: " + from);
+        if (high == NO_KEY) throw new IllegalArgumentException("Not a ZIP code: " + to);
+
+        List<Contact> matches = new ArrayList<>();
+        if (low > high) return matches;
+        for (Collection<Contact> contacts : entries.subMap(low, true, high, true).values()) {
+            matches.addAll(contacts);
+        }
+        return matches;
+    }
+
+    /**
+     * Converts a ZIP code to its numeric key.
+     *
+     * @param zip   a five-digit ZIP, or ZIP+4 with or without the hyphen
+     * @param upper whether a five-digit ZIP stands for its last extension
+     *              (the top of a range) rather than its first
+     * @return the key, or {@value #NO_KEY} if the text is not a ZIP code
+     */
+    private static int key(String zip, boolean upper) {
+        if (zip == null) return NO_KEY;
+        String z = zip.trim();
+        int digits = 0;
+        int value = 0;
+        for (int i = 0; i < z.length(); i++) {
+            char c = z.charAt(i);
+            if (c >= '0' && c <= '9') {
+                value = value * 10 + (c - '0');
+                if (++digits > 9) return NO_KEY;
+            } else if (c != '-' || i != 5) {
+                return NO_KEY;
+            }
+        }
+        if (digits == 5 && z.length() == 5) return value * 10_000 + (upper ? 9_999 : 0);
+        if (digits == 9) return value;
+        return NO_KEY;
+    }
+}
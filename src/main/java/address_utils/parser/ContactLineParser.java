@@ -13,6 +13,7 @@ package address_utils.parser;
 
 import address_book.Contact;
 import io.LineParser;
+import utilities.StringPool;
 
 /**
  * Parses a line of CSV values into a {@link Contact} object.
@@ -22,10 +23,16 @@ import io.LineParser;
  * <p>
  * Expected order of fields in the CSV:
  * <pre>
- * First Name, Last Name, Street, City, State, Zip, Phone, Email
+ * First Name, Last Name, Street, City, State, Zip, Phone, Email, Id
  * </pre>
  * 
  * If a line does not contain at least 8 tokens, parsing fails and returns null.
+ * The ID is optional; a missing or malformed ID leaves the contact with ID 0,
+ * and the address book assigns it a new one.
+ * 
+ * City, state, and five-digit ZIP code repeat across many contacts, so each
+ * is passed through its column's {@link StringPool} and equal values share
+ * one String.
  * 
  * @author James Stevens
  * @version 1.0
@@ -33,6 +40,30 @@ import io.LineParser;
  */
 public class ContactLineParser implements LineParser<Contact> {
 
+    private final StringPool cities;
+    private final StringPool states;
+    private final StringPool zipCodes;
+
+    /**
+     * Creates a parser that pools repeated fields in the shared column pools.
+     */
+    public ContactLineParser() {
+        this(StringPool.cities(), StringPool.states(), StringPool.zipCodes());
+    }
+
+    /**
+     * Creates a parser that pools repeated fields in the given pools.
+     * 
+     * @param cities   the pool for cities
+     * @param states   the pool for states
+     * @param zipCodes the pool for ZIP codes
+     */
+    public ContactLineParser(StringPool cities, StringPool states, StringPool zipCodes) {
+        this.cities = cities;
+        this.states = states;
+        this.zipCodes = zipCodes;
+    }
+
     /**
      * Converts an array of CSV tokens into a {@link Contact} object.
      * 
@@ -43,16 +74,27 @@ public class ContactLineParser implements LineParser<Contact> {
     public Contact parse(String[] tokens) {
         if (tokens.length < 8) return null;
 
-        return new Contact(
-            tokens[0].trim(), // First name
-            tokens[1].trim(), // Last name
-            tokens[2].trim(), // Street
-            tokens[3].trim(), // City
-            tokens[4].trim(), // State
-            tokens[5].trim(), // ZIP code
-            tokens[6].trim(), // Phone
-            tokens[7].trim()  // Email
+        Contact contact = new Contact(
+            tokens[0].trim(),                     // First name
+            tokens[1].trim(),                     // Last name
+            tokens[2].trim(),                     // Street
+            cities.canonical(tokens[3].trim()),   // City
+            states.canonical(tokens[4].trim()),   // State
+            zipCodes.canonical(tokens[5].trim()), // ZIP code
+            tokens[6].trim(),                     // Phone
+            tokens[7].trim()                      // Email
         );
+        if (tokens.length > 8) contact.setId(parseId(tokens[8]));
+        return contact;
+    }
+
+    private static long parseId(String token) {
+        try {
+            long id = Long.parseLong(token.trim());
+            return Math.max(id, 0);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
     }
 }
 
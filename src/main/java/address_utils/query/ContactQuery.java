@@ -0,0 +1,106 @@
+/*
+ * Author: James Stevens
+ * Date: 01 July 2025
+ * Course: SWEN 656 - Advanced Software Design and Implementation
+ *
+ * Copyright (c) 2025 James Stevens
+ * This file is part of the Address Book project and may not be used, copied,
+ * modified, or distributed without permission.
+ */
+
+package address_utils.query;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Predicate;
+
+import address_book.Contact;
+
+/**
+ * A compiled, multi-field contact query.
+ *
+ * Queries combine {@code field:pattern} clauses with {@code AND}, {@code OR},
+ * {@code NOT}, and parentheses, for example:
+ * <pre>
+ * last:smi* AND state:TX AND NOT email:*@old.com
+ * </pre>
+ * Fields are first, last, full (or name), street, city, state, zip, phone,
+ * and email. Patterns are case-insensitive; without a {@code *} wildcard
+ * they match the whole field, and values containing spaces are quoted, as
+ * in {@code city:"San Antonio"}.
+ *
+ * The text is parsed once into a tree of specialized matchers, ordered so
+ * the cheapest clause runs first and evaluation stops as soon as the
+ * result is known. Testing a contact allocates nothing, so a query can
+ * select the contacts for a bulk change in a single pass.
+ *
+ * @author James Stevens
+ * @version 1.0
+ * @since 2025-07-01
+ */
+public final class ContactQuery implements Predicate<Contact> {
+
+    private final String text;
+    private final QueryClause root;
+
+    private ContactQuery(String text, QueryClause root) {
+        this.text = text;
+        this.root = root;
+    }
+
+    /**
+     * Parses and compiles a query.
+     *
+     * @param text the query text
+     * @return the compiled query
+     * @throws IllegalArgumentException if the query is malformed or names an unknown field
+     */
+    public static ContactQuery parse(String text) {
+        return new ContactQuery(text, QueryParser.parse(text));
+    }
+
+    /**
+     * Tests whether a contact matches the query.
+     *
+     * @param contact the contact to test
+     * @return true if the contact matches
+     */
+    @Override
+    public boolean test(Contact contact) {
+        return root.test(contact);
+    }
+
+    /**
+     * Selects the matching contacts in one pass.
+     *
+     * @param contacts the contacts to search
+     * @return the matches, in iteration order
+     */
+    public List<Contact> filter(Collection<Contact> contacts) {
+        List<Contact> matches = new ArrayList<>();
+        for (Contact c : contacts) {
+            if (root.test(c)) matches.add(c);
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the query as entered.
+     *
+     * @return the original query text
+     */
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * Returns the compiled form, with clauses in evaluation order.
+     *
+     * @return the normalized query
+     */
+    @Override
+    public String toString() {
+        return root.toString();
+    }
+}
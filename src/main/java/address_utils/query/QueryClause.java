@@ -0,0 +1,386 @@
+/*
+ * Author: James Stevens
+ * Date: 01 July 2025
+ * Course: SWEN 656 - Advanced Software Design and Implementation
+ *
+ * Copyright (c) 2025 James Stevens
+ * This file is part of the Address Book project and may not be used, copied,
+ * modified, or distributed without permission.
+ */
+
+package address_utils.query;
+
+import java.util.*;
+
+import address_book.Contact;
+
+/**
+ * A compiled node of a contact query.
+ *
+ * Each field pattern is compiled to the most specific matcher that handles
+ * it (exact, prefix, suffix, contains, or general wildcard), and each matcher
+ * carries a rough cost. AND and OR nodes evaluate their children cheapest
+ * first and stop at the first child that decides the result, so an exact
+ * match on one field rules a contact out before a costly wildcard match on
+ * another is tried.
+ *
+ * @author James Stevens
+ * @version 1.0
+ * @since 2025-07-01
+ */
+abstract class QueryClause {
+
+    /**
+     * Tests a contact against this clause.
+     */
+    abstract boolean test(Contact contact);
+
+    /**
+     * Estimates the relative cost of {@link #test(Contact)}.
+     */
+    abstract int cost();
+
+    /**
+     * Compiles a wildcard pattern against one field.
+     *
+     * @param field   the field to match
+     * @param pattern the pattern; {@code *} matches any run of characters
+     * @return the most specific clause for the pattern
+     */
+    static QueryClause match(QueryField field, String pattern) {
+        String folded = pattern.toLowerCase();
+        String[] parts = folded.split("\\*", -1);
+        if (parts.length == 1) return new Exact(field, folded);
+
+        boolean leading = folded.startsWith("*");
+        boolean trailing = folded.endsWith("*");
+        List<String> literals = new ArrayList<>();
+        for (String part : parts) {
+            if (!part.isEmpty()) literals.add(part);
+        }
+
+        if (literals.isEmpty()) return new Any(field);
+        if (literals.size() == 1) {
+            String literal = literals.get(0);
+            if (!leading && trailing) return new Prefix(field, literal);
+            if (leading && !trailing) return new Suffix(field, literal);
+            if (leading) return new Contains(field, literal);
+        }
+        return new Glob(field, folded, literals, !leading, !trailing);
+    }
+
+    /**
+     * Combines clauses with AND, flattening nested ANDs and ordering the
+     * result cheapest first.
+     */
+    static QueryClause and(List<QueryClause> clauses) {
+        List<QueryClause> flat = new ArrayList<>();
+        for (QueryClause c : clauses) {
+            if (c instanceof And) flat.addAll(Arrays.asList(((And) c).children));
+            else flat.add(c);
+        }
+        return flat.size() == 1 ? flat.get(0) : new And(flat);
+    }
+
+    /**
+     * Combines clauses with OR, flattening nested ORs and ordering the
+     * result cheapest first.
+     */
+    static QueryClause or(List<QueryClause> clauses) {
+        List<QueryClause> flat = new ArrayList<>();
+        for (QueryClause c : clauses) {
+            if (c instanceof Or) flat.addAll(Arrays.asList(((Or) c).children));
+            else flat.add(c);
+        }
+        return flat.size() == 1 ? flat.get(0) : new Or(flat);
+    }
+
+    static QueryClause not(QueryClause clause) {
+        return clause instanceof Not ? ((Not) clause).child : new Not(clause);
+    }
+
+    /**
+     * Finds {@code part} in {@code text} at or after {@code from}, comparing
+     * case-insensitively unless the text is already lower case.
+     */
+    static int indexOf(String text, String part, int from, boolean folded) {
+        if (folded) return text.indexOf(part, from);
+        for (int i = from; i + part.length() <= text.length(); i++) {
+            if (text.regionMatches(true, i, part, 0, part.length())) return i;
+        }
+        return -1;
+    }
+
+    static boolean regionMatches(String text, int offset, String part, boolean folded) {
+        return offset >= 0 && text.regionMatches(!folded, offset, part, 0, part.length());
+    }
+
+    /**
+     * Base of the clauses that test one field against a pattern.
+     */
+    private abstract static class FieldMatch extends QueryClause {
+
+        final QueryField field;
+        final String pattern;
+
+        FieldMatch(QueryField field, String pattern) {
+            this.field = field;
+            this.pattern = pattern;
+        }
+
+        @Override
+        final boolean test(Contact contact) {
+            return matches(field.valueOf(contact));
+        }
+
+        abstract boolean matches(String text);
+
+        /**
+         * Adds one to the cost of fields that are compared ignoring case.
+         */
+        int fieldCost() {
+            return field.folded ? 0 : 1;
+        }
+
+        @Override
+        public String toString() {
+            boolean quote = pattern.isEmpty() || pattern.chars().anyMatch(ch -> Character.isWhitespace(ch)
+                || ch == '(' || ch == ')' || ch == '"');
+            return field.label + ":" + (quote ? "\"" + pattern + "\"" : pattern);
+        }
+    }
+
+    private static final class Exact extends FieldMatch {
+
+        Exact(QueryField field, String literal) {
+            super(field, literal);
+        }
+
+        @Override
+        boolean matches(String text) {
+            return field.folded ? text.equals(pattern) : text.equalsIgnoreCase(pattern);
+        }
+
+        @Override
+        int cost() {
+            return 1 + fieldCost();
+        }
+    }
+
+    private static final class Prefix extends FieldMatch {
+
+        private final String literal;
+
+        Prefix(QueryField field, String literal) {
+            super(field, literal + "*");
+            this.literal = literal;
+        }
+
+        @Override
+        boolean matches(String text) {
+            return regionMatches(text, 0, literal, field.folded);
+        }
+
+        @Override
+        int cost() {
+            return 2 + fieldCost();
+        }
+    }
+
+    private static final class Suffix extends FieldMatch {
+
+        private final String literal;
+
+        Suffix(QueryField field, String literal) {
+            super(field, "*" + literal);
+            this.literal = literal;
+        }
+
+        @Override
+        boolean matches(String text) {
+            return regionMatches(text, text.length() - literal.length(), literal, field.folded);
+        }
+
+        @Override
+        int cost() {
+            return 2 + fieldCost();
+        }
+    }
+
+    private static final class Contains extends FieldMatch {
+
+        private final String literal;
+
+        Contains(QueryField field, String literal) {
+            super(field, "*" + literal + "*");
+            this.literal = literal;
+        }
+
+        @Override
+        boolean matches(String text) {
+            return indexOf(text, literal, 0, field.folded) >= 0;
+        }
+
+        @Override
+        int cost() {
+            return 4 + 2 * fieldCost();
+        }
+    }
+
+    /**
+     * A pattern with wildcards between literals, matched left to right.
+     */
+    private static final class Glob extends FieldMatch {
+
+        private final String[] literals;
+        private final boolean anchoredStart;
+        private final boolean anchoredEnd;
+
+        Glob(QueryField field, String pattern, List<String> literals, boolean anchoredStart, boolean anchoredEnd) {
+            super(field, pattern);
+            this.literals = literals.toArray(new String[0]);
+            this.anchoredStart = anchoredStart;
+            this.anchoredEnd = anchoredEnd;
+        }
+
+        @Override
+        boolean matches(String text) {
+            int first = 0;
+            int last = literals.length;
+            int position = 0;
+            if (anchoredStart) {
+                if (!regionMatches(text, 0, literals[0], field.folded)) return false;
+                position = literals[0].length();
+                first = 1;
+            }
+            int end = text.length();
+            if (anchoredEnd) {
+                String tail = literals[literals.length - 1];
+                end -= tail.length();
+                if (end < position || !regionMatches(text, end, tail, field.folded)) return false;
+                last--;
+            }
+            for (int i = first; i < last; i++) {
+                int found = indexOf(text, literals[i], position, field.folded);
+                if (found < 0 || found + literals[i].length() > end) return false;
+                position = found + literals[i].length();
+            }
+            return true;
+        }
+
+        @Override
+        int cost() {
+            return 6 + 2 * fieldCost();
+        }
+    }
+
+    /**
+     * A lone wildcard, which matches every value.
+     */
+    private static final class Any extends FieldMatch {
+
+        Any(QueryField field) {
+            super(field, "*");
+        }
+
+        @Override
+        boolean matches(String text) {
+            return true;
+        }
+
+        @Override
+        int cost() {
+            return 0;
+        }
+    }
+
+    private static final class Not extends QueryClause {
+
+        private final QueryClause child;
+
+        Not(QueryClause child) {
+            this.child = child;
+        }
+
+        @Override
+        boolean test(Contact contact) {
+            return !child.test(contact);
+        }
+
+        @Override
+        int cost() {
+            return child.cost();
+        }
+
+        @Override
+        public String toString() {
+            return "NOT " + child;
+        }
+    }
+
+    /**
+     * Base of AND and OR, which hold their children cheapest first.
+     */
+    private abstract static class Group extends QueryClause {
+
+        final QueryClause[] children;
+        private final int cost;
+
+        Group(List<QueryClause> clauses) {
+            children = clauses.toArray(new QueryClause[0]);
+            Arrays.sort(children, Comparator.comparingInt(QueryClause::cost)); // Stable for equal costs
+            cost = Arrays.stream(children).mapToInt(QueryClause::cost).sum();
+        }
+
+        @Override
+        int cost() {
+            return cost;
+        }
+
+        String join(String operator) {
+            StringJoiner joined = new StringJoiner(" " + operator + " ", "(", ")");
+            for (QueryClause c : children) joined.add(c.toString());
+            return joined.toString();
+        }
+    }
+
+    private static final class And extends Group {
+
+        And(List<QueryClause> clauses) {
+            super(clauses);
+        }
+
+        @Override
+        boolean test(Contact contact) {
+            for (QueryClause c : children) {
+                if (!c.test(contact)) return false;
+            }
+            return true;
+        }
+
+        @Override
+        public String toString() {
+            return join("AND");
+        }
+    }
+
+    private static final class Or extends Group {
+
+        Or(List<QueryClause> clauses) {
+            super(clauses);
+        }
+
+        @Override
+        boolean test(Contact contact) {
+            for (QueryClause c : children) {
+                if (c.test(contact)) return true;
+            }
+            return false;
+        }
+
+        @Override
+        public String toString() {
+            return join("OR");
+        }
+    }
+}
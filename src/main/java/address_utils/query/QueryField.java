@@ -0,0 +1,77 @@
+/*
+ * Author: James Stevens
+ * Date: 01 July 2025
+ * Course: SWEN 656 - Advanced Software Design and Implementation
+ *
+ * Copyright (c) 2025 James Stevens
+ * This file is part of the Address Book project and may not be used, copied,
+ * modified, or distributed without permission.
+ */
+
+package address_utils.query;
+
+import java.util.function.Function;
+
+import address_book.Contact;
+
+/**
+ * The contact fields a query can name.
+ *
+ * Fields that {@link Contact} caches in lower case are read in that form, so
+ * matching them needs no case conversion; the others are compared ignoring
+ * case character by character.
+ *
+ * @author James Stevens
+ * @version 1.0
+ * @since 2025-07-01
+ */
+enum QueryField {
+
+    FIRST("first", Contact::getFoldedFirstName, true),
+    LAST("last", Contact::getFoldedLastName, true),
+    FULL("full", Contact::getFoldedFullName, true),
+    STREET("street", Contact::getStreet, false),
+    CITY("city", Contact::getCity, false),
+    STATE("state", Contact::getState, false),
+    ZIP("zip", Contact::getZipCode, false),
+    PHONE("phone", Contact::getFoldedPhone, true),
+    EMAIL("email", Contact::getFoldedEmail, true);
+
+    final String label;
+    final boolean folded;
+    private final Function<Contact, String> accessor;
+
+    QueryField(String label, Function<Contact, String> accessor, boolean folded) {
+        this.label = label;
+        this.accessor = accessor;
+        this.folded = folded;
+    }
+
+    /**
+     * Reads this field from a contact, never returning null.
+     */
+    String valueOf(Contact contact) {
+        String value = accessor.apply(contact);
+        return value != null ? value : "";
+    }
+
+    /**
+     * Looks up a field by the name used in queries.
+     *
+     * @param name a field name such as "last"; "name" and "zipcode" are accepted as aliases
+     * @return the field, or null if the name is unknown
+     */
+    static QueryField named(String name) {
+        switch (name.toLowerCase()) {
+            case "name":
+                return FULL;
+            case "zipcode":
+                return ZIP;
+            default:
+                for (QueryField field : values()) {
+                    if (field.label.equals(name.toLowerCase())) return field;
+                }
+                return null;
+        }
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Author: James Stevens
+ * Date: 01 July 2025
+ * Course: SWEN 656 - Advanced Software Design and Implementation
+ *
+ * Copyright (c) 2025 James Stevens
+ * This file is part of the Address Book project and may not be used, copied,
+ * modified, or distributed without permission.
+ */
+
+package address_utils.query;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Recursive-descent parser for the contact query language.
+ *
+ * Grammar, lowest precedence first; keywords are case-insensitive and
+ * adjacent clauses without an operator are joined with AND:
+ * <pre>
+ * query   := or
+ * or      := and ("OR" and)*
+ * and     := unary (["AND"] unary)*
+ * unary   := "NOT" unary | "(" or ")" | field ":" value
+ * value   := word | '"' text '"'
+ * </pre>
+ *
+ * @author James Stevens
+ * @version 1.0
+ * @since 2025-07-01
+ */
+final class QueryParser {
+
+    private final String text;
+    private int position;
+
+    private QueryParser(String text) {
+        this.text = text;
+    }
+
+    /**
+     * Parses and compiles a query.
+     *
+     * @param text the query text
+     * @return the root clause
+     * @throws IllegalArgumentException if the query is malformed
+     */
+    static QueryClause parse(String text) {
+        QueryParser parser = new QueryParser(text);
+        QueryClause root = parser.parseOr();
+        parser.skipSpaces();
+        if (parser.position < text.length()) {
+            throw parser.error("Unexpected '" + text.charAt(parser.position) + "'");
+        }
+        return root;
+    }
+
+    private QueryClause parseOr() {
+        List<QueryClause> clauses = new ArrayList<>();
+        clauses.add(parseAnd());
+        while (acceptKeyword("OR")) {
+            clauses.add(parseAnd());
+        }
+        return QueryClause.or(clauses);
+    }
+
+    private QueryClause parseAnd() {
+        List<QueryClause> clauses = new ArrayList<>();
+        clauses.add(parseUnary());
+        while (true) {
+            if (acceptKeyword("AND")) {
+                clauses.add(parseUnary());
+            } else if (startsClause()) {
+                clauses.add(parseUnary()); // Implicit AND
+            } else {
+                return QueryClause.and(clauses);
+            }
+        }
+    }
+
+    private QueryClause parseUnary() {
+        skipSpaces();
+        if (acceptKeyword("NOT")) {
+            return QueryClause.not(parseUnary());
+        }
+        if (accept('(')) {
+            QueryClause inner = parseOr();
+            skipSpaces();
+            if (!accept(')')) throw error("Missing ')'");
+            return inner;
+        }
+        return parseTerm();
+    }
+
+    private QueryClause parseTerm() {
+        int start = position;
+        while (position < text.length() && isWordChar(text.charAt(position)) && text.charAt(position) != ':') {
+            position++;
+        }
+        String name = text.substring(start, position);
+        if (name.isEmpty()) {
+            throw error(position < text.length() ? "Unexpected '" + text.charAt(position) + "'" : "Unexpected end of query");
+        }
+        if (!accept(':')) throw error("Expected field:value but found '" + name + "'");
+
+        QueryField field = QueryField.named(name);
+        if (field == null) throw error("Unknown field '" + name + "'");
+        return QueryClause.match(field, parseValue());
+    }
+
+    private String parseValue() {
+        if (accept('"')) {
+            int end = text.indexOf('"', position);
+            if (end < 0) throw error("Missing closing quote");
+            String value = text.substring(position, end);
+            position = end + 1;
+            return value;
+        }
+        int start = position;
+        while (position < text.length() && isWordChar(text.charAt(position))) {
+            position++;
+        }
+        if (start == position) throw error("Missing value");
+        return text.substring(start, position);
+    }
+
+    /**
+     * Consumes a keyword if it appears next as a whole word.
+     */
+    private boolean acceptKeyword(String keyword) {
+        skipSpaces();
+        int end = position + keyword.length();
+        if (text.regionMatches(true, position, keyword, 0, keyword.length())
+                && (end == text.length() || !isWordChar(text.charAt(end)))) {
+            position = end;
+            return true;
+        }
+        return false;
+    }
+
+    private boolean accept(char ch) {
+        if (position < text.length() && text.charAt(position) == ch) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Indicates whether another clause follows without an operator.
+     */
+    private boolean startsClause() {
+        skipSpaces();
+        if (position >= text.length()) return false;
+        char ch = text.charAt(position);
+        if (ch == ')') return false;
+        int save = position;
+        boolean isOr = acceptKeyword("OR");
+        position = save;
+        return !isOr;
+    }
+
+    private void skipSpaces() {
+        while (position < text.length() && Character.isWhitespace(text.charAt(position))) {
+            position++;
+        }
+    }
+
+    private static boolean isWordChar(char ch) {
+        return !Character.isWhitespace(ch) && ch != '(' && ch != ')' && ch != '"';
+    }
+
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException(message + " at position " + (position + 1));
+    }
+}
@@ -12,7 +12,13 @@
 package address_utils.storage;
 
 import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.function.LongConsumer;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
 
 import address_book.Contact;
 import address_utils.formatter.ContactCSVFormatter;
@@ -21,6 +27,8 @@ import io.AppPaths;
 import io.FileLoader;
 import io.FileParser;
 import io.FileSaver;
+import io.ParallelFileParser;
+import utilities.ConfigUtil;
 
 /**
  * Handles file-based persistence for the Address Book.
@@ -28,11 +36,38 @@ import io.FileSaver;
  * Provides methods to:
  * - Save a list of contacts to a CSV file
  * - Load contacts from a CSV file into memory
+ * - Record individual mutations in a {@link ContactJournal}
+ * - Keep a binary {@link ContactSnapshot} alongside the CSV file
  * 
  * Uses {@link ContactCSVFormatter} for formatting and
  * {@link ContactLineParser} for parsing contact data.
  * 
- * The file path is centrally managed via {@link AppPaths#ADDRESS_BOOK_FILE}.
+ * Single adds, deletes, and updates are appended to the journal rather than
+ * rewriting the CSV file. The journal is replayed on load and folded back into
+ * the CSV file (compaction) whenever a save runs; {@link #needsCompaction()}
+ * reports when the journal has grown large enough to warrant one. Saves may run on a
+ * background thread: {@link #beginSave(List)} seals the journal and captures
+ * the contacts, and {@link #completeSave(PendingSave)} writes them durably.
+ * The CSV header and the snapshot record the newest journal generation they
+ * reflect, so records already saved are not replayed a second time.
+ * 
+ * Every save also writes a binary snapshot that records the size and
+ * modification time of the CSV file written with it. On load, the snapshot
+ * is used instead of the CSV file while both still match, which skips text
+ * parsing and validation entirely. The CSV file remains the human-readable
+ * import/export format: editing, replacing, or removing it by hand means the
+ * snapshot no longer matches, so the CSV file is read on the next start.
+ * 
+ * In sharded mode the contacts are instead split across several CSV files
+ * by a {@link ShardedContactStore}, and a save rewrites only the shards
+ * touched since the previous save.
+ * 
+ * CSV files can be stored gzip-compressed. The format follows the file
+ * extension, and files are compressed and decompressed as they stream.
+ * 
+ * The file paths are centrally managed via {@link AppPaths#ADDRESS_BOOK_FILE},
+ * {@link AppPaths#COMPRESSED_ADDRESS_BOOK_FILE}, {@link AppPaths#JOURNAL_FILE}, {@link AppPaths#SNAPSHOT_FILE}, and
+ * {@link AppPaths#SHARD_DIRECTORY}.
  * 
  * @author James Stevens
  * @version 1.0
@@ -40,49 +75,377 @@ import io.FileSaver;
  */
 public class AddressBookStorage {
 
+    // CSV size above which the file is memory-mapped and parsed in parallel
+    private static final long PARALLEL_LOAD_THRESHOLD = 32L * 1024 * 1024;
+
+    private final ContactJournal journal = new ContactJournal(AppPaths.JOURNAL_FILE);
+    private final int compactionThreshold = ConfigUtil.getInt("addressbook.journal.compact.threshold", 1000);
+    private final ContactSnapshot snapshot = new ContactSnapshot(AppPaths.SNAPSHOT_FILE);
+
+    // CSV file written by saves, and the file in the other format it replaces
+    private final Path file;
+    private final Path alternateFile;
+
+    // Present only in sharded mode
+    private final ShardedContactStore shards;
+
+    /**
+     * Creates storage in single-file mode, or in sharded mode when the
+     * {@code addressbook.storage.shards} setting is a positive shard count.
+     * When the {@code addressbook.storage.compress} setting is true, CSV
+     * files are stored gzip-compressed.
+     */
+    public AddressBookStorage() {
+        boolean compress = ConfigUtil.getBoolean("addressbook.storage.compress", false);
+        this.file = compress ? AppPaths.COMPRESSED_ADDRESS_BOOK_FILE : AppPaths.ADDRESS_BOOK_FILE;
+        this.alternateFile = compress ? AppPaths.ADDRESS_BOOK_FILE : AppPaths.COMPRESSED_ADDRESS_BOOK_FILE;
+
+        int shardCount = ConfigUtil.getInt("addressbook.storage.shards", 0);
+        this.shards = shardCount > 0
+            ? new ShardedContactStore(AppPaths.SHARD_DIRECTORY, shardCount, compress)
+            : null;
+    }
+
     /**
      * Saves a list of contacts to a CSV file.
      * 
-     * The output includes a header row and each contact formatted into CSV.
-     * If the save operation fails, an error message is printed to the console.
+     * Equivalent to {@link #beginSave(List)} followed by
+     * {@link #completeSave(PendingSave)}, for callers with no concurrent mutations.
      * 
      * @param contacts the list of contacts to save
      */
     public void save(List<Contact> contacts) {
-        List<String> lines = new ArrayList<>();
-        lines.add(ContactCSVFormatter.header());
-        for (Contact c : contacts) {
-            lines.add(ContactCSVFormatter.toCSV(c));
+        completeSave(beginSave(contacts));
+    }
+
+    /**
+     * Seals the journal records the contacts already reflect and captures
+     * the contacts for a save, so the save itself can run on another thread.
+     * 
+     * Must be called while no mutation is in progress. Mutations recorded
+     * afterwards go to a fresh journal and survive the save. In sharded
+     * mode only the contacts of shards changed since the last save are
+     * captured. If the journal cannot be sealed nothing is captured, and
+     * the returned save fails without writing.
+     * 
+     * @param contacts the live list of contacts
+     * @return the captured save to pass to {@link #completeSave(PendingSave)}
+     */
+    public PendingSave beginSave(List<Contact> contacts) {
+        long generation;
+        try {
+            generation = journal.rotate();
+        } catch (IOException e) {
+            return () -> {
+                throw new IOException("Journal could not be sealed: " + e.getMessage(), e);
+            };
         }
+
+        PendingSave write;
+        if (shards != null) {
+            write = shards.capture(contacts, generation);
+        } else {
+            List<Contact> copy = new ArrayList<>(contacts.size());
+            for (Contact c : contacts) {
+                copy.add(new Contact(c));
+            }
+            write = () -> {
+                writeContacts(file, snapshot, copy, generation);
+                FileSaver.deleteFile(alternateFile); // Superseded by the file just written
+            };
+        }
+        return () -> {
+            write.write();
+            journal.discardRotated(generation);
+        };
+    }
+
+    /**
+     * Writes a save captured by {@link #beginSave(List)}.
+     * 
+     * Once written, the sealed journal records are discarded since the
+     * files on disk now reflect them. If the save operation fails, an error
+     * message is printed to the console and the sealed records are kept
+     * for replay.
+     * 
+     * @param pending the save returned by {@link #beginSave(List)}
+     */
+    public void completeSave(PendingSave pending) {
         try {
-            FileSaver.saveLines(AppPaths.ADDRESS_BOOK_FILE, lines);
+            pending.write();
         } catch (IOException e) {
             System.out.println("Error saving contacts: " + e.getMessage());
         }
     }
 
     /**
-     * Loads contacts from the CSV file.
+     * Writes contacts to a CSV file and its binary snapshot.
      * 
-     * If the file exists, it parses the lines (excluding the header if present)
-     * and returns a list of valid Contact objects. If loading fails, it
-     * returns an empty list.
+     * The output includes a header row naming the journal generation and
+     * each contact formatted into CSV. It is written durably: to a temporary file that is flushed to disk and
+     * then atomically renamed over the CSV file. The binary snapshot is then
+     * rewritten from the same contacts. A failed snapshot write is reported
+     * but does not fail the save, as the older snapshot no longer matches
+     * the CSV file and is ignored in its favor.
+     * 
+     * @param file              the CSV file to replace
+     * @param snapshot          the snapshot kept alongside it
+     * @param contacts          the contacts to write
+     * @param journalGeneration the newest journal generation the contacts reflect
+     * @throws IOException if the CSV file cannot be written
+     */
+    static void writeContacts(Path file, ContactSnapshot snapshot, List<Contact> contacts, long journalGeneration)
+            throws IOException {
+        Iterable<String> lines = () -> Stream.concat(
+            Stream.of(ContactCSVFormatter.header(journalGeneration)),
+            contacts.stream().map(ContactCSVFormatter::toCSV)).iterator();
+        FileSaver.saveLinesAtomically(file, lines);
+        try {
+            snapshot.write(contacts, file, journalGeneration);
+        } catch (IOException e) {
+            System.out.println("Error saving snapshot: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Loads contacts from the binary snapshot or the CSV file.
+     * 
+     * A snapshot written alongside the CSV file as it now is is read first. If
+     * there is none, or it fails validation, and the CSV file exists, it
+     * streams the lines (excluding the header if present) into a list of
+     * valid Contact objects. Either way, the journaled mutations not yet
+     * reflected in the files are then replayed on top of them. Lines are parsed as they are read, so the raw
+     * file contents are never held in memory. Files larger than
+     * {@value #PARALLEL_LOAD_THRESHOLD} bytes are instead memory-mapped and
+     * parsed in parallel by a {@link ParallelFileParser}. If loading fails,
+     * it returns an empty list.
+     * 
+     * In sharded mode every shard is loaded this way, in parallel. An
+     * existing single-file address book is loaded instead when no shard
+     * files exist yet, and is split into shards by the next save.
      * 
      * @return a list of contacts or an empty list on error
      */
     public List<Contact> load() {
         try {
-            List<String> lines = FileLoader.loadLines(AppPaths.ADDRESS_BOOK_FILE);
-            if (!lines.isEmpty() && lines.get(0).toLowerCase().contains("first name")) {
-                lines.remove(0); // Skip header
+            List<Contact> contacts = shards != null ? shards.load() : null;
+            long latestSaved;
+            ToLongFunction<Contact> savedGeneration;
+            if (contacts != null) {
+                latestSaved = shards.latestGeneration();
+                savedGeneration = shards::savedGeneration;
+            } else {
+                long[] generation = new long[1];
+                contacts = readContacts(newestFile(), snapshot, g -> generation[0] = g);
+                if (shards != null) shards.markAllDirty();
+                latestSaved = generation[0];
+                savedGeneration = c -> generation[0];
             }
-            FileParser<Contact> parser = new FileParser<>(",", new ContactLineParser());
-            return parser.parseLines(lines);
+            journal.replay(contacts, latestSaved, savedGeneration);
+            if (shards != null && journal.size() > 0) {
+                shards.markAllDirty(); // Replayed records may touch any shard
+            }
+            return contacts;
         } catch (IOException e) {
             System.out.println("Error loading contacts: " + e.getMessage());
             return new ArrayList<>();
         }
     }
-}
 
+    /**
+     * Chooses between the plain and compressed CSV files, so switching the
+     * compression setting picks up the file written before the switch.
+     * 
+     * @return the more recently written file, preferring the configured one
+     * @throws IOException if file times cannot be read
+     */
+    private Path newestFile() throws IOException {
+        if (!FileLoader.fileExists(alternateFile)) return file;
+        if (!FileLoader.fileExists(file)) return alternateFile;
+        return Files.getLastModifiedTime(alternateFile).compareTo(Files.getLastModifiedTime(file)) > 0
+            ? alternateFile : file;
+    }
+
+    /**
+     * Reads contacts from a snapshot if it is current, otherwise from the CSV file.
+     * 
+     * @param file              the CSV file
+     * @param snapshot          the snapshot kept alongside it
+     * @param journalGeneration receives the journal generation the file was
+     *                          saved with; not called if it has none
+     * @return the contacts, or an empty list if neither file exists
+     * @throws IOException if a file cannot be read
+     */
+    static List<Contact> readContacts(Path file, ContactSnapshot snapshot, LongConsumer journalGeneration)
+            throws IOException {
+        if (snapshot.isCurrentFor(file)) {
+            List<Contact> contacts = snapshot.read();
+            if (contacts != null) {
+                journalGeneration.accept(snapshot.journalGeneration());
+                return contacts;
+            }
+        }
+        return readCsv(file, journalGeneration);
+    }
+
+    /**
+     * Reads every contact from a CSV file, choosing streaming or parallel
+     * parsing by file size. Compressed files are always streamed.
+     * 
+     * @param file              the CSV file
+     * @param journalGeneration receives the journal generation named in the header
+     * @return the contacts in file order, or an empty list if there is no file
+     * @throws IOException if the file cannot be read
+     */
+    private static List<Contact> readCsv(Path file, LongConsumer journalGeneration) throws IOException {
+        List<Contact> contacts = new ArrayList<>();
+        if (FileLoader.fileExists(file)) {
+            if (!FileLoader.isCompressed(file) && FileLoader.fileSize(file) >= PARALLEL_LOAD_THRESHOLD) {
+                contacts = readCsvParallel(file, journalGeneration);
+            } else {
+                readCsv(file, contacts, journalGeneration);
+            }
+        }
+        return contacts;
+    }
+
+    /**
+     * Streams contacts from a CSV file into the given list.
+     * 
+     * @param file              the CSV file
+     * @param contacts          the list receiving parsed contacts
+     * @param journalGeneration receives the journal generation named in the header
+     * @throws IOException if the file cannot be read
+     */
+    private static void readCsv(Path file, List<Contact> contacts, LongConsumer journalGeneration)
+            throws IOException {
+        try (BufferedReader reader = FileLoader.openReader(file)) {
+            if (reader == null) return;
+            FileParser<Contact> parser = new FileParser<>(',', new ContactLineParser());
+            parser.parse(reader, header(journalGeneration), contacts::add);
+        }
+    }
+
+    /**
+     * Parses a CSV file in parallel chunks.
+     * 
+     * @param file              the CSV file
+     * @param journalGeneration receives the journal generation named in the header
+     * @return the contacts in file order
+     * @throws IOException if the file cannot be read
+     */
+    private static List<Contact> readCsvParallel(Path file, LongConsumer journalGeneration) throws IOException {
+        ParallelFileParser<Contact> parser = new ParallelFileParser<>(',', new ContactLineParser());
+        List<Contact> contacts = parser.parse(file, header(journalGeneration));
+        return contacts != null ? contacts : new ArrayList<>();
+    }
+
+    /**
+     * Recognizes the header record and passes on the journal generation it names.
+     */
+    private static Predicate<String[]> header(LongConsumer journalGeneration) {
+        return tokens -> {
+            if (!isHeader(tokens[0])) return false;
+            for (String token : tokens) {
+                if (!token.startsWith(ContactCSVFormatter.JOURNAL_COLUMN)) continue;
+                try {
+                    journalGeneration.accept(Long.parseLong(token.substring(ContactCSVFormatter.JOURNAL_COLUMN.length())));
+                } catch (NumberFormatException e) {
+                    // Not written by a save; the file reflects no journal generation
+                }
+            }
+            return true;
+        };
+    }
+
+    /**
+     * Checks whether the start of the file is the CSV header row.
+     * 
+     * @param text the first line or first field of the file
+     * @return true if it is the header
+     */
+    private static boolean isHeader(String text) {
+        return text.toLowerCase().contains("first name");
+    }
+
+    /**
+     * Records a newly added contact in the journal, and in sharded mode
+     * marks its shard for rewriting.
+     * 
+     * @param contact the contact that was added
+     */
+    public void recordAdd(Contact contact) {
+        if (shards != null) shards.markDirty(contact);
+        try {
+            journal.appendAdd(contact);
+        } catch (IOException e) {
+            System.out.println("Error recording added contact: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Records several deleted contacts in the journal with a single write,
+     * and in sharded mode marks their shards for rewriting.
+     * 
+     * @param contacts the deleted contacts
+     */
+    public void recordDeletes(List<Contact> contacts) {
+        if (contacts.isEmpty()) return;
+        if (shards != null) contacts.forEach(shards::markDirty);
+        try {
+            journal.appendDeletes(contacts);
+        } catch (IOException e) {
+            System.out.println("Error recording deleted contacts: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Records an updated contact in the journal, and in sharded mode
+     * marks its shards for rewriting.
+     * 
+     * @param before a snapshot of the contact prior to the update
+     * @param after  the contact after the update
+     */
+    public void recordUpdate(Contact before, Contact after) {
+        if (shards != null) {
+            shards.markDirty(before); // A renamed contact moves between shards
+            shards.markDirty(after);
+        }
+        try {
+            journal.appendUpdate(before, after);
+        } catch (IOException e) {
+            System.out.println("Error recording updated contact: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Records that loaded contacts were given new IDs, so the next save
+     * writes them. In sharded mode every shard is marked for rewriting,
+     * since the renumbered contacts may be in any of them.
+     */
+    public void recordAssignedIds() {
+        if (shards != null) shards.markAllDirty();
+    }
 
+    /**
+     * Indicates whether the files on disk do not yet reflect every change:
+     * the last {@link #load()} replayed journal records, mutations have been
+     * recorded since, or, in sharded mode, shards are waiting to be rewritten.
+     * 
+     * @return true if a save would write outstanding changes
+     */
+    public boolean hasUnsavedChanges() {
+        return journal.size() > 0 || (shards != null && shards.isDirty());
+    }
+
+    /**
+     * Indicates whether the journal has grown large enough that it should be
+     * folded into the CSV file or shards by a save. The threshold is the
+     * {@code addressbook.journal.compact.threshold} setting (default 1000 records).
+     * 
+     * @return true if compaction is recommended
+     */
+    public boolean needsCompaction() {
+        return journal.size() >= compactionThreshold;
+    }
+}
@@ -0,0 +1,436 @@
+/*
+ * Author: James Stevens
+ * Date: 01 July 2025
+ * Course: SWEN 656 - Advanced Software Design and Implementation
+ *
+ * Copyright (c) 2025 James Stevens
+ * This file is part of the Address Book project and may not be used, copied,
+ * modified, or distributed without permission.
+ */
+
+package address_utils.storage;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.function.ToLongFunction;
+
+import address_book.Contact;
+import address_utils.formatter.ContactCSVFormatter;
+import address_utils.parser.ContactLineParser;
+import io.CsvTokenizer;
+import io.FileLoader;
+import io.FileSaver;
+
+/**
+ * Append-only write-ahead journal of contact mutations.
+ *
+ * Each add, delete, or update is appended to the journal file as a single
+ * record instead of rewriting the whole address book. On startup the journal
+ * is replayed on top of the contacts loaded from the CSV file, and it is
+ * cleared whenever the CSV file is rewritten (compaction).
+ *
+ * Record format (one record per mutation, contacts in CSV form):
+ * <pre>
+ * ADD,&lt;contact&gt;
+ * DELETE,&lt;contact&gt;
+ * UPDATE,&lt;contact before&gt;
+ * TO,&lt;contact after&gt;
+ * </pre>
+ * Deleted and updated contacts are identified by their eight fields, not
+ * their ID: a book loaded from a file saved before IDs existed is given
+ * new IDs on every load until it is saved, so journaled IDs may not match.
+ *
+ * A save that runs in the background seals the journal first with
+ * {@link #rotate()}: the current records are atomically renamed to a sealed
+ * file numbered with the next journal generation, new mutations start a
+ * fresh journal, and sealed files are discarded with
+ * {@link #discardRotated(long)} once the save is on disk. If the save never
+ * completes, the sealed records are replayed, oldest generation first,
+ * ahead of the fresh journal.
+ *
+ * A save records the newest generation it covers in the files it writes.
+ * Replay skips a sealed record when the file holding its contact was saved
+ * with that generation or a later one, so a crash between writing the files
+ * and discarding the sealed journal does not apply the records twice. Added
+ * contacts whose ID is already present are skipped as well.
+ *
+ * Records are read with a {@link CsvTokenizer}, so quoted fields round-trip.
+ * Incomplete records left behind by an interrupted write are ignored.
+ *
+ * @author James Stevens
+ * @version 1.0
+ * @since 2025-07-01
+ */
+public class ContactJournal {
+
+    private static final String ADD = "ADD";
+    private static final String DELETE = "DELETE";
+    private static final String UPDATE = "UPDATE";
+    private static final String UPDATE_TO = "TO";
+
+    // Generation of records in the live journal, which is never covered by a save
+    private static final long LIVE = Long.MAX_VALUE;
+
+    private final Path path;
+    private final ContactLineParser parser = new ContactLineParser();
+
+    // Number of records appended since the journal was last cleared
+    private int records;
+
+    // Generation the live journal will be sealed as
+    private long generation;
+
+    /**
+     * Creates a journal backed by the given file. Sealed files are kept
+     * beside it, named after it with their generation appended.
+     *
+     * @param path the journal file location
+     */
+    public ContactJournal(Path path) {
+        this.path = path;
+        try {
+            List<Long> sealed = sealedGenerations();
+            this.generation = sealed.isEmpty() ? 1 : sealed.get(sealed.size() - 1) + 1;
+        } catch (IOException e) {
+            this.generation = 1; // Raised past every saved generation by replay
+        }
+    }
+
+    /**
+     * Appends an add record for the given contact.
+     *
+     * @param contact the contact that was added
+     * @throws IOException if the journal cannot be written
+     */
+    public void appendAdd(Contact contact) throws IOException {
+        append(List.of(ADD + "," + ContactCSVFormatter.toCSV(contact)));
+    }
+
+    /**
+     * Appends a delete record for each of the given contacts in one write.
+     *
+     * @param contacts the contacts that were deleted
+     * @throws IOException if the journal cannot be written
+     */
+    public void appendDeletes(List<Contact> contacts) throws IOException {
+        List<String> lines = new ArrayList<>(contacts.size());
+        for (Contact c : contacts) lines.add(DELETE + "," + ContactCSVFormatter.toCSV(c));
+        FileSaver.appendLines(path, lines);
+        records += contacts.size();
+    }
+
+    /**
+     * Appends an update record holding both versions of a contact.
+     *
+     * @param before a snapshot of the contact prior to the update
+     * @param after  the contact after the update
+     * @throws IOException if the journal cannot be written
+     */
+    public void appendUpdate(Contact before, Contact after) throws IOException {
+        append(List.of(
+            UPDATE + "," + ContactCSVFormatter.toCSV(before),
+            UPDATE_TO + "," + ContactCSVFormatter.toCSV(after)
+        ));
+    }
+
+    /**
+     * Replays every journal record onto the given list of contacts, which
+     * was loaded from files saved before any journal generation.
+     *
+     * @param contacts the contacts loaded from the base file; modified in place
+     * @return the number of records found
+     * @throws IOException if the journal exists but cannot be read
+     * @see #replay(List, long, ToLongFunction)
+     */
+    public int replay(List<Contact> contacts) throws IOException {
+        return replay(contacts, 0, c -> 0);
+    }
+
+    /**
+     * Replays the journal records not yet reflected in the base files onto
+     * the given list of contacts.
+     *
+     * Sealed records are replayed first, oldest generation first. A sealed
+     * record is skipped if the file holding its contact was saved with its
+     * generation or a later one; an update whose two versions live in
+     * different files is applied as a delete from one and an add to the
+     * other. Deletes and updates that refer to a contact not present in the
+     * list are skipped, as are adds of a contact whose ID is present. After
+     * replay, {@link #size()} reports the number of records found in the
+     * journal, including skipped ones.
+     *
+     * @param contacts        the contacts loaded from the base files; modified in place
+     * @param latestSaved     the newest generation recorded in any base file
+     * @param savedGeneration the generation recorded in the base file that holds a contact
+     * @return the number of records found
+     * @throws IOException if the journal exists but cannot be read
+     */
+    public int replay(List<Contact> contacts, long latestSaved, ToLongFunction<Contact> savedGeneration)
+            throws IOException {
+        records = 0;
+        Replay replay = new Replay(contacts, savedGeneration);
+        long newest = latestSaved;
+        for (long sealed : sealedGenerations()) {
+            replayFile(sealedPath(sealed), sealed, replay);
+            newest = Math.max(newest, sealed);
+        }
+        replayFile(path, LIVE, replay);
+        generation = Math.max(generation, newest + 1);
+        return records;
+    }
+
+    /**
+     * Replays the records of a single journal file, if it exists.
+     */
+    private void replayFile(Path file, long fileGeneration, Replay replay) throws IOException {
+        if (!FileLoader.fileExists(file)) return;
+
+        try (BufferedReader reader = FileLoader.openReader(file)) {
+            if (reader != null) replay(reader, fileGeneration, replay);
+        }
+    }
+
+    /**
+     * Applies the records read from one journal file to the list of contacts.
+     */
+    private void replay(BufferedReader reader, long fileGeneration, Replay replay) throws IOException {
+        Contact pendingUpdate = null;
+        boolean applyBefore = false;
+
+        CsvTokenizer tokenizer = new CsvTokenizer(reader, ',');
+        String[] tokens;
+        while ((tokens = tokenizer.nextRecord()) != null) {
+            if (tokens.length < 2) continue; // Truncated record
+            String op = tokens[0];
+            Contact contact = parser.parse(Arrays.copyOfRange(tokens, 1, tokens.length));
+            boolean apply = contact != null && replay.savedGeneration.applyAsLong(contact) < fileGeneration;
+
+            switch (op) {
+                case ADD: {
+                    if (apply) replay.add(contact);
+                    records++;
+                    break;
+                }
+                case DELETE: {
+                    if (apply) replay.remove(replay.take(contact));
+                    records++;
+                    break;
+                }
+                case UPDATE: {
+                    applyBefore = apply;
+                    pendingUpdate = apply ? replay.take(contact) : null;
+                    continue; // Completed by the following TO line
+                }
+                case UPDATE_TO: {
+                    if (applyBefore && apply) {
+                        if (pendingUpdate != null) replay.update(pendingUpdate, contact);
+                    } else if (applyBefore) {
+                        replay.remove(pendingUpdate); // The new version is already saved elsewhere
+                    } else if (apply) {
+                        replay.add(contact); // The old version is already gone from its file
+                    }
+                    records++;
+                    break;
+                }
+                default:
+                    break;
+            }
+            pendingUpdate = null;
+            applyBefore = false;
+        }
+
+        replay.finish();
+    }
+
+    /**
+     * Returns the number of records in the journal since it was last
+     * replayed or cleared.
+     *
+     * @return the journal record count
+     */
+    public int size() {
+        return records;
+    }
+
+    /**
+     * Removes all journal records, typically after the base file has been rewritten.
+     *
+     * @throws IOException if a journal file cannot be deleted
+     */
+    public void clear() throws IOException {
+        discardRotated(Long.MAX_VALUE);
+        FileSaver.deleteFile(path);
+        records = 0;
+    }
+
+    /**
+     * Seals the current records so a save can include them while new
+     * mutations go to a fresh journal. The journal file is renamed in one
+     * atomic step to a sealed file of its own, so records left sealed by an
+     * earlier save that did not complete are never copied.
+     *
+     * @return the newest sealed generation, which the save should record in
+     *         the files it writes
+     * @throws IOException if the journal cannot be moved
+     */
+    public long rotate() throws IOException {
+        if (FileLoader.fileExists(path)) {
+            Files.move(path, sealedPath(generation), StandardCopyOption.ATOMIC_MOVE);
+            generation++;
+        }
+        records = 0;
+        return generation - 1;
+    }
+
+    /**
+     * Discards the records sealed by {@link #rotate()} once the save that
+     * includes them has been written.
+     *
+     * @param upTo the generation returned by the {@link #rotate()} for that save
+     * @throws IOException if a sealed file cannot be deleted
+     */
+    public void discardRotated(long upTo) throws IOException {
+        for (long sealed : sealedGenerations()) {
+            if (sealed <= upTo) FileSaver.deleteFile(sealedPath(sealed));
+        }
+    }
+
+    private Path sealedPath(long sealedGeneration) {
+        return path.resolveSibling(path.getFileName() + "." + sealedGeneration);
+    }
+
+    /**
+     * Lists the generations of the sealed files on disk, oldest first.
+     */
+    private List<Long> sealedGenerations() throws IOException {
+        List<Long> generations = new ArrayList<>();
+        Path directory = path.toAbsolutePath().getParent();
+        if (directory == null || !Files.isDirectory(directory)) return generations;
+
+        String prefix = path.getFileName() + ".";
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, prefix + "*")) {
+            for (Path file : stream) {
+                String suffix = file.getFileName().toString().substring(prefix.length());
+                if (!suffix.isEmpty() && suffix.length() < 19 && suffix.chars().allMatch(Character::isDigit)) {
+                    generations.add(Long.parseLong(suffix));
+                }
+            }
+        }
+        Collections.sort(generations);
+        return generations;
+    }
+
+    /**
+     * Appends the lines of a single record to the journal file.
+     *
+     * @param lines the record lines
+     * @throws IOException if the journal cannot be written
+     */
+    private void append(List<String> lines) throws IOException {
+        FileSaver.appendLines(path, lines);
+        records++;
+    }
+
+    /**
+     * The state of one replay: the contacts being rebuilt, and lookups of
+     * them by fields and by ID. The lookups are built lazily, so journals
+     * containing only adds of new contacts pay for the ID set alone.
+     */
+    private static class Replay {
+
+        private final List<Contact> contacts;
+        private final ToLongFunction<Contact> savedGeneration;
+        private final Set<Contact> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+        private Map<String, Deque<Contact>> byRecord;
+        private Set<Long> ids;
+
+        Replay(List<Contact> contacts, ToLongFunction<Contact> savedGeneration) {
+            this.contacts = contacts;
+            this.savedGeneration = savedGeneration;
+        }
+
+        /**
+         * Adds a journaled contact unless a contact with its ID is present.
+         */
+        void add(Contact contact) {
+            if (ids == null) {
+                ids = new HashSet<>();
+                for (Contact c : contacts) {
+                    if (c.getId() != 0 && !removed.contains(c)) ids.add(c.getId());
+                }
+            }
+            if (contact.getId() != 0 && !ids.add(contact.getId())) return; // Already in the base file
+            contacts.add(contact);
+            if (byRecord != null) index(contact);
+        }
+
+        /**
+         * Finds and unindexes a present contact with the fields of a journaled one.
+         */
+        Contact take(Contact record) {
+            if (record == null) return null;
+            if (byRecord == null) {
+                byRecord = new HashMap<>();
+                for (Contact c : contacts) {
+                    if (!removed.contains(c)) index(c);
+                }
+            }
+            String csv = ContactCSVFormatter.fieldsToCSV(record);
+            Deque<Contact> matches = byRecord.get(csv);
+            if (matches == null) return null;
+            Contact contact = matches.poll();
+            if (matches.isEmpty()) byRecord.remove(csv);
+            return contact;
+        }
+
+        /**
+         * Removes a contact found by {@link #take(Contact)}; does nothing if none was found.
+         */
+        void remove(Contact contact) {
+            if (contact == null) return;
+            removed.add(contact);
+            if (ids != null) ids.remove(contact.getId());
+        }
+
+        /**
+         * Gives a contact found by {@link #take(Contact)} the fields of its new version.
+         */
+        void update(Contact contact, Contact newVersion) {
+            if (ids != null) ids.remove(contact.getId());
+            copyFields(newVersion, contact);
+            if (ids != null) ids.add(contact.getId());
+            index(contact);
+        }
+
+        /**
+         * Drops the removed contacts from the list.
+         */
+        void finish() {
+            if (!removed.isEmpty()) {
+                contacts.removeIf(removed::contains);
+                removed.clear();
+            }
+        }
+
+        private void index(Contact contact) {
+            byRecord.computeIfAbsent(ContactCSVFormatter.fieldsToCSV(contact), k -> new ArrayDeque<>()).add(contact);
+        }
+    }
+
+    private static void copyFields(Contact source, Contact target) {
+        if (source.getId() != 0) target.setId(source.getId());
+        target.setFirstName(source.getFirstName());
+        target.setLastName(source.getLastName());
+        target.setStreet(source.getStreet());
+        target.setCity(source.getCity());
+        target.setState(source.getState());
+        target.setZipCode(source.getZipCode());
+        target.setPhone(source.getPhone());
+        target.setEmail(source.getEmail());
+    }
+}
@@ -0,0 +1,382 @@
+/*
+ * Author: James Stevens
+ * Date: 01 July 2025
+ * Course: SWEN 656 - Advanced Software Design and Implementation
+ *
+ * Copyright (c) 2025 James Stevens
+ * This file is part of the Address Book project and may not be used, copied,
+ * modified, or distributed without permission.
+ */
+
+package address_utils.storage;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import address_book.Contact;
+import io.FileSaver;
+import utilities.StringPool;
+
+/**
+ * Compact binary snapshot of the address book used for fast startup.
+ *
+ * The CSV file remains the human-readable import/export format; the snapshot
+ * is a cache of it that avoids text parsing. Layout (big-endian):
+ * <pre>
+ * header:  magic "ABKS" (4 bytes), version (int), record count (int), CRC32 of body (long),
+ *          size (long) and last-modified time in milliseconds (long) of the CSV file,
+ *          newest journal generation the contacts reflect (long)
+ * body:    per contact, eight fields in CSV column order, each a varint tag:
+ *          even tag: a new value of (tag &gt;&gt; 1) UTF-8 bytes follows
+ *          odd tag:  repeats entry (tag &gt;&gt; 1) of the column's dictionary
+ *          then the contact's ID as a varint (0 if it has none)
+ * </pre>
+ * Each column keeps a dictionary of the first {@value #DICTIONARY_SIZE} distinct
+ * values it sees, in order of appearance, so frequently repeated values such
+ * as first names, cities, and states are stored and allocated once. On
+ * load, new cities, states, and ZIP codes also go through the shared
+ * {@link StringPool} of their column, so they are shared with contacts from
+ * other sources.
+ * A snapshot with the wrong magic, an unknown version, a record count that
+ * does not match the body, or a checksum mismatch is rejected so the caller
+ * can fall back to the CSV file.
+ *
+ * The snapshot only stands in for the CSV file it was written alongside:
+ * once that file is replaced, edited, or removed, its size or modification
+ * time no longer match the header and the snapshot is ignored.
+ *
+ * @author James Stevens
+ * @version 1.0
+ * @since 2025-07-01
+ */
+public class ContactSnapshot {
+
+    private static final int MAGIC = 0x41424B53; // "ABKS"
+    private static final int VERSION = 4;
+    private static final int HEADER_SIZE = 4 + 4 + 4 + 8 + 8 + 8 + 8;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int FIELDS = 8;
+    private static final int MIN_RECORD_SIZE = FIELDS + 1; // One-byte tags and ID
+    private static final int MAX_FIELD_LENGTH = 1 << 20;
+    private static final int DICTIONARY_SIZE = 4096;
+
+    private final Path path;
+
+    /**
+     * Creates a snapshot backed by the given file.
+     *
+     * @param path the snapshot file location
+     */
+    public ContactSnapshot(Path path) {
+        this.path = path;
+    }
+
+    /**
+     * Indicates whether the snapshot was written alongside the given file as
+     * it is now, meaning it can be loaded in place of that file.
+     *
+     * The file's size and modification time must both match those recorded
+     * when the snapshot was written. A missing file never matches, so
+     * removing the CSV file does not bring back the snapshot's contents.
+     *
+     * @param source the file the snapshot was derived from
+     * @return true if the snapshot should be preferred over {@code source}
+     * @throws IOException if file attributes cannot be read
+     */
+    public boolean isCurrentFor(Path source) throws IOException {
+        if (!Files.exists(path) || !Files.exists(source)) return false;
+
+        try (InputStream file = Files.newInputStream(path)) {
+            BlockReader in = new BlockReader(file);
+            in.require(HEADER_SIZE);
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) return false;
+            in.readInt(); // Record count
+            in.readLong(); // Checksum
+            return in.readLong() == Files.size(source)
+                && in.readLong() == Files.getLastModifiedTime(source).toMillis();
+        } catch (EOFException e) {
+            return false; // Truncated header
+        }
+    }
+
+    /**
+     * Reads the newest journal generation recorded when the snapshot was written.
+     *
+     * @return the generation, or 0 if the snapshot is missing or its header is unreadable
+     * @throws IOException if the snapshot cannot be opened
+     */
+    public long journalGeneration() throws IOException {
+        if (!Files.exists(path)) return 0;
+
+        try (InputStream file = Files.newInputStream(path)) {
+            BlockReader in = new BlockReader(file);
+            in.require(HEADER_SIZE);
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) return 0;
+            in.readInt(); // Record count
+            in.readLong(); // Checksum
+            in.readLong(); // Source size and modification time
+            in.readLong();
+            return in.readLong();
+        } catch (EOFException e) {
+            return 0; // Truncated header
+        }
+    }
+
+    /**
+     * Writes all contacts to the snapshot file.
+     *
+     * The snapshot is written to a temporary file, flushed to disk, and then
+     * atomically moved into place, so readers never observe a partially
+     * written snapshot.
+     *
+     * @param contacts          the contacts to write
+     * @param source            the CSV file just written with the same contacts
+     * @param journalGeneration the newest journal generation the contacts reflect
+     * @throws IOException if writing fails or the source file's attributes cannot be read
+     */
+    public void write(List<Contact> contacts, Path source, long journalGeneration) throws IOException {
+        long sourceSize = Files.size(source);
+        long sourceModified = Files.getLastModifiedTime(source).toMillis();
+        Path temp = FileSaver.createTempSibling(path);
+
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                channel.position(HEADER_SIZE);
+                CRC32 crc = new CRC32();
+                DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                    new CheckedOutputStream(Channels.newOutputStream(channel), crc), BUFFER_SIZE));
+                List<Map<String, Integer>> dictionaries = new ArrayList<>(FIELDS);
+                for (int f = 0; f < FIELDS; f++) dictionaries.add(new HashMap<>());
+                for (Contact c : contacts) {
+                    writeField(out, dictionaries.get(0), c.getFirstName());
+                    writeField(out, dictionaries.get(1), c.getLastName());
+                    writeField(out, dictionaries.get(2), c.getStreet());
+                    writeField(out, dictionaries.get(3), c.getCity());
+                    writeField(out, dictionaries.get(4), c.getState());
+                    writeField(out, dictionaries.get(5), c.getZipCode());
+                    writeField(out, dictionaries.get(6), c.getPhone());
+                    writeField(out, dictionaries.get(7), c.getEmail());
+                    writeVarlong(out, c.getId());
+                }
+                out.flush();
+
+                ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+                    .putInt(MAGIC)
+                    .putInt(VERSION)
+                    .putInt(contacts.size())
+                    .putLong(crc.getValue())
+                    .putLong(sourceSize)
+                    .putLong(sourceModified)
+                    .putLong(journalGeneration);
+                header.flip();
+                while (header.hasRemaining()) {
+                    channel.write(header, header.position());
+                }
+                channel.force(true);
+            }
+            FileSaver.replaceAtomically(temp, path);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Reads all contacts from the snapshot file.
+     *
+     * The body is read in large blocks that are checksummed as a whole and
+     * decoded in place, rather than byte by byte through a stream.
+     *
+     * @return the contacts in snapshot order, or null if the snapshot is
+     *         missing, unreadable, or fails validation
+     */
+    public List<Contact> read() {
+        if (!Files.exists(path)) return null;
+
+        try (InputStream file = Files.newInputStream(path)) {
+            BlockReader in = new BlockReader(file);
+            in.require(HEADER_SIZE);
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) return null;
+            int count = in.readInt();
+            long checksum = in.readLong();
+            in.readLong(); // Source size and modification time, checked by isCurrentFor
+            in.readLong();
+            in.readLong(); // Journal generation, read by journalGeneration
+            // A corrupt count must not size the list; each record takes at least MIN_RECORD_SIZE bytes
+            if (count < 0 || (long) count * MIN_RECORD_SIZE > Files.size(path) - HEADER_SIZE) return null;
+
+            in.startChecksum();
+            // Columns whose values are shared through a StringPool: city, state, ZIP
+            StringPool[] pools = { null, null, null, StringPool.cities(), StringPool.states(), StringPool.zipCodes(), null, null };
+            String[][] dictionaries = new String[FIELDS][DICTIONARY_SIZE];
+            int[] dictionarySizes = new int[FIELDS];
+            String[] fields = new String[FIELDS];
+            List<Contact> contacts = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                for (int f = 0; f < FIELDS; f++) {
+                    int tag = in.readVarint();
+                    if ((tag & 1) != 0) {
+                        int entry = tag >>> 1;
+                        if (entry >= dictionarySizes[f]) return null;
+                        fields[f] = dictionaries[f][entry];
+                    } else {
+                        fields[f] = in.readString(tag >>> 1);
+                        if (pools[f] != null) fields[f] = pools[f].canonical(fields[f]);
+                        if (dictionarySizes[f] < DICTIONARY_SIZE) {
+                            dictionaries[f][dictionarySizes[f]++] = fields[f];
+                        }
+                    }
+                }
+                Contact contact = new Contact(fields[0], fields[1], fields[2], fields[3],
+                                              fields[4], fields[5], fields[6], fields[7]);
+                contact.setId(in.readVarlong());
+                contacts.add(contact);
+            }
+
+            if (!in.atEnd() || in.checksum() != checksum) return null;
+            return contacts;
+        } catch (IOException e) {
+            return null; // Truncated or unreadable; the CSV file is authoritative
+        }
+    }
+
+    /**
+     * Writes a field as a dictionary reference if the column has seen the
+     * value before, or as a varint byte length followed by its UTF-8 bytes.
+     */
+    private static void writeField(DataOutputStream out, Map<String, Integer> dictionary, String value)
+            throws IOException {
+        Integer entry = dictionary.get(value);
+        if (entry != null) {
+            writeVarint(out, (entry << 1) | 1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarint(out, bytes.length << 1);
+        out.write(bytes);
+        if (dictionary.size() < DICTIONARY_SIZE) {
+            dictionary.put(value, dictionary.size());
+        }
+    }
+
+    private static void writeVarint(DataOutputStream out, int value) throws IOException {
+        writeVarlong(out, value & 0xFFFFFFFFL);
+    }
+
+    private static void writeVarlong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    /**
+     * Buffered reader over the snapshot that checksums each block as it is
+     * loaded and decodes fields directly from the block.
+     */
+    private static class BlockReader {
+
+        private final InputStream in;
+        private final CRC32 crc = new CRC32();
+        private byte[] buffer = new byte[BUFFER_SIZE];
+        private int position;
+        private int limit;
+        private boolean checksumming;
+
+        BlockReader(InputStream in) {
+            this.in = in;
+        }
+
+        /**
+         * Ensures at least {@code count} unread bytes are buffered.
+         */
+        void require(int count) throws IOException {
+            if (limit - position >= count) return;
+            if (count > buffer.length) buffer = Arrays.copyOf(buffer, Math.max(count, buffer.length * 2));
+            System.arraycopy(buffer, position, buffer, 0, limit - position);
+            limit -= position;
+            position = 0;
+            while (limit < count) {
+                int read = in.read(buffer, limit, buffer.length - limit);
+                if (read < 0) throw new EOFException("Snapshot is truncated");
+                if (checksumming) crc.update(buffer, limit, read);
+                limit += read;
+            }
+        }
+
+        /**
+         * Starts checksumming every byte from the current position onward.
+         */
+        void startChecksum() {
+            checksumming = true;
+            crc.update(buffer, position, limit - position);
+        }
+
+        long checksum() {
+            return crc.getValue();
+        }
+
+        int readInt() throws IOException {
+            require(4);
+            int value = ((buffer[position] & 0xFF) << 24) | ((buffer[position + 1] & 0xFF) << 16)
+                      | ((buffer[position + 2] & 0xFF) << 8) | (buffer[position + 3] & 0xFF);
+            position += 4;
+            return value;
+        }
+
+        long readLong() throws IOException {
+            return ((long) readInt() << 32) | (readInt() & 0xFFFFFFFFL);
+        }
+
+        int readVarint() throws IOException {
+            int value = 0;
+            for (int shift = 0; shift < 32; shift += 7) {
+                require(1);
+                int b = buffer[position++] & 0xFF;
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) return value;
+            }
+            throw new EOFException("Invalid varint");
+        }
+
+        long readVarlong() throws IOException {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                require(1);
+                int b = buffer[position++] & 0xFF;
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) return value;
+            }
+            throw new EOFException("Invalid varint");
+        }
+
+        String readString(int length) throws IOException {
+            if (length > MAX_FIELD_LENGTH) throw new EOFException("Invalid field length");
+            require(length);
+            String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+
+        /**
+         * Indicates whether every byte of the file has been consumed.
+         */
+        boolean atEnd() throws IOException {
+            if (position < limit) return false;
+            position = limit = 0;
+            int read = in.read(buffer, 0, buffer.length);
+            if (read > 0) {
+                limit = read;
+                return false;
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * Author: James Stevens
+ * Date: 01 July 2025
+ * Course: SWEN 656 - Advanced Software Design and Implementation
+ *
+ * Copyright (c) 2025 James Stevens
+ * This file is part of the Address Book project and may not be used, copied,
+ * modified, or distributed without permission.
+ */
+
+package address_utils.storage;
+
+import java.io.IOException;
+
+/**
+ * A save captured by {@link AddressBookStorage#beginSave(java.util.List)}.
+ *
+ * It holds its own copy of the contacts to write, so it can be written on
+ * a background thread while the address book keeps changing.
+ *
+ * @author James Stevens
+ * @version 1.0
+ * @since 2025-07-01
+ */
+@FunctionalInterface
+public interface PendingSave {
+
+    /**
+     * Writes the captured contacts to disk.
+     *
+     * @throws IOException if writing fails
+     */
+    void write() throws IOException;
+}
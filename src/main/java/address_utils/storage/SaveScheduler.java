@@ -0,0 +1,141 @@
+/*
+ * Author: James Stevens
+ * Date: 01 July 2025
+ * Course: SWEN 656 - Advanced Software Design and Implementation
+ *
+ * Copyright (c) 2025 James Stevens
+ * This file is part of the Address Book project and may not be used, copied,
+ * modified, or distributed without permission.
+ */
+
+package address_utils.storage;
+
+import java.util.concurrent.*;
+
+/**
+ * Coalesces save requests and runs them on a background thread.
+ *
+ * Each mutation marks the address book dirty with {@link #markDirty()}. The
+ * first unsaved mutation opens a window of {@code windowMillis}; when the
+ * window closes, or sooner once {@code maxPendingMutations} mutations have
+ * accumulated, a single save covers them all. Saves never overlap, and a
+ * mutation made while a save is running schedules another one.
+ *
+ * Only {@link #flush()} and {@link #close()} block the caller, until every
+ * pending change has been saved.
+ *
+ * @author James Stevens
+ * @version 1.0
+ * @since 2025-07-01
+ */
+public class SaveScheduler implements AutoCloseable {
+
+    private final Runnable saveTask;
+    private final long windowMillis;
+    private final int maxPendingMutations;
+    private final ScheduledExecutorService executor;
+
+    // Guarded by this
+    private ScheduledFuture<?> scheduled;
+    private int pendingMutations;
+    private boolean dirty;
+
+    /**
+     * Creates a scheduler with its own background save thread.
+     *
+     * @param saveTask            performs one full save
+     * @param windowMillis        how long to wait after the first unsaved mutation
+     * @param maxPendingMutations mutation count that triggers a save before the window closes
+     */
+    public SaveScheduler(Runnable saveTask, long windowMillis, int maxPendingMutations) {
+        this.saveTask = saveTask;
+        this.windowMillis = Math.max(0, windowMillis);
+        this.maxPendingMutations = Math.max(1, maxPendingMutations);
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "address-book-save");
+            thread.setDaemon(true); // Unsaved changes remain in the journal
+            return thread;
+        });
+    }
+
+    /**
+     * Records that the address book has changed and schedules a save if
+     * one is not already pending.
+     */
+    public synchronized void markDirty() {
+        dirty = true;
+        pendingMutations++;
+        if (pendingMutations >= maxPendingMutations) {
+            schedule(0);
+        } else if (scheduled == null) {
+            schedule(windowMillis);
+        }
+    }
+
+    /**
+     * Indicates whether changes are waiting to be saved.
+     *
+     * @return true if a save is pending
+     */
+    public synchronized boolean isDirty() {
+        return dirty;
+    }
+
+    /**
+     * Saves any pending changes now and waits for the save to finish.
+     */
+    public void flush() {
+        Future<?> done;
+        synchronized (this) {
+            if (scheduled != null) {
+                scheduled.cancel(false);
+                scheduled = null;
+            }
+            done = executor.submit(this::runSave);
+        }
+        try {
+            done.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            // Not reached; runSave reports its own failures
+        }
+    }
+
+    /**
+     * Flushes pending changes and stops the background thread.
+     */
+    @Override
+    public void close() {
+        flush();
+        executor.shutdown();
+    }
+
+    /**
+     * Replaces any scheduled save with one that runs after {@code delayMillis}.
+     */
+    private void schedule(long delayMillis) {
+        if (scheduled != null) {
+            scheduled.cancel(false);
+        }
+        scheduled = executor.schedule(this::runSave, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Runs on the save thread. Clears the dirty state before saving, so
+     * mutations made during the save schedule the next one.
+     */
+    private void runSave() {
+        synchronized (this) {
+            scheduled = null;
+            if (!dirty) return;
+            dirty = false;
+            pendingMutations = 0;
+        }
+        try {
+            saveTask.run();
+        } catch (RuntimeException e) {
+            System.out.println("Error saving contacts: " + e.getMessage());
+        }
+    }
+}
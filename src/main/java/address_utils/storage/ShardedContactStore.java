@@ -0,0 +1,314 @@
+/*
+ * Author: James Stevens
+ * Date: 01 July 2025
+ * Course: SWEN 656 - Advanced Software Design and Implementation
+ *
+ * Copyright (c) 2025 James Stevens
+ * This file is part of the Address Book project and may not be used, copied,
+ * modified, or distributed without permission.
+ */
+
+package address_utils.storage;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.function.LongConsumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import address_book.Contact;
+import io.FileLoader;
+import io.FileSaver;
+
+/**
+ * Stores the address book as a fixed number of CSV shard files.
+ *
+ * Each contact belongs to the shard chosen by a stable hash of its name, so
+ * a change to one contact touches one shard (two if the contact is renamed).
+ * Shards changed since the last save are tracked, and a save rewrites only
+ * those, making its cost proportional to the change rather than to the size
+ * of the book. Every shard is written like the single-file address book:
+ * durably, with a binary snapshot alongside it. Shards are loaded in
+ * parallel, and contacts come back grouped by shard.
+ *
+ * Each shard records the journal generation it was last saved with, so
+ * replay can tell which journaled changes a shard already reflects.
+ *
+ * Shard files are named {@code shard-NNN.csv}, or {@code shard-NNN.csv.gz}
+ * when compressed. If the files on disk were written with a different shard
+ * count or compression setting, every shard is rewritten on the next save
+ * and the leftover files are removed.
+ *
+ * @author James Stevens
+ * @version 1.0
+ * @since 2025-07-01
+ */
+public class ShardedContactStore {
+
+    private static final Pattern SHARD_FILE = Pattern.compile("shard-(\\d{1,6})\\.csv(\\.gz)?");
+
+    private final Path directory;
+    private final int shardCount;
+    private final boolean compressed;
+
+    // Guarded by this
+    private final BitSet dirty = new BitSet();
+    private final Set<Path> staleFiles = new HashSet<>();
+
+    // Journal generation of each shard as loaded, or null if the layout
+    // differed; and the oldest and newest of them. Guarded by this
+    private long[] savedGenerations;
+    private long oldestGeneration;
+    private long latestGeneration;
+
+    /**
+     * Creates a store that splits contacts across {@code shardCount} files.
+     *
+     * @param directory  the directory holding the shard files
+     * @param shardCount the number of shards; must be positive
+     */
+    public ShardedContactStore(Path directory, int shardCount) {
+        this(directory, shardCount, false);
+    }
+
+    /**
+     * Creates a store that splits contacts across {@code shardCount} files,
+     * optionally gzip-compressed.
+     *
+     * @param directory  the directory holding the shard files
+     * @param shardCount the number of shards; must be positive
+     * @param compressed whether shards are written as {@code shard-NNN.csv.gz}
+     */
+    public ShardedContactStore(Path directory, int shardCount, boolean compressed) {
+        if (shardCount <= 0) throw new IllegalArgumentException("Shard count must be positive");
+        this.directory = directory;
+        this.shardCount = shardCount;
+        this.compressed = compressed;
+    }
+
+    /**
+     * Returns the shard a contact belongs to, based on its case-folded name.
+     *
+     * @param contact the contact
+     * @return the shard index in {@code [0, shardCount)}
+     */
+    public int shardOf(Contact contact) {
+        // Stable across runs, and computed without building a key string
+        int hash = foldedHash(0, contact.getFirstName());
+        hash = 31 * hash + ' ';
+        hash = foldedHash(hash, contact.getLastName());
+        return Math.floorMod(hash ^ (hash >>> 16), shardCount);
+    }
+
+    /**
+     * Continues a {@link String#hashCode()}-style hash over the lower-cased
+     * characters of {@code text}.
+     */
+    private static int foldedHash(int hash, String text) {
+        for (int i = 0; i < text.length(); i++) {
+            hash = 31 * hash + Character.toLowerCase(text.charAt(i));
+        }
+        return hash;
+    }
+
+    /**
+     * Marks the shard holding the given contact for rewriting.
+     *
+     * @param contact a contact that was added, deleted, or changed
+     */
+    public synchronized void markDirty(Contact contact) {
+        dirty.set(shardOf(contact));
+    }
+
+    /**
+     * Marks every shard for rewriting.
+     */
+    public synchronized void markAllDirty() {
+        dirty.set(0, shardCount);
+    }
+
+    /**
+     * Indicates whether any shard is waiting to be rewritten.
+     *
+     * @return true if a save would write at least one shard
+     */
+    public synchronized boolean isDirty() {
+        return !dirty.isEmpty();
+    }
+
+    /**
+     * Loads every shard in parallel.
+     *
+     * @return the contacts grouped by shard, or null if no shard files exist
+     * @throws IOException if a shard cannot be read
+     */
+    public List<Contact> load() throws IOException {
+        List<Path> superseded = new ArrayList<>();
+        SortedMap<Integer, Path> files = listShardFiles(superseded);
+        if (files.isEmpty()) return null;
+
+        boolean sameLayout = files.size() == shardCount && files.lastKey() < shardCount
+            && files.values().stream().allMatch(file -> FileLoader.isCompressed(file) == compressed);
+        synchronized (this) {
+            staleFiles.addAll(superseded);
+            if (!sameLayout) {
+                markAllDirty(); // Written with other settings; rewrite every shard
+                for (Map.Entry<Integer, Path> file : files.entrySet()) {
+                    if (file.getKey() >= shardCount || !file.getValue().equals(csvFile(file.getKey()))) {
+                        staleFiles.add(file.getValue());
+                    }
+                }
+            }
+        }
+
+        List<Path> paths = new ArrayList<>(files.values());
+        long[] generations = new long[paths.size()];
+        try {
+            List<List<Contact>> loaded = IntStream.range(0, paths.size()).parallel()
+                .mapToObj(i -> loadShard(paths.get(i), g -> generations[i] = g))
+                .collect(Collectors.toList());
+            List<Contact> contacts = new ArrayList<>(loaded.stream().mapToInt(List::size).sum());
+            loaded.forEach(contacts::addAll);
+            synchronized (this) {
+                savedGenerations = sameLayout ? generations : null; // Shard i is in paths.get(i)
+                oldestGeneration = Arrays.stream(generations).min().orElse(0);
+                latestGeneration = Arrays.stream(generations).max().orElse(0);
+            }
+            return contacts;
+        } catch (UncheckedIOException e) {
+            throw e.getCause(); // Raised by a loading task
+        }
+    }
+
+    /**
+     * Returns the journal generation recorded in the shard a contact belongs
+     * to when it was loaded.
+     *
+     * If the shards on disk were written with another layout, the contact's
+     * file is unknown and the oldest generation of any shard is returned, so
+     * a journaled change is replayed rather than lost.
+     *
+     * @param contact a contact named by a journal record
+     * @return the generation, or 0 if none was recorded
+     */
+    public synchronized long savedGeneration(Contact contact) {
+        return savedGenerations != null ? savedGenerations[shardOf(contact)] : oldestGeneration;
+    }
+
+    /**
+     * Returns the newest journal generation recorded in any shard when they were loaded.
+     *
+     * @return the generation, or 0 if none was recorded
+     */
+    public synchronized long latestGeneration() {
+        return latestGeneration;
+    }
+
+    /**
+     * Captures copies of the contacts in every dirty shard and clears the
+     * dirty set. Must be called while no mutation is in progress.
+     *
+     * @param contacts          the live list of contacts
+     * @param journalGeneration the newest journal generation the contacts reflect
+     * @return a save that writes the captured shards; the shards are marked
+     *         dirty again if it fails
+     */
+    public synchronized PendingSave capture(List<Contact> contacts, long journalGeneration) {
+        Map<Integer, List<Contact>> captured = new TreeMap<>();
+        for (int s = dirty.nextSetBit(0); s >= 0; s = dirty.nextSetBit(s + 1)) {
+            captured.put(s, new ArrayList<>());
+        }
+        if (!captured.isEmpty()) {
+            for (Contact c : contacts) {
+                List<Contact> shard = captured.get(shardOf(c));
+                if (shard != null) shard.add(new Contact(c));
+            }
+        }
+        Set<Path> stale = new HashSet<>(staleFiles);
+        dirty.clear();
+        staleFiles.clear();
+
+        return () -> {
+            try {
+                for (Map.Entry<Integer, List<Contact>> shard : captured.entrySet()) {
+                    AddressBookStorage.writeContacts(csvFile(shard.getKey()),
+                        new ContactSnapshot(snapshotFile(shard.getKey())), shard.getValue(), journalGeneration);
+                }
+                for (Path file : stale) {
+                    FileSaver.deleteFile(file);
+                    if (shardIndex(file) >= shardCount) {
+                        FileSaver.deleteFile(snapshotFile(file)); // Not shared with a live shard
+                    }
+                }
+            } catch (IOException e) {
+                synchronized (this) {
+                    captured.keySet().forEach(dirty::set);
+                    staleFiles.addAll(stale);
+                }
+                throw e;
+            }
+        };
+    }
+
+    /**
+     * Loads one shard from its snapshot or CSV file.
+     */
+    private List<Contact> loadShard(Path file, LongConsumer journalGeneration) {
+        try {
+            return AddressBookStorage.readContacts(file, new ContactSnapshot(snapshotFile(file)), journalGeneration);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Finds the shard CSV files on disk, keyed by shard index.
+     */
+    private SortedMap<Integer, Path> listShardFiles(List<Path> superseded) throws IOException {
+        SortedMap<Integer, Path> files = new TreeMap<>();
+        if (!Files.isDirectory(directory)) return files;
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "shard-*.csv*")) {
+            for (Path file : stream) {
+                Matcher m = SHARD_FILE.matcher(file.getFileName().toString());
+                if (!m.matches()) continue;
+                int shard = Integer.parseInt(m.group(1));
+                Path other = files.putIfAbsent(shard, file);
+                if (other != null && isNewer(file, other)) {
+                    files.put(shard, file);
+                    superseded.add(other); // Both formats present; keep the newer one
+                } else if (other != null) {
+                    superseded.add(file);
+                }
+            }
+        }
+        return files;
+    }
+
+    private static int shardIndex(Path file) {
+        Matcher m = SHARD_FILE.matcher(file.getFileName().toString());
+        return m.matches() ? Integer.parseInt(m.group(1)) : -1;
+    }
+
+    private static boolean isNewer(Path file, Path other) throws IOException {
+        return Files.getLastModifiedTime(file).compareTo(Files.getLastModifiedTime(other)) > 0;
+    }
+
+    private Path csvFile(int shard) {
+        return directory.resolve(String.format(compressed ? "shard-%03d.csv.gz" : "shard-%03d.csv", shard));
+    }
+
+    private Path snapshotFile(int shard) {
+        return snapshotFile(csvFile(shard));
+    }
+
+    private static Path snapshotFile(Path csvFile) {
+        String name = csvFile.getFileName().toString();
+        return csvFile.resolveSibling(name.substring(0, name.indexOf(".csv")) + ".bin");
+    }
+}
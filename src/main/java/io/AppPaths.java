@@ -36,6 +36,27 @@ public class AppPaths {
      */
     public static final Path ADDRESS_BOOK_FILE;
 
+    /**
+     * Path to the gzip-compressed form of the address book CSV file.
+     */
+    public static final Path COMPRESSED_ADDRESS_BOOK_FILE;
+
+    /**
+     * Path to the append-only journal of contact mutations made since the
+     * address book CSV file was last rewritten.
+     */
+    public static final Path JOURNAL_FILE;
+
+    /**
+     * Path to the binary snapshot of the address book used for fast startup.
+     */
+    public static final Path SNAPSHOT_FILE;
+
+    /**
+     * Directory holding the address book's shard files when sharded storage is enabled.
+     */
+    public static final Path SHARD_DIRECTORY;
+
     // Static initializer to configure paths
     static {
         String envPath = System.getenv(ENV_VAR);
@@ -46,6 +67,10 @@ public class AppPaths {
         }
 
         ADDRESS_BOOK_FILE = BASE_DIRECTORY.resolve("address_book.csv");
+        COMPRESSED_ADDRESS_BOOK_FILE = BASE_DIRECTORY.resolve("address_book.csv.gz");
+        JOURNAL_FILE = BASE_DIRECTORY.resolve("address_book.journal");
+        SNAPSHOT_FILE = BASE_DIRECTORY.resolve("address_book.bin");
+        SHARD_DIRECTORY = BASE_DIRECTORY.resolve("shards");
     }
 
     /**
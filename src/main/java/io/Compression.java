@@ -0,0 +1,69 @@
+/*
+ * Author: James Stevens
+ * Date: 01 July 2025
+ * Course: SWEN 656 - Advanced Software Design and Implementation
+ *
+ * Copyright (c) 2025 James Stevens
+ * This file is part of the Address Book project and may not be used, copied,
+ * modified, or distributed without permission.
+ */
+
+package io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Chooses a compression format from a file name and wraps streams with it.
+ * <p>
+ * Files ending in {@value #GZIP_EXTENSION} are gzip-compressed; all others
+ * are stored as-is. Compressed streams are processed incrementally, so no
+ * file is ever held fully in memory.
+ * </p>
+ *
+ * @author James Stevens
+ * @version 1.0
+ * @since 2025-07-01
+ */
+final class Compression {
+
+    static final String GZIP_EXTENSION = ".gz";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private Compression() {
+    }
+
+    /**
+     * Indicates whether the file name selects a compressed format.
+     */
+    static boolean isCompressed(Path path) {
+        Path name = path.getFileName();
+        return name != null && name.toString().endsWith(GZIP_EXTENSION);
+    }
+
+    /**
+     * Wraps a raw file stream with the decompressor for the file's format.
+     */
+    static InputStream decompress(Path path, InputStream in) throws IOException {
+        return isCompressed(path) ? new GZIPInputStream(in, BUFFER_SIZE) : in;
+    }
+
+    /**
+     * Wraps a raw file stream with the compressor for the file's format.
+     * Closing the returned stream completes the compressed data.
+     */
+    static OutputStream compress(Path path, OutputStream out) throws IOException {
+        if (!isCompressed(path)) return out;
+        return new GZIPOutputStream(out, BUFFER_SIZE) {
+            {
+                def.setLevel(Deflater.BEST_SPEED); // Repetitive CSV compresses well even at the fastest level
+            }
+        };
+    }
+}
@@ -0,0 +1,232 @@
+/*
+ * Author: James Stevens
+ * Date: 01 July 2025
+ * Course: SWEN 656 - Advanced Software Design and Implementation
+ *
+ * Copyright (c) 2025 James Stevens
+ * This file is part of the Address Book project and may not be used, copied,
+ * modified, or distributed without permission.
+ */
+
+package io;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Single-pass, regex-free tokenizer for delimited text following RFC 4180.
+ * <p>
+ * Works directly on characters and supports:
+ * <ul>
+ *   <li>Quoted fields containing delimiters, e.g. {@code "123 Main St, Apt 4"}</li>
+ *   <li>Escaped quotes inside quoted fields, e.g. {@code "The ""Loop"""}</li>
+ *   <li>Line breaks inside quoted fields (reader mode only)</li>
+ *   <li>LF and CRLF record terminators</li>
+ * </ul>
+ * A quote only opens a quoted section at the start of a field; elsewhere it is
+ * kept as a literal character.
+ * </p>
+ * <p>
+ * Unquoted fields are copied straight out of the character buffer. Quoted fields,
+ * and fields that straddle a buffer refill, are assembled in a field buffer that
+ * is reused from one record to the next along with the token list, so the only
+ * per-record allocations are the field strings and the returned array.
+ * Instances are stateful and must not be shared between threads.
+ * </p>
+ *
+ * @author James Stevens
+ * @version 1.0
+ * @since 2025-07-01
+ */
+public class CsvTokenizer {
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final String[] EMPTY = new String[0];
+
+    private final char delimiter;
+    private final Reader reader;
+    private final StringBuilder field = new StringBuilder(64);
+    private final List<String> fields = new ArrayList<>(16);
+
+    private char[] buffer;
+    private int position;
+    private int limit;
+
+    /**
+     * Creates a tokenizer for single lines supplied through {@link #tokenize(String)}.
+     *
+     * @param delimiter the field separator, typically ','
+     */
+    public CsvTokenizer(char delimiter) {
+        this(null, delimiter);
+    }
+
+    /**
+     * Creates a tokenizer that reads whole records from a character stream
+     * through {@link #nextRecord()}. The reader does not need to be buffered.
+     *
+     * @param reader    the source of records
+     * @param delimiter the field separator, typically ','
+     */
+    public CsvTokenizer(Reader reader, char delimiter) {
+        this.reader = reader;
+        this.delimiter = delimiter;
+        this.buffer = new char[reader != null ? BUFFER_SIZE : 256];
+    }
+
+    /**
+     * Splits a single line into fields.
+     * <p>
+     * An unterminated quoted field runs to the end of the line. Lines without
+     * any quotes are split with {@link String#indexOf(int, int)} directly.
+     * </p>
+     *
+     * @param line the line to split
+     * @return the fields of the line; a blank line yields one empty field
+     */
+    public String[] tokenize(String line) {
+        if (line.indexOf('"') < 0) {
+            return splitUnquoted(line);
+        }
+        int length = line.length();
+        if (buffer.length < length) {
+            buffer = new char[Math.max(length, buffer.length * 2)];
+        }
+        line.getChars(0, length, buffer, 0);
+        position = 0;
+        limit = length;
+        try {
+            String[] tokens = nextRecord();
+            return tokens != null ? tokens : new String[] { "" };
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // Not reachable without a reader
+        }
+    }
+
+    /**
+     * Splits a line that contains no quotes, so every delimiter ends a field.
+     */
+    private String[] splitUnquoted(String line) {
+        fields.clear();
+        int start = 0;
+        int end;
+        while ((end = line.indexOf(delimiter, start)) >= 0) {
+            fields.add(line.substring(start, end));
+            start = end + 1;
+        }
+        fields.add(line.substring(start));
+        return fields.toArray(EMPTY);
+    }
+
+    /**
+     * Reads and splits the next record.
+     * <p>
+     * A record normally ends at a line break, but line breaks inside quoted
+     * fields are kept as part of the field.
+     * </p>
+     *
+     * @return the fields of the next record, or {@code null} at end of input
+     * @throws IOException if reading from the underlying reader fails
+     */
+    public String[] nextRecord() throws IOException {
+        if (position >= limit && !fill()) return null;
+
+        fields.clear();
+        field.setLength(0);
+        int start = position;      // First character of the field not yet copied out
+        boolean buffered = false;  // Part of the field already sits in the field buffer
+        boolean quoted = false;    // Inside a quoted section
+
+        while (true) {
+            if (position >= limit) {
+                if (reader == null) break; // End of line ends the record
+                if (position > start) {
+                    field.append(buffer, start, position - start); // Save before refilling
+                    buffered = true;
+                }
+                boolean more = fill();
+                start = position;
+                if (!more) break;
+            }
+            char c = buffer[position++];
+
+            if (!quoted && c != delimiter && c != '"' && c != '\n' && c != '\r') {
+                // Ordinary character: skip ahead to the next one that needs handling
+                while (position < limit) {
+                    c = buffer[position];
+                    if (c == delimiter || c == '"' || c == '\n' || c == '\r') break;
+                    position++;
+                }
+                continue;
+            }
+
+            if (quoted) {
+                if (c != '"') continue;
+                field.append(buffer, start, position - 1 - start);
+                if (position >= limit && !fill()) {
+                    start = position;
+                    break;
+                }
+                if (buffer[position] == '"') {
+                    field.append('"'); // Escaped quote
+                    position++;
+                } else {
+                    quoted = false;
+                }
+                start = position;
+            } else if (c == delimiter) {
+                fields.add(takeField(start, position - 1, buffered));
+                buffered = false;
+                start = position;
+            } else if (c == '\n' || c == '\r') {
+                fields.add(takeField(start, position - 1, buffered));
+                if (c == '\r' && (position < limit || fill()) && buffer[position] == '\n') position++;
+                return fields.toArray(EMPTY);
+            } else if (c == '"' && !buffered && position - 1 == start) {
+                quoted = true; // Quote at the start of a field
+                buffered = true;
+                start = position;
+            }
+        }
+
+        fields.add(takeField(start, position, buffered));
+        return fields.toArray(EMPTY);
+    }
+
+    /**
+     * Completes the current field, which ends at {@code end} in the character buffer.
+     * Unquoted fields that fit in the buffer are copied out directly without
+     * passing through the field buffer.
+     */
+    private String takeField(int start, int end, boolean buffered) {
+        if (!buffered) return new String(buffer, start, end - start);
+        field.append(buffer, start, end - start);
+        String value = field.toString();
+        field.setLength(0);
+        return value;
+    }
+
+    /**
+     * Refills the character buffer from the reader.
+     *
+     * @return true if at least one character is available
+     * @throws IOException if reading fails
+     */
+    private boolean fill() throws IOException {
+        if (reader == null) return false;
+        int read;
+        do {
+            read = reader.read(buffer, 0, buffer.length);
+        } while (read == 0);
+        if (read < 0) {
+            position = limit = 0;
+            return false;
+        }
+        position = 0;
+        limit = read;
+        return true;
+    }
+}
@@ -11,15 +11,22 @@
 
 package io;
 
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * Utility class for reading file contents from disk.
  * <p>
- * Supports reading lines as a list or the entire file as a string.
+ * Supports reading lines as a list, the entire file as a string, or opening
+ * a buffered reader so large files can be streamed one line at a time.
+ * Files whose name ends in ".gz" are decompressed transparently as they are read.
  * Provides helper methods to operate within the application’s base directory.
  */
 public class FileLoader {
@@ -32,13 +39,58 @@ public class FileLoader {
      * @throws IOException if an I/O error occurs
      */
     public static List<String> loadLines(Path path) throws IOException {
+        try (BufferedReader reader = openReader(path)) {
+            return reader.lines().collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Opens a buffered UTF-8 reader over the file at the given path.
+     * <p>
+     * Unlike {@link #loadLines(Path)}, nothing is read until the caller pulls
+     * from the reader, so memory use is independent of file size.
+     * Compressed files are decompressed as they are read.
+     * The caller is responsible for closing the reader.
+     *
+     * @param path the path to the file
+     * @return a reader positioned at the start of the file
+     * @throws IOException if the file cannot be opened
+     */
+    public static BufferedReader openReader(Path path) throws IOException {
+        if (!Compression.isCompressed(path)) return Files.newBufferedReader(path);
+        return new BufferedReader(new InputStreamReader(openInputStream(path), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Opens a stream over the file's contents, decompressing them if the
+     * file name selects a compressed format.
+     * The caller is responsible for closing the stream.
+     *
+     * @param path the path to the file
+     * @return a stream positioned at the start of the (uncompressed) contents
+     * @throws IOException if the file cannot be opened
+     */
+    public static InputStream openInputStream(Path path) throws IOException {
+        InputStream in = Files.newInputStream(path);
         try {
-            return Files.readAllLines(path);
+            return Compression.decompress(path, in);
         } catch (IOException e) {
+            in.close(); // Not a valid compressed file
             throw e;
         }
     }
 
+    /**
+     * Indicates whether the file is stored compressed, judging by its name.
+     * Compressed files can only be read sequentially.
+     *
+     * @param path the file path
+     * @return true if the file name ends in ".gz"
+     */
+    public static boolean isCompressed(Path path) {
+        return Compression.isCompressed(path);
+    }
+
     /**
      * Loads the entire contents of a file as a single string.
      *
@@ -47,7 +99,9 @@ public class FileLoader {
      * @throws IOException if an I/O error occurs
      */
     public static String loadAsString(Path path) throws IOException {
-        return Files.readString(path);
+        try (InputStream in = openInputStream(path)) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
     }
 
     /**
@@ -61,6 +115,17 @@ public class FileLoader {
         return loadLines(AppPaths.getFile(fileName));
     }
 
+    /**
+     * Returns the size of the file at the given path.
+     *
+     * @param path the file path
+     * @return the file size in bytes, as stored on disk
+     * @throws IOException if the size cannot be read
+     */
+    public static long fileSize(Path path) throws IOException {
+        return Files.size(path);
+    }
+
     /**
      * Checks if a file exists at the specified path.
      *
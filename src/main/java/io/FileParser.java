@@ -11,8 +11,12 @@
 
 package io;
 
+import java.io.BufferedReader;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 /**
  * Generic file parser for converting delimited text lines into objects.
@@ -20,12 +24,25 @@ import java.util.List;
  * Uses a provided {@link LineParser} to convert each line of tokens into an object
  * of type {@code T}. Skips blank lines and ignores lines that fail parsing.
  * </p>
+ * <p>
+ * Input can be supplied either as a list of lines or as a {@link BufferedReader};
+ * the reader-based form hands each object to a consumer as soon as it is parsed,
+ * so the raw text is never held in memory alongside the results.
+ * </p>
+ * <p>
+ * Lines are split either with a regular expression or, when constructed with a
+ * delimiter character, with a {@link CsvTokenizer} that understands quoted
+ * fields. In the latter mode a quoted field may span several lines of a reader.
+ * Instances using a tokenizer are not thread-safe.
+ * </p>
  *
  * @param <T> the object type produced from each line
  */
 public class FileParser<T> {
 
     private final String delimiterRegex;
+    private final char delimiter;
+    private final CsvTokenizer lineTokenizer;
     private final LineParser<T> parser;
 
     /**
@@ -36,6 +53,22 @@ public class FileParser<T> {
      */
     public FileParser(String delimiterRegex, LineParser<T> parser) {
         this.delimiterRegex = delimiterRegex;
+        this.delimiter = 0;
+        this.lineTokenizer = null;
+        this.parser = parser;
+    }
+
+    /**
+     * Constructs a FileParser that splits records with a quote-aware
+     * {@link CsvTokenizer} instead of a regular expression.
+     *
+     * @param delimiter the field separator, typically ','
+     * @param parser    logic for converting token arrays into objects
+     */
+    public FileParser(char delimiter, LineParser<T> parser) {
+        this.delimiterRegex = null;
+        this.delimiter = delimiter;
+        this.lineTokenizer = new CsvTokenizer(delimiter);
         this.parser = parser;
     }
 
@@ -52,16 +85,112 @@ public class FileParser<T> {
     public List<T> parseLines(List<String> lines) {
         List<T> result = new ArrayList<>();
         for (String line : lines) {
-            if (line.isBlank()) continue;
-            String[] tokens = line.split(delimiterRegex, -1);
-            try {
-                T item = parser.parse(tokens);
-                if (item != null) result.add(item);
-            } catch (RuntimeException e) {
-                System.out.println("Failed to parse line: " + line);
-                throw e;
-            }
+            T item = parseLine(line);
+            if (item != null) result.add(item);
         }
         return result;
     }
+
+    /**
+     * Streams lines from a reader, parsing each into an object of type {@code T}
+     * and passing it to the given consumer.
+     * <p>
+     * Only one record is held in memory at a time. Records that are blank or
+     * result in {@code null} objects are skipped. The reader is not closed.
+     * </p>
+     *
+     * @param reader the source of lines
+     * @param sink   receives each successfully parsed object, in input order
+     * @return the number of objects passed to the consumer
+     * @throws IOException if reading fails
+     */
+    public long parse(BufferedReader reader, Consumer<? super T> sink) throws IOException {
+        return parse(reader, null, sink);
+    }
+
+    /**
+     * Streams lines from a reader as {@link #parse(BufferedReader, Consumer)}
+     * does, skipping the first record if it is a header.
+     * <p>
+     * The header is recognized from its tokens once they have been read, so
+     * the reader never needs to be rewound, however long the first record is.
+     * </p>
+     *
+     * @param reader   the source of lines
+     * @param isHeader identifies a header record; tested against the first record only, may be null
+     * @param sink     receives each successfully parsed object, in input order
+     * @return the number of objects passed to the consumer
+     * @throws IOException if reading fails
+     */
+    public long parse(BufferedReader reader, Predicate<String[]> isHeader, Consumer<? super T> sink) throws IOException {
+        long count = 0;
+        boolean first = true;
+        if (lineTokenizer != null) {
+            CsvTokenizer tokenizer = new CsvTokenizer(reader, delimiter);
+            String[] tokens;
+            while ((tokens = tokenizer.nextRecord()) != null) {
+                if (first) {
+                    first = false;
+                    if (isHeader != null && isHeader.test(tokens)) continue;
+                }
+                T item = parseTokens(tokens);
+                if (item != null) {
+                    sink.accept(item);
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (first) {
+                first = false;
+                if (isHeader != null && isHeader.test(line.split(delimiterRegex, -1))) continue;
+            }
+            T item = parseLine(line);
+            if (item != null) {
+                sink.accept(item);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Parses a single line into an object of type {@code T}.
+     * <p>
+     * Blank lines produce {@code null}. Parsing exceptions are printed and re-thrown.
+     * </p>
+     *
+     * @param line the line to parse
+     * @return the parsed object, or {@code null} if the line is blank or rejected
+     */
+    public T parseLine(String line) {
+        if (line.isBlank()) return null;
+        String[] tokens = lineTokenizer != null
+            ? lineTokenizer.tokenize(line)
+            : line.split(delimiterRegex, -1);
+        return parseTokens(tokens);
+    }
+
+    /**
+     * Converts the tokens of one record into an object of type {@code T}.
+     * <p>
+     * A record consisting of a single blank token is treated as a blank line.
+     * Parsing exceptions are printed and re-thrown.
+     * </p>
+     *
+     * @param tokens the fields of the record
+     * @return the parsed object, or {@code null} if the record is blank or rejected
+     */
+    public T parseTokens(String[] tokens) {
+        if (tokens.length == 1 && tokens[0].isBlank()) return null;
+        try {
+            return parser.parse(tokens);
+        } catch (RuntimeException e) {
+            System.out.println("Failed to parse line: " + String.join(",", tokens));
+            throw e;
+        }
+    }
 }
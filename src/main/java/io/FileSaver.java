@@ -11,15 +11,25 @@
 
 package io;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.List;
 
 /**
  * Utility class for writing text content to files.
  * Supports writing strings and lists of lines to specified paths,
  * with automatic creation of parent directories as needed.
+ * Files whose name ends in ".gz" are gzip-compressed transparently as they
+ * are written, without buffering the whole file in memory.
  * 
  * <p>
  * Used throughout the application to persist data such as contact CSV files,
@@ -42,7 +52,107 @@ public class FileSaver {
      */
     public static void saveLines(Path path, List<String> lines) throws IOException {
         ensureParentDirectory(path);
-        Files.write(path, lines);
+        writeLines(path, Files.newOutputStream(path), lines);
+    }
+
+    /**
+     * Durably replaces the specified file with the given lines.
+     * <p>
+     * The lines are written to a temporary file in the same directory, which is
+     * flushed to disk and then atomically renamed over the destination. A crash
+     * at any point leaves either the old file or the new file, never a
+     * partially written one.
+     * </p>
+     *
+     * @param path  the destination file path
+     * @param lines the lines of text to write, consumed once
+     * @throws IOException if writing fails
+     */
+    public static void saveLinesAtomically(Path path, Iterable<String> lines) throws IOException {
+        ensureParentDirectory(path);
+        Path temp = createTempSibling(path);
+        try {
+            writeLines(path, Files.newOutputStream(temp), lines);
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                channel.force(true); // Flushes everything written through the closed stream
+            }
+            replaceAtomically(temp, path);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Writes lines to a raw file stream, compressed if {@code path} selects
+     * a compressed format, and closes the stream.
+     */
+    private static void writeLines(Path path, OutputStream file, Iterable<String> lines) throws IOException {
+        try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(
+                Compression.compress(path, file), StandardCharsets.UTF_8), 64 * 1024)) {
+            for (String line : lines) {
+                writer.write(line);
+                writer.newLine();
+            }
+        }
+    }
+
+    /**
+     * Creates an empty temporary file next to the specified file, so that it
+     * can later be renamed over it with {@link #replaceAtomically(Path, Path)}.
+     *
+     * @param path the file the temporary file will replace
+     * @return the temporary file
+     * @throws IOException if the file cannot be created
+     */
+    public static Path createTempSibling(Path path) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        return Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+    }
+
+    /**
+     * Atomically renames a fully written file over the destination, then
+     * flushes the directory entry so the rename itself survives a crash.
+     *
+     * @param source a file already flushed to disk, in the same directory
+     * @param target the file to replace
+     * @throws IOException if the rename fails
+     */
+    public static void replaceAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+        try (FileChannel directory = FileChannel.open(target.toAbsolutePath().getParent(), StandardOpenOption.READ)) {
+            directory.force(true);
+        } catch (IOException e) {
+            // Not every platform can open a directory for syncing; the rename is still atomic
+        }
+    }
+
+    /**
+     * Appends a list of text lines to the end of the specified file.
+     * Creates the file if it does not exist; existing content is kept.
+     *
+     * @param path  the destination file path
+     * @param lines the lines of text to append
+     * @throws IOException if writing fails
+     */
+    public static void appendLines(Path path, List<String> lines) throws IOException {
+        ensureParentDirectory(path);
+        // Compressed appends add a gzip member, which readers concatenate
+        writeLines(path, Files.newOutputStream(path, StandardOpenOption.CREATE, StandardOpenOption.APPEND), lines);
+    }
+
+    /**
+     * Deletes the specified file if it exists.
+     *
+     * @param path the file to delete
+     * @throws IOException if the file exists but cannot be deleted
+     */
+    public static void deleteFile(Path path) throws IOException {
+        Files.deleteIfExists(path);
     }
 
     /**
@@ -55,7 +165,9 @@ public class FileSaver {
      */
     public static void saveString(Path path, String content) throws IOException {
         ensureParentDirectory(path);
-        Files.writeString(path, content);
+        try (OutputStream out = Compression.compress(path, Files.newOutputStream(path))) {
+            out.write(content.getBytes(StandardCharsets.UTF_8));
+        }
     }
 
     /**
@@ -0,0 +1,274 @@
+/*
+ * Author: James Stevens
+ * Date: 01 July 2025
+ * Course: SWEN 656 - Advanced Software Design and Implementation
+ *
+ * Copyright (c) 2025 James Stevens
+ * This file is part of the Address Book project and may not be used, copied,
+ * modified, or distributed without permission.
+ */
+
+package io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+import java.util.function.Predicate;
+
+/**
+ * Parses large delimited files in parallel using memory-mapped I/O.
+ * <p>
+ * The file is divided into equal byte ranges, and each range is moved forward
+ * to the next record boundary before parsing. Finding a safe boundary requires
+ * knowing whether a range starts inside a quoted field, so parsing runs in
+ * three steps:
+ * <ol>
+ *   <li>Count the quote characters in every range, in parallel</li>
+ *   <li>Derive the quote state at each range start from those counts, then
+ *       advance to the first line break outside quotes</li>
+ *   <li>Map and tokenize every record-aligned chunk with its own
+ *       {@link CsvTokenizer}, in parallel</li>
+ * </ol>
+ * The per-chunk results are concatenated in file order, giving the same list
+ * a sequential {@link FileParser} would produce.
+ * </p>
+ *
+ * @param <T> the object type produced from each record
+ *
+ * @author James Stevens
+ * @version 1.0
+ * @since 2025-07-01
+ */
+public class ParallelFileParser<T> {
+
+    // Chunks per worker thread, so uneven chunks still balance across workers
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private static final long MIN_CHUNK_SIZE = 1L << 20;   // 1 MB
+    private static final long MAX_CHUNK_SIZE = 256L << 20; // 256 MB
+    private static final int SCAN_BUFFER_SIZE = 64 * 1024;
+
+    private final char delimiter;
+    private final LineParser<T> parser;
+    private final ForkJoinPool pool;
+
+    /**
+     * Constructs a parallel parser running on the common fork-join pool.
+     *
+     * @param delimiter the field separator, typically ','
+     * @param parser    logic for converting token arrays into objects; must be thread-safe
+     */
+    public ParallelFileParser(char delimiter, LineParser<T> parser) {
+        this(delimiter, parser, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs a parallel parser running on the given pool.
+     *
+     * @param delimiter the field separator, typically ','
+     * @param parser    logic for converting token arrays into objects; must be thread-safe
+     * @param pool      the pool that scans and parses chunks
+     */
+    public ParallelFileParser(char delimiter, LineParser<T> parser, ForkJoinPool pool) {
+        this.delimiter = delimiter;
+        this.parser = parser;
+        this.pool = pool;
+    }
+
+    /**
+     * Parses every record in the file.
+     * <p>
+     * Blank records and records the {@link LineParser} rejects are skipped.
+     * </p>
+     *
+     * @param path     the file to parse
+     * @param isHeader identifies a header record; tested against the first record only
+     * @return the parsed objects in file order
+     * @throws IOException if the file cannot be read
+     */
+    public List<T> parse(Path path, Predicate<String[]> isHeader) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size == 0) return new ArrayList<>();
+
+            long chunkSize = size / ((long) pool.getParallelism() * CHUNKS_PER_THREAD);
+            chunkSize = Math.max(MIN_CHUNK_SIZE, Math.min(MAX_CHUNK_SIZE, chunkSize));
+            int chunks = (int) ((size + chunkSize - 1) / chunkSize);
+            long[] bounds = new long[chunks + 1];
+            for (int i = 0; i < chunks; i++) bounds[i] = i * chunkSize;
+            bounds[chunks] = size;
+
+            // Step 1: quote parity of each raw range
+            boolean[] oddQuotes = new boolean[chunks];
+            runParallel(chunks, i -> oddQuotes[i] = hasOddQuotes(channel, bounds[i], bounds[i + 1]));
+
+            // Step 2: move each range start to the next record boundary
+            boolean quoted = false;
+            for (int i = 1; i < chunks; i++) {
+                quoted ^= oddQuotes[i - 1];
+                long start = Math.max(bounds[i], bounds[i - 1]);
+                bounds[i] = nextRecordStart(channel, start, size, quoted && start == i * chunkSize);
+            }
+
+            // Step 3: parse record-aligned chunks
+            List<List<T>> results = new ArrayList<>(chunks);
+            for (int i = 0; i < chunks; i++) results.add(null);
+            runParallel(chunks, i -> results.set(i, parseChunk(channel, bounds[i], bounds[i + 1],
+                i == 0 ? isHeader : null)));
+
+            int total = 0;
+            for (List<T> chunk : results) total += chunk.size();
+            List<T> all = new ArrayList<>(total);
+            for (List<T> chunk : results) all.addAll(chunk);
+            return all;
+        } catch (UncheckedIOException e) {
+            throw e.getCause(); // Raised by a worker task
+        }
+    }
+
+    /**
+     * Runs {@code work} for every index in {@code [0, count)} on the pool.
+     */
+    private void runParallel(int count, IntConsumer work) {
+        pool.invoke(new RangeTask(0, count, work));
+    }
+
+    /**
+     * Determines whether a byte range contains an odd number of quote characters.
+     */
+    private static boolean hasOddQuotes(FileChannel channel, long start, long end) {
+        try {
+            ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+            byte[] bytes = new byte[SCAN_BUFFER_SIZE];
+            boolean odd = false;
+            while (mapped.hasRemaining()) {
+                int length = Math.min(bytes.length, mapped.remaining());
+                mapped.get(bytes, 0, length);
+                for (int i = 0; i < length; i++) {
+                    if (bytes[i] == '"') odd = !odd;
+                }
+            }
+            return odd;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Finds the offset just past the first line break outside quotes at or after
+     * {@code position}. Doubled quotes toggle the state twice and so leave it unchanged.
+     *
+     * @param quoted whether {@code position} lies inside a quoted field
+     * @return the start of the next record, or {@code size} if there is none
+     */
+    private static long nextRecordStart(FileChannel channel, long position, long size, boolean quoted)
+            throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+        while (position < size) {
+            buffer.clear();
+            int read = channel.read(buffer, position);
+            if (read <= 0) break;
+            for (int i = 0; i < read; i++) {
+                byte b = buffer.get(i);
+                if (b == '"') {
+                    quoted = !quoted;
+                } else if (b == '\n' && !quoted) {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+        return size;
+    }
+
+    /**
+     * Maps and parses the records in {@code [start, end)}.
+     */
+    private List<T> parseChunk(FileChannel channel, long start, long end, Predicate<String[]> isHeader) {
+        List<T> result = new ArrayList<>();
+        if (start >= end) return result;
+        try {
+            ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+            CsvTokenizer tokenizer = new CsvTokenizer(
+                new InputStreamReader(new ByteBufferInputStream(mapped), StandardCharsets.UTF_8), delimiter);
+            FileParser<T> records = new FileParser<>(delimiter, parser);
+
+            String[] tokens = tokenizer.nextRecord();
+            if (tokens != null && isHeader != null && isHeader.test(tokens)) {
+                tokens = tokenizer.nextRecord(); // Skip header
+            }
+            for (; tokens != null; tokens = tokenizer.nextRecord()) {
+                T item = records.parseTokens(tokens);
+                if (item != null) result.add(item);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return result;
+    }
+
+    /**
+     * Runs a piece of work for each index in {@code [from, to)}, splitting the
+     * range in half until single indexes remain.
+     */
+    @SuppressWarnings("serial") // Fork-join tasks are never serialized
+    private static class RangeTask extends RecursiveAction {
+
+        private final int from;
+        private final int to;
+        private final IntConsumer work;
+
+        RangeTask(int from, int to, IntConsumer work) {
+            this.from = from;
+            this.to = to;
+            this.work = work;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= 1) {
+                if (to > from) work.accept(from);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new RangeTask(from, middle, work), new RangeTask(middle, to, work));
+        }
+    }
+
+    /**
+     * Streams the remaining bytes of a buffer, such as a mapped file region.
+     */
+    private static class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) return 0;
+            if (!buffer.hasRemaining()) return -1;
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Author: James Stevens
+ * Date: 01 July 2025
+ * Course: SWEN 656 - Advanced Software Design and Implementation
+ * 
+ * Copyright (c) 2025 James Stevens
+ * This file is part of the Address Book project and may not be used, copied,
+ * modified, or distributed without permission.
+ */
+
+package utilities;
+
+/**
+ * Utility class for reading tunable application settings.
+ * <p>
+ * A setting is looked up first as a JVM system property (e.g.
+ * {@code -Daddressbook.save.window.ms=500}) and then as an environment
+ * variable whose name is the key upper-cased with dots replaced by
+ * underscores (e.g. {@code ADDRESSBOOK_SAVE_WINDOW_MS}). Missing or
+ * malformed values fall back to the supplied default.
+ */
+public class ConfigUtil {
+
+    /**
+     * Reads a setting as a string.
+     *
+     * @param key          the system property name
+     * @param defaultValue the value used when the setting is absent
+     * @return the configured value, or {@code defaultValue}
+     */
+    public static String getString(String key, String defaultValue) {
+        String value = System.getProperty(key);
+        if (value == null || value.isBlank()) {
+            value = System.getenv(key.toUpperCase().replace('.', '_'));
+        }
+        return value != null && !value.isBlank() ? value.trim() : defaultValue;
+    }
+
+    /**
+     * Reads a setting as an int.
+     *
+     * @param key          the system property name
+     * @param defaultValue the value used when the setting is absent or not a number
+     * @return the configured value, or {@code defaultValue}
+     */
+    public static int getInt(String key, int defaultValue) {
+        try {
+            return Integer.parseInt(getString(key, String.valueOf(defaultValue)));
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    /**
+     * Reads a setting as a long.
+     *
+     * @param key          the system property name
+     * @param defaultValue the value used when the setting is absent or not a number
+     * @return the configured value, or {@code defaultValue}
+     */
+    public static long getLong(String key, long defaultValue) {
+        try {
+            return Long.parseLong(getString(key, String.valueOf(defaultValue)));
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    /**
+     * Reads a setting as a boolean ("true" or "false", case-insensitive).
+     *
+     * @param key          the system property name
+     * @param defaultValue the value used when the setting is absent or not a boolean
+     * @return the configured value, or {@code defaultValue}
+     */
+    public static boolean getBoolean(String key, boolean defaultValue) {
+        String value = getString(key, null);
+        if ("true".equalsIgnoreCase(value)) return true;
+        if ("false".equalsIgnoreCase(value)) return false;
+        return defaultValue;
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Author: James Stevens
+ * Date: 01 July 2025
+ * Course: SWEN 656 - Advanced Software Design and Implementation
+ *
+ * Copyright (c) 2025 James Stevens
+ * This file is part of the Address Book project and may not be used, copied,
+ * modified, or distributed without permission.
+ */
+
+package utilities;
+
+import java.util.Arrays;
+
+/**
+ * Hash map from positive {@code long} keys to {@code int} values, stored
+ * in two parallel arrays with open addressing.
+ * <p>
+ * Unlike a {@code HashMap<Long, Integer>}, it allocates no objects per
+ * entry and a lookup reads two arrays rather than following pointers to a
+ * node and a boxed key. Collisions are resolved by linear probing, and
+ * removal shifts later entries of the probe run back rather than leaving
+ * tombstones, so lookups never slow down as entries come and go. The table
+ * doubles once it is two-thirds full.
+ * <p>
+ * Key 0 marks an empty bucket and cannot be stored. Not thread-safe.
+ */
+public final class LongIntMap {
+
+    /** Value returned by {@link #get(long)} for a missing key. */
+    public static final int MISSING = -1;
+
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] keys;
+    private int[] values;
+    private int mask;
+    private int size;
+
+    /**
+     * Creates an empty map.
+     */
+    public LongIntMap() {
+        this(MIN_CAPACITY);
+    }
+
+    /**
+     * Creates an empty map with room for the given number of entries.
+     *
+     * @param expected entries the map should hold without resizing
+     */
+    public LongIntMap(int expected) {
+        allocate(tableSizeFor(expected));
+    }
+
+    /**
+     * @param key a positive key
+     * @return the value for the key, or {@link #MISSING}
+     */
+    public int get(long key) {
+        int i = indexOf(key);
+        return i >= 0 ? values[i] : MISSING;
+    }
+
+    /**
+     * @param key a positive key
+     * @return true if the key has a value
+     */
+    public boolean containsKey(long key) {
+        return indexOf(key) >= 0;
+    }
+
+    /**
+     * Maps a key to a value, replacing any value it had.
+     *
+     * @param key   a positive key
+     * @param value the value
+     * @throws IllegalArgumentException if the key is not positive
+     */
+    public void put(long key, int value) {
+        if (key <= 0) throw new IllegalArgumentException("Key must be positive: " + key);
+        int i = slot(key);
+        for (; keys[i] != 0; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                values[i] = value;
+                return;
+            }
+        }
+        keys[i] = key;
+        values[i] = value;
+        if (++size * 3 > keys.length * 2) rehash(keys.length * 2);
+    }
+
+    /**
+     * Removes a key.
+     *
+     * @param key a positive key
+     * @return the value it had, or {@link #MISSING}
+     */
+    public int remove(long key) {
+        int i = indexOf(key);
+        if (i < 0) return MISSING;
+        int removed = values[i];
+        size--;
+
+        // Shift back any later entry of the run that would no longer be
+        // reachable from its home bucket across the gap
+        int gap = i;
+        for (int j = (gap + 1) & mask; keys[j] != 0; j = (j + 1) & mask) {
+            int home = slot(keys[j]);
+            if (((j - home) & mask) >= ((j - gap) & mask)) {
+                keys[gap] = keys[j];
+                values[gap] = values[j];
+                gap = j;
+            }
+        }
+        keys[gap] = 0;
+        return removed;
+    }
+
+    /**
+     * @return the number of keys mapped
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes every key.
+     */
+    public void clear() {
+        Arrays.fill(keys, 0);
+        size = 0;
+    }
+
+    private int indexOf(long key) {
+        if (key <= 0) return -1;
+        for (int i = slot(key); ; i = (i + 1) & mask) {
+            long k = keys[i];
+            if (k == key) return i;
+            if (k == 0) return -1;
+        }
+    }
+
+    private int slot(long key) {
+        long h = key * 0x9E3779B97F4A7C15L; // Fibonacci hashing spreads sequential keys
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] == 0) continue;
+            int j = slot(oldKeys[i]);
+            while (keys[j] != 0) j = (j + 1) & mask;
+            keys[j] = oldKeys[i];
+            values[j] = oldValues[i];
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+    }
+
+    private static int tableSizeFor(int expected) {
+        int capacity = MIN_CAPACITY;
+        while (capacity * 2 < expected * 3) capacity <<= 1;
+        return capacity;
+    }
+}
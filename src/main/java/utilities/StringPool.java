@@ -0,0 +1,124 @@
+/*
+ * Author: James Stevens
+ * Date: 01 July 2025
+ * Course: SWEN 656 - Advanced Software Design and Implementation
+ *
+ * Copyright (c) 2025 James Stevens
+ * This file is part of the Address Book project and may not be used, copied,
+ * modified, or distributed without permission.
+ */
+
+package utilities;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded, thread-safe pool of canonical String instances.
+ * <p>
+ * Fields such as state, city, and ZIP code take few distinct values across
+ * a large address book, yet every loaded or entered contact would otherwise
+ * hold its own copy of each. Passing such values through
+ * {@link #canonical(String)} makes equal values share one instance, so a
+ * million contacts in a hundred cities hold a hundred city Strings.
+ * <p>
+ * Once the pool holds its maximum number of values it stops admitting new
+ * ones and returns them unchanged, so a column with more distinct values
+ * than expected cannot grow the pool without bound. Values already pooled
+ * keep being shared. A pool may also admit only values up to a given
+ * length.
+ * <p>
+ * Each pooled contact column has its own pool, so one column cannot fill
+ * the pool before another's values are seen: {@link #cities()},
+ * {@link #states()}, and {@link #zipCodes()}, each holding up to
+ * {@code addressbook.intern.max.size} values (default 65536). Names are
+ * not pooled, since they are mostly distinct, and ZIP+4 codes are returned
+ * unchanged; only five-character ZIP codes are pooled.
+ */
+public final class StringPool {
+
+    private static final int MAX_SIZE = ConfigUtil.getInt("addressbook.intern.max.size", 65_536);
+
+    private static final StringPool CITIES = new StringPool(MAX_SIZE);
+    private static final StringPool STATES = new StringPool(MAX_SIZE);
+    private static final StringPool ZIP_CODES = new StringPool(MAX_SIZE, 5);
+
+    private final int maxSize;
+    private final int maxLength;
+    private final ConcurrentHashMap<String, String> values = new ConcurrentHashMap<>();
+    private final AtomicInteger size = new AtomicInteger();
+
+    /**
+     * Creates an empty pool.
+     *
+     * @param maxSize the most distinct values to hold; 0 disables pooling
+     */
+    public StringPool(int maxSize) {
+        this(maxSize, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates an empty pool that admits only values up to a given length.
+     *
+     * @param maxSize   the most distinct values to hold; 0 disables pooling
+     * @param maxLength the longest value to pool; longer values are returned unchanged
+     */
+    public StringPool(int maxSize, int maxLength) {
+        this.maxSize = Math.max(0, maxSize);
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * Returns the shared pool for contact cities.
+     *
+     * @return the shared pool
+     */
+    public static StringPool cities() {
+        return CITIES;
+    }
+
+    /**
+     * Returns the shared pool for contact states.
+     *
+     * @return the shared pool
+     */
+    public static StringPool states() {
+        return STATES;
+    }
+
+    /**
+     * Returns the shared pool for five-digit contact ZIP codes.
+     *
+     * @return the shared pool
+     */
+    public static StringPool zipCodes() {
+        return ZIP_CODES;
+    }
+
+    /**
+     * Returns the pooled instance equal to a value, pooling the value if
+     * there is room.
+     *
+     * @param value the value to canonicalize; may be null
+     * @return the pooled instance, or {@code value} itself if it is null,
+     *         too long, newly pooled, or the pool is full
+     */
+    public String canonical(String value) {
+        if (value == null || value.length() > maxLength) return value;
+        String pooled = values.get(value);
+        if (pooled != null) return pooled;
+        if (size.get() >= maxSize) return value;
+
+        pooled = values.putIfAbsent(value, value);
+        if (pooled != null) return pooled; // Another thread pooled it first
+        size.incrementAndGet();
+        return value;
+    }
+
+    /**
+     * @return the number of distinct values pooled
+     */
+    public int size() {
+        return size.get();
+    }
+}
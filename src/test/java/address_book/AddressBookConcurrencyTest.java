@@ -0,0 +1,131 @@
+package address_book;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Scanner;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AddressBookConcurrencyTest {
+
+    private static final int WRITERS = 2;
+    private static final int READERS = 4;
+    private static final int OPERATIONS = 3_000;
+
+    private static Contact contact(int n) {
+        return new Contact("First" + n, "Last" + (n % 50), n + " Oak St", "Austin", "Texas",
+                String.format("787%02d", n % 100), String.format("512555%04d", n), "user" + n + "@example.com");
+    }
+
+    @Test
+    void concurrentReadersAndWriters_leaveBookConsistent() throws Exception {
+        AddressBook book = new AddressBook();
+        List<Contact> initial = new ArrayList<>();
+        for (int n = 0; n < 500; n++) initial.add(contact(n));
+        book.setContacts(initial);
+
+        Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        AtomicInteger nextContact = new AtomicInteger(500);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int w = 0; w < WRITERS; w++) {
+            threads.add(new Thread(() -> run(start, failures, () -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < OPERATIONS; i++) {
+                    int operation = random.nextInt(3);
+                    if (operation == 0) {
+                        book.addContact(contact(nextContact.getAndIncrement()));
+                    } else if (operation == 1) {
+                        book.removeContact(1 + random.nextInt(nextContact.get()));
+                    } else {
+                        // Renames a contact found by phone, answering no to every other field
+                        int n = random.nextInt(nextContact.get());
+                        book.updateContact(new Scanner(String.format(
+                            "5%n512555%04d%nn%ny%nMoved%d%nn%nn%nn%nn%nn%nn%n", n, n)));
+                    }
+                }
+            })));
+        }
+        for (int r = 0; r < READERS; r++) {
+            threads.add(new Thread(() -> run(start, failures, () -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < OPERATIONS; i++) {
+                    int n = random.nextInt(nextContact.get());
+                    for (Contact c : book.findByEmail("user" + n + "@example.com")) {
+                        assertEquals("First" + n, c.getFirstName());
+                    }
+                    Contact byId = book.getContact(1 + random.nextInt(nextContact.get()));
+                    if (byId != null) assertNotNull(byId.getEmail());
+                    ContactSearcher.findMatches(book, "first-prefix", "First" + (n % 10));
+                    for (Contact c : ContactSearcher.findMatches(book, "last", "ast" + (n % 50))) {
+                        assertEquals(c.getLastName().toLowerCase(), c.getFoldedLastName());
+                    }
+                    for (Contact c : ContactSearcher.search(book, "last", "ov").page(0, 20)) {
+                        assertEquals(c.getLastName().toLowerCase(), c.getFoldedLastName());
+                    }
+                }
+            })));
+        }
+        threads.forEach(Thread::start);
+        start.countDown();
+        for (Thread t : threads) t.join();
+
+        assertTrue(failures.isEmpty(), () -> "Failures: " + failures);
+        List<Contact> contacts = book.getContacts();
+        assertEquals(contacts.size(), book.size());
+        for (Contact c : contacts) {
+            assertSame(c, book.getContact(c.getId()));
+            assertEquals(List.of(c), book.findByEmail(c.getEmail()));
+            assertEquals(List.of(c), book.findByPhone(c.getPhone()));
+            assertTrue(ContactSearcher.findMatches(book, "last", c.getLastName()).contains(c));
+        }
+        assertEquals(contacts.size(), ContactSearcher.findMatches(book, "email", "@example").size());
+    }
+
+    @Test
+    void deleteContact_refusesContactUpdatedAfterSelection() {
+        AddressBook book = new AddressBook();
+        book.setContacts(List.of(contact(1), contact(2)));
+        Contact selected = book.findByEmail("user1@example.com").get(0);
+        Contact[] renamed = new Contact[1];
+
+        // Someone else renames the contact while the user is asked to confirm
+        Scanner input = new Scanner(new Readable() {
+            private final String[] parts = { "4\nuser1@example.com\n", "y\n" };
+            private int next;
+
+            @Override
+            public int read(CharBuffer buffer) {
+                if (next == parts.length) return -1;
+                if (next == 1) {
+                    renamed[0] = book.updateContact(new Scanner("5\n5125550001\nn\ny\nMoved\nn\nn\nn\nn\nn\nn\n"))[1];
+                }
+                buffer.put(parts[next++]);
+                return parts[next - 1].length();
+            }
+        });
+
+        assertNull(book.deleteContact(input));
+        assertNotNull(renamed[0]);
+        assertNotSame(selected, renamed[0]);
+        assertSame(renamed[0], book.getContact(selected.getId()));
+        assertEquals(2, book.size());
+    }
+
+    private static void run(CountDownLatch start, Queue<Throwable> failures, Runnable work) {
+        try {
+            start.await();
+            work.run();
+        } catch (Throwable t) {
+            failures.add(t);
+        }
+    }
+}
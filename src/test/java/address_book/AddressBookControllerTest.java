@@ -0,0 +1,66 @@
+package address_book;
+
+import io.AppPaths;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static com.github.stefanbirkner.systemlambda.SystemLambda.withEnvironmentVariable;
+import static org.junit.jupiter.api.Assertions.*;
+
+class AddressBookControllerTest {
+
+    private static final String INPUT =
+            "James\nStevens\n123 Main St\nChicago\nIllinois\n60601\n3125551212\njames@example.com\n"
+          + "Ada\nLovelace\n42 Code Ave\nLondon\nEngland\n12345\n2125551212\nada@example.com\n"
+          + "Grace\nHopper\n7 Navy Rd\nArlington\nVirginia\n22201\n7035551212\ngrace@example.com\n";
+
+    @Test
+    void editsBelowCompactionThreshold_areJournaledWithoutRewritingCsv() throws Exception {
+        withEnvironmentVariable("APP_DATA_DIR", "target/test-data")
+                .and("ADDRESSBOOK_JOURNAL_COMPACT_THRESHOLD", "3")
+                .and("ADDRESSBOOK_SAVE_WINDOW_MS", "0")
+                .execute(() -> {
+                    deleteDataFiles();
+                    InputStream stdin = System.in;
+                    System.setIn(new ByteArrayInputStream(INPUT.getBytes(StandardCharsets.UTF_8)));
+                    AddressBookController controller = new AddressBookController();
+                    try {
+                        controller.load();
+                        controller.add();
+                        controller.add();
+
+                        Thread.sleep(300); // Long past the save window
+                        assertFalse(Files.exists(AppPaths.ADDRESS_BOOK_FILE));
+                        assertTrue(Files.exists(AppPaths.JOURNAL_FILE));
+
+                        controller.add(); // Third journal record reaches the threshold
+                        long deadline = System.currentTimeMillis() + 5000;
+                        while (!Files.exists(AppPaths.ADDRESS_BOOK_FILE) && System.currentTimeMillis() < deadline) {
+                            Thread.sleep(10);
+                        }
+                        assertTrue(Files.exists(AppPaths.ADDRESS_BOOK_FILE));
+                    } finally {
+                        controller.close();
+                        System.setIn(stdin);
+                        deleteDataFiles();
+                    }
+                });
+    }
+
+    private static void deleteDataFiles() throws Exception {
+        Files.createDirectories(AppPaths.BASE_DIRECTORY);
+        Files.deleteIfExists(AppPaths.ADDRESS_BOOK_FILE);
+        Files.deleteIfExists(AppPaths.COMPRESSED_ADDRESS_BOOK_FILE);
+        Files.deleteIfExists(AppPaths.SNAPSHOT_FILE);
+        try (DirectoryStream<Path> journals = Files.newDirectoryStream(
+                AppPaths.BASE_DIRECTORY, AppPaths.JOURNAL_FILE.getFileName() + "*")) {
+            for (Path journal : journals) Files.delete(journal);
+        }
+    }
+}
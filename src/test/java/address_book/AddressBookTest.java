@@ -0,0 +1,188 @@
+package address_book;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Scanner;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AddressBookTest {
+
+    private static AddressBook book() {
+        AddressBook book = new AddressBook();
+        book.setContacts(new ArrayList<>(List.of(
+            new Contact("James", "Stevens", "123 Main St", "Chicago", "Illinois", "60601", "(312) 555-1212", "james@example.com"),
+            new Contact("Ada", "Lovelace", "42 Code Ave", "London", "England", "12345", "2125551212", "ada@example.com")
+        )));
+        return book;
+    }
+
+    @Test
+    void findByEmailAndPhone_useNormalizedExactKeys() {
+        AddressBook book = book();
+
+        assertEquals("Ada", book.findByEmail("ADA@Example.com").get(0).getFirstName());
+        assertEquals("James", book.findByPhone("312-555-1212").get(0).getFirstName());
+        assertTrue(book.findByEmail("ada@example.co").isEmpty());
+    }
+
+    @Test
+    void deleteContact_removesContactFromIndexes() {
+        AddressBook book = book();
+
+        Contact deleted = book.deleteContact(new Scanner("4\nada@example.com\ny\n"));
+
+        assertNotNull(deleted);
+        assertTrue(book.findByEmail("ada@example.com").isEmpty());
+        assertTrue(book.findByPhone("2125551212").isEmpty());
+    }
+
+    @Test
+    void setContacts_assignsMissingAndDuplicateIds() {
+        Contact kept = new Contact("Ann", "Lee", "1 Oak St", "Austin", "Texas", "78701", "5125550100", "ann@example.com");
+        Contact copy = new Contact(kept);
+        kept.setId(5);
+        copy.setId(5);
+        Contact fresh = new Contact("Bob", "Lee", "1 Oak St", "Austin", "Texas", "78701", "5125550101", "bob@example.com");
+        AddressBook book = new AddressBook();
+
+        assertEquals(1, book.setContacts(new ArrayList<>(List.of(kept, fresh))));
+        book.addContact(copy);
+
+        assertEquals(5, kept.getId());
+        assertEquals(6, fresh.getId());
+        assertEquals(7, copy.getId());
+        assertSame(copy, book.getContact(7));
+        assertNull(book.getContact(8));
+    }
+
+    @Test
+    void removeContact_movesLastContactIntoPlace() {
+        AddressBook book = book();
+        Contact james = book.getContacts().get(0);
+        Contact ada = book.getContacts().get(1);
+        book.addContact(new Contact("Alan", "Turing", "1 Bletchley", "London", "England", "12345", "2125551213", "alan@example.com"));
+        Contact alan = book.getContacts().get(2);
+
+        assertSame(james, book.removeContact(james.getId()));
+        assertNull(book.removeContact(james.getId()));
+
+        assertEquals(List.of(alan, ada), book.getContacts());
+        assertSame(alan, book.getContact(alan.getId()));
+        assertSame(ada, book.removeContact(ada.getId()));
+        assertEquals(List.of(alan), book.getContacts());
+        assertTrue(book.findByEmail("james@example.com").isEmpty());
+    }
+
+    @Test
+    void updateContact_reindexesChangedFields() {
+        AddressBook book = book();
+
+        Contact[] result = book.updateContact(new Scanner("5\n(212) 555-1212\nn\nn\nn\nn\nn\nn\nn\ny\nlovelace@example.com\n"));
+
+        assertNotNull(result);
+        assertTrue(book.findByEmail("ada@example.com").isEmpty());
+        assertSame(result[1], book.findByEmail("lovelace@example.com").get(0));
+    }
+
+    @Test
+    void findMatches_usesTrigramIndexAndStaysInStepWithChanges() {
+        AddressBook book = book();
+
+        assertEquals("Ada", ContactSearcher.findMatches(book, "last", "LOVE").get(0).getFirstName());
+        assertTrue(ContactSearcher.findMatches(book, "first", "a lo").isEmpty());
+        assertEquals(1, ContactSearcher.findMatches(book, "name", "a lo").size());
+
+        book.addContact(new Contact("Grace", "Hopper", "1 Navy Way", "Arlington", "Virginia", "22201", "7035551212", "grace@example.com"));
+        assertEquals("Grace", ContactSearcher.findMatches(book, "email", "grace@").get(0).getFirstName());
+        assertEquals(3, ContactSearcher.findMatches(book, "email", "example").size());
+
+        book.deleteContact(new Scanner("4\ngrace@example.com\ny\n"));
+        assertTrue(ContactSearcher.findMatches(book, "full", "hopper").isEmpty());
+    }
+
+    @Test
+    void deleteContact_searchesByLastNamePrefix() {
+        AddressBook book = book();
+
+        Contact deleted = book.deleteContact(new Scanner("7\nlove\ny\n"));
+
+        assertEquals("Lovelace", deleted.getLastName());
+        assertTrue(ContactSearcher.findMatches(book, "last-prefix", "L").isEmpty());
+        assertEquals(1, ContactSearcher.findMatches(book, "full-prefix", "james s").size());
+    }
+
+    @Test
+    void deleteMatching_removesEveryMatchInOnePass() {
+        AddressBook book = book();
+
+        List<Contact> deleted = book.deleteMatching(new Scanner("email:*@example.com AND NOT state:illinois\ny\n"));
+
+        assertEquals(1, deleted.size());
+        assertEquals("Ada", deleted.get(0).getFirstName());
+        assertEquals(1, book.getContacts().size());
+        assertTrue(book.findByEmail("ada@example.com").isEmpty());
+    }
+
+    @Test
+    void findFuzzy_ranksNamesByTypoCount() {
+        AddressBook book = book();
+        book.addContact(new Contact("Jane", "Stevenson", "1 Oak Ave", "Chicago", "Illinois", "60601", "3125559999", "jane@example.com"));
+
+        assertEquals("Lovelace", ContactSearcher.findMatches(book, "fuzzy", "Lovleace").get(0).getLastName());
+        assertEquals("James", ContactSearcher.findMatches(book, "fuzzy", "jmaes stevens").get(0).getFirstName());
+
+        List<Contact> ranked = book.findFuzzy("stevens", 2, 10);
+        assertEquals(List.of("Stevens", "Stevenson"), List.of(ranked.get(0).getLastName(), ranked.get(1).getLastName()));
+        assertTrue(book.findFuzzy("lovelace", 2, 0).isEmpty());
+    }
+
+    @Test
+    void findMatches_phoneticFindsSoundAlikeNames() {
+        AddressBook book = book();
+        book.addContact(new Contact("Kathryn", "Smyth", "1 Oak Ave", "Chicago", "Illinois", "60601", "3125559999", "kathryn@example.com"));
+
+        assertEquals("Kathryn", ContactSearcher.findMatches(book, "phonetic", "Smith").get(0).getFirstName());
+        assertEquals(1, ContactSearcher.findMatches(book, "phonetic", "Catherine Smith").size());
+        assertTrue(ContactSearcher.findMatches(book, "phonetic", "Catherine Jones").isEmpty());
+        assertEquals("Stevens", ContactSearcher.findMatches(book, "phonetic", "Jaymes Stephens").get(0).getLastName());
+    }
+
+    @Test
+    void findMatches_cachesResultsUntilBookChanges() {
+        AddressBook book = book();
+        SearchCache cache = book.getSearchCache();
+
+        assertEquals(1, ContactSearcher.findMatches(book, "last", "love").size());
+        assertEquals(1, ContactSearcher.findMatches(book, "LAST", "Love").size());
+        assertEquals(1, cache.getHits());
+
+        book.addContact(new Contact("Grace", "Lovell", "1 Navy Rd", "Arlington", "Virginia", "22202", "7035551212", "grace@example.com"));
+        assertEquals(2, ContactSearcher.findMatches(book, "last", "love").size());
+        assertEquals(1, cache.getHits());
+
+        book.deleteContact(new Scanner("4\ngrace@example.com\ny\n"));
+        assertEquals(1, ContactSearcher.findMatches(book, "last", "love").size());
+    }
+
+    @Test
+    void findMatches_zipRangeAndRegionStayInStepWithChanges() {
+        AddressBook book = book();
+        Contact grace = new Contact("Grace", "Hopper", "1 Navy Rd", "San Antonio", "Texas", "78205-1234", "2105551212", "grace@example.com");
+        book.addContact(grace);
+
+        assertEquals(List.of(grace), ContactSearcher.findMatches(book, "zip", "78200-78299"));
+        assertEquals(2, ContactSearcher.findMatches(book, "zip", "20000 to 78299").size());
+        assertEquals(List.of(grace), ContactSearcher.findMatches(book, "region", "san antonio,  TEXAS"));
+        assertEquals(List.of(grace), ContactSearcher.findMatches(book, "region", "Texas"));
+
+        Contact[] moved = book.updateContact(new Scanner("13\nTexas\nn\nn\nn\ny\nAustin\nn\ny\n78701\nn\nn\n"));
+        assertSame(grace, moved[0]);
+        assertEquals("San Antonio", grace.getCity()); // Replaced, not changed in place
+        assertTrue(ContactSearcher.findMatches(book, "region", "San Antonio, Texas").isEmpty());
+        assertEquals(List.of(moved[1]), ContactSearcher.findMatches(book, "region", "Austin, Texas"));
+        assertEquals(List.of(moved[1]), ContactSearcher.findMatches(book, "zip", "78701"));
+    }
+}
@@ -0,0 +1,92 @@
+package address_book;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContactCursorTest {
+
+    private static List<Contact> contacts(int count) {
+        List<Contact> contacts = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            contacts.add(new Contact("Name" + i, i % 2 == 0 ? "Smith" : "Jones", "1 Main St", "Chicago",
+                "Illinois", "60601", "3125551212", "user" + i + "@example.com"));
+        }
+        return contacts;
+    }
+
+    @Test
+    void page_testsOnlyAsManyContactsAsThePageNeeds() {
+        List<Contact> contacts = contacts(1000);
+        AtomicInteger tested = new AtomicInteger();
+        ContactCursor cursor = ContactCursor.filtering(contacts, c -> {
+            tested.incrementAndGet();
+            return c.getLastName().equals("Smith");
+        });
+
+        List<Contact> page = cursor.page(0, 5);
+
+        assertEquals(5, page.size());
+        assertEquals("Name8", page.get(4).getFirstName());
+        assertEquals(9, tested.get());
+    }
+
+    @Test
+    void page_revisitsEarlierPagesWithoutTestingAgain() {
+        List<Contact> contacts = contacts(100);
+        AtomicInteger tested = new AtomicInteger();
+        ContactCursor cursor = ContactCursor.filtering(contacts, c -> {
+            tested.incrementAndGet();
+            return c.getLastName().equals("Jones");
+        });
+
+        assertEquals("Name11", cursor.page(5, 5).get(0).getFirstName());
+        int afterSecondPage = tested.get();
+
+        assertEquals("Name1", cursor.page(0, 5).get(0).getFirstName());
+        assertEquals(afterSecondPage, tested.get());
+    }
+
+    @Test
+    void filtering_readsAddressBookInPlaceAcrossChunks() {
+        AddressBook book = new AddressBook();
+        book.setContacts(contacts(10_000));
+        AtomicInteger tested = new AtomicInteger();
+        ContactCursor cursor = ContactCursor.filtering(book, c -> {
+            tested.incrementAndGet();
+            return c.getLastName().equals("Smith");
+        });
+
+        assertEquals("Name8", cursor.page(0, 5).get(4).getFirstName());
+        assertEquals(9, tested.get());
+
+        book.addContact(new Contact("Late", "Smith", "1 Main St", "Chicago", "Illinois", "60601", "3125551212",
+            "late@example.com"));
+        List<Contact> all = cursor.toList();
+        assertEquals(5_001, all.size());
+        assertEquals("Late", all.get(5_000).getFirstName());
+    }
+
+    @Test
+    void hasMoreThan_detectsLastPage() {
+        ContactCursor cursor = ContactCursor.filtering(contacts(10), c -> c.getLastName().equals("Smith"));
+
+        assertTrue(cursor.hasMoreThan(4));
+        assertFalse(cursor.hasMoreThan(5));
+        assertEquals(1, cursor.page(4, 5).size());
+        assertTrue(cursor.page(5, 5).isEmpty());
+        assertEquals(5, cursor.toList().size());
+    }
+
+    @Test
+    void of_pagesAListWithoutFiltering() {
+        ContactCursor cursor = ContactCursor.of(contacts(3));
+
+        assertEquals("Name2", cursor.page(2, 5).get(0).getFirstName());
+        assertFalse(cursor.hasMoreThan(3));
+    }
+}
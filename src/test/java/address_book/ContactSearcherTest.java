@@ -0,0 +1,69 @@
+package address_book;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Scanner;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContactSearcherTest {
+
+    private static List<Contact> contacts(int count) {
+        List<Contact> contacts = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            contacts.add(new Contact("Name" + i, i % 3 == 0 ? "Smith" : "Jones", "1 Main St", "Chicago",
+                "Illinois", "60601", String.format("312555%04d", i % 10000), "user" + i + "@example.com"));
+        }
+        return contacts;
+    }
+
+    @Test
+    void filter_inParallelKeepsSequentialOrder() {
+        List<Contact> contacts = contacts(50_000);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            List<Contact> sequential = ContactSearcher.filter(contacts, c -> c.getLastName().equals("Smith"), pool, Integer.MAX_VALUE);
+            List<Contact> parallel = ContactSearcher.filter(contacts, c -> c.getLastName().equals("Smith"), pool, 1);
+
+            assertEquals(16_667, parallel.size());
+            assertEquals(sequential, parallel);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void findMatches_returnsEmptyForUnknownFieldOrInvalidQuery() {
+        List<Contact> contacts = contacts(10);
+
+        assertTrue(ContactSearcher.findMatches(contacts, "nickname", "al").isEmpty());
+        assertTrue(ContactSearcher.findMatches(contacts, "query", "last:smith AND").isEmpty());
+        assertEquals(4, ContactSearcher.findMatches(contacts, "query", "last:smith").size());
+    }
+
+    @Test
+    void selectFromList_pagesThroughMatches() {
+        List<Contact> contacts = contacts(ContactSearcher.PAGE_SIZE * 2 + 5);
+        ContactCursor cursor = ContactCursor.filtering(contacts, c -> true);
+        int onSecondPage = ContactSearcher.PAGE_SIZE + 3;
+
+        Contact selected = ContactSearcher.selectFromList(cursor,
+            new Scanner("p\n" + onSecondPage + "\nn\n" + onSecondPage + "\n"));
+
+        assertSame(contacts.get(onSecondPage - 1), selected);
+    }
+
+    @Test
+    void search_scansLazilyAndReturnsSameMatchesAsFindMatches() {
+        AddressBook book = new AddressBook();
+        book.setContacts(contacts(300));
+
+        ContactCursor cursor = ContactSearcher.search(book, "query", "last:smith");
+
+        assertEquals(ContactSearcher.findMatches(book, "query", "last:smith"), cursor.toList());
+        assertEquals(1, ContactSearcher.search(book, "email", "user7@example.com").toList().size());
+    }
+}
@@ -0,0 +1,41 @@
+package address_book;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContactTest {
+
+    private static Contact contact() {
+        return new Contact("Ada", "Lovelace", "42 Code Ave", "London", "England", "12345", "2125551212", "Ada@Example.com");
+    }
+
+    @Test
+    void foldedFields_areCachedUntilTheFieldIsSet() {
+        Contact ada = contact();
+
+        assertEquals("ada lovelace", ada.getFoldedFullName());
+        assertSame(ada.getFoldedFullName(), ada.getFoldedFullName());
+        assertSame(ada.getPhone(), ada.getFoldedPhone()); // Already lower case
+
+        ada.setLastName("King");
+        ada.setEmail("ADA@king.org");
+
+        assertEquals("king", ada.getFoldedLastName());
+        assertEquals("ada king", ada.getFoldedFullName());
+        assertEquals("ada@king.org", ada.getFoldedEmail());
+    }
+
+    @Test
+    void copyConstructor_sharesCacheButNotLaterChanges() {
+        Contact original = contact();
+        String folded = original.getFoldedFirstName();
+
+        Contact copy = new Contact(original);
+        copy.setFirstName("Augusta");
+
+        assertSame(folded, original.getFoldedFirstName());
+        assertEquals("augusta", copy.getFoldedFirstName());
+        assertEquals("augusta lovelace", copy.getFoldedFullName());
+    }
+}
@@ -0,0 +1,60 @@
+package address_book;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SearchCacheTest {
+
+    private static final Contact ADA =
+        new Contact("Ada", "Lovelace", "42 Code Ave", "London", "England", "12345", "2125551212", "ada@example.com");
+
+    @Test
+    void get_normalizesKeyAndCountsHitsAndMisses() {
+        SearchCache cache = new SearchCache(4);
+
+        assertNull(cache.get("last", "love"));
+        cache.put("last", "love", List.of(ADA));
+
+        assertSame(ADA, cache.get("LAST", "  Love ").get(0));
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    void get_returnsCopyCallersCanModify() {
+        SearchCache cache = new SearchCache(4);
+        cache.put("last", "love", List.of(ADA));
+
+        cache.get("last", "love").clear();
+
+        assertEquals(1, cache.get("last", "love").size());
+    }
+
+    @Test
+    void put_evictsLeastRecentlyUsed() {
+        SearchCache cache = new SearchCache(2);
+        cache.put("first", "a", List.of());
+        cache.put("first", "b", List.of());
+        cache.get("first", "a");
+        cache.put("first", "c", List.of());
+
+        assertNotNull(cache.get("first", "a"));
+        assertNull(cache.get("first", "b"));
+        assertEquals(1, cache.getEvictions());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void invalidate_dropsEntriesAndAdvancesGeneration() {
+        SearchCache cache = new SearchCache(4);
+        cache.put("last", "love", List.of(ADA));
+
+        cache.invalidate();
+
+        assertNull(cache.get("last", "love"));
+        assertEquals(1, cache.getGeneration());
+    }
+}
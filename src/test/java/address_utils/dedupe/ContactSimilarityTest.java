@@ -0,0 +1,31 @@
+package address_utils.dedupe;
+
+import address_book.Contact;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContactSimilarityTest {
+
+    @Test
+    void jaroWinkler_matchesKnownValues() {
+        assertEquals(1.0, ContactSimilarity.jaroWinkler("Martha", "MARTHA"), 1e-9);
+        assertEquals(0.961, ContactSimilarity.jaroWinkler("martha", "marhta"), 1e-3);
+        assertEquals(0.840, ContactSimilarity.jaroWinkler("dwayne", "duane"), 1e-3);
+        assertEquals(0.0, ContactSimilarity.jaroWinkler("abc", "xyz"), 1e-9);
+        assertEquals(0.0, ContactSimilarity.jaroWinkler("", "abc"), 1e-9);
+    }
+
+    @Test
+    void score_ranksTypoAboveRelative() {
+        Contact ada = new Contact("Ada", "Lovelace", "42 Code Ave", "London", "England", "12345", "2125551212", "ada@example.com");
+        Contact typo = new Contact("Adda", "Lovelace", "42 Code Avenue", "London", "England", "12345-6789", "(212) 555-1212", "ada@example.com");
+        Contact relative = new Contact("Byron", "Lovelace", "42 Code Ave", "London", "England", "12345", "2125551212", "byron@example.com");
+
+        assertEquals(1.0, ContactSimilarity.score(ada, ada), 1e-9);
+        assertTrue(ContactSimilarity.score(ada, typo) >= DuplicateFinder.DEFAULT_THRESHOLD);
+        assertTrue(ContactSimilarity.score(ada, relative) < DuplicateFinder.DEFAULT_THRESHOLD);
+        assertTrue(ContactSimilarity.isDuplicate(ada, typo, DuplicateFinder.DEFAULT_THRESHOLD));
+        assertFalse(ContactSimilarity.isDuplicate(ada, relative, DuplicateFinder.DEFAULT_THRESHOLD));
+    }
+}
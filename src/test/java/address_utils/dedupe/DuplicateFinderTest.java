@@ -0,0 +1,74 @@
+package address_utils.dedupe;
+
+import address_book.Contact;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DuplicateFinderTest {
+
+    private static Contact contact(String first, String last, String zip, String phone, String email) {
+        return new Contact(first, last, "1 Main St", "Chicago", "Illinois", zip, phone, email);
+    }
+
+    @Test
+    void findClusters_joinsDuplicatesFoundThroughDifferentKeys() {
+        Contact james = contact("James", "Stevens", "60601", "3125551212", "james.stevens@example.com");
+        Contact samePhone = contact("Jim", "Stevens", "60601", "(312) 555-1212", "jim@example.com");
+        Contact sameSound = contact("James", "Stephens", "60601-1234", "3125550000", "james.stephens@example.org");
+        Contact other = contact("Ada", "Lovelace", "60601", "3125559999", "ada@example.com");
+
+        List<List<Contact>> clusters = new DuplicateFinder().findClusters(List.of(other, james, samePhone, sameSound));
+
+        assertEquals(List.of(List.of(james, samePhone, sameSound)), clusters);
+    }
+
+    @Test
+    void findClusters_ignoresContactsSharingNoKey() {
+        Contact first = contact("Ada", "Lovelace", "12345", "2125551212", "ada@example.com");
+        Contact second = contact("Ada", "Lovelace", "99999", "7185551212", "countess@example.org");
+
+        assertTrue(new DuplicateFinder().findClusters(List.of(first, second)).isEmpty());
+    }
+
+    @Test
+    void findClusters_comparesPairOutsideTheWindowOfALargerEarlierBlock() {
+        // One shared office phone, with names and emails sorting the two Stevens contacts far apart
+        Contact james = contact("James", "Stevens", "60601", "3125551212", "james.stevens@example.com");
+        Contact jim = contact("Jim", "Stevens", "60601", "3125551212", "jim@example.com");
+        List<Contact> contacts = new ArrayList<>(List.of(james));
+        for (int i = 0; i < 40; i++) {
+            contacts.add(contact("Jan" + (100 + i), "Lovelace", "1" + (1000 + i), "3125551212", "jan" + (100 + i) + "@example.com"));
+        }
+        contacts.add(jim);
+
+        List<List<Contact>> clusters = new DuplicateFinder().findClusters(contacts);
+
+        assertEquals(List.of(List.of(james, jim)), clusters);
+    }
+
+    @Test
+    void findClusters_inParallelMatchesSequential() {
+        List<Contact> contacts = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            String phone = String.format("312555%04d", i % 2_500);
+            contacts.add(contact(i % 2 == 0 ? "James" : "Jmaes", "Stevens", String.format("6%04d", i % 2_500), phone,
+                "js" + (i % 2_500) + "@example.com"));
+        }
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            List<List<Contact>> parallel = new DuplicateFinder(DuplicateFinder.DEFAULT_THRESHOLD, pool).findClusters(contacts);
+            List<List<Contact>> sequential =
+                new DuplicateFinder(DuplicateFinder.DEFAULT_THRESHOLD, new ForkJoinPool(1)).findClusters(contacts);
+
+            assertEquals(2_500, parallel.size());
+            assertEquals(sequential, parallel);
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -9,7 +9,7 @@ class ContactCSVFormatterTest {
 
     @Test
     void header_isCorrect() {
-        assertEquals("First Name,Last Name,Street,City,State,Zip,Phone,Email", ContactCSVFormatter.header());
+        assertEquals("First Name,Last Name,Street,City,State,Zip,Phone,Email,Id", ContactCSVFormatter.header());
     }
 
     @Test
@@ -30,4 +30,14 @@ class ContactCSVFormatterTest {
         // Street contains quotes + comma -> must be wrapped in quotes and internal quotes doubled
         assertTrue(csv.contains("\"123 \"\"Main\"\", St\""));
     }
+
+    @Test
+    void toCSV_appendsIdOnlyWhenAssigned() {
+        Contact c = new Contact("Ada", "Lovelace", "1 A St", "London", "England", "12345", "2125551212", "ada@example.com");
+        assertEquals("Ada,Lovelace,1 A St,London,England,12345,2125551212,ada@example.com", ContactCSVFormatter.toCSV(c));
+
+        c.setId(17);
+        assertEquals("Ada,Lovelace,1 A St,London,England,12345,2125551212,ada@example.com,17", ContactCSVFormatter.toCSV(c));
+        assertEquals("Ada,Lovelace,1 A St,London,England,12345,2125551212,ada@example.com", ContactCSVFormatter.fieldsToCSV(c));
+    }
 }
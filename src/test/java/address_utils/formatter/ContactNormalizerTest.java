@@ -20,4 +20,10 @@ class ContactNormalizerTest {
     void normalizeZip_formatsZipPlus4WithoutDash() {
         assertEquals("12345-6789", ContactNormalizer.normalizeZip("123456789"));
     }
+
+    @Test
+    void placeKey_ignoresCaseAndSpacing() {
+        assertEquals("san antonio,texas", ContactNormalizer.placeKey("  San   Antonio , TEXAS "));
+        assertEquals(ContactNormalizer.placeKey("San Antonio,Texas"), ContactNormalizer.placeKey("san antonio, texas"));
+    }
 }
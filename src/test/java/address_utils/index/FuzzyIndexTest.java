@@ -0,0 +1,43 @@
+package address_utils.index;
+
+import address_book.Contact;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FuzzyIndexTest {
+
+    private static Contact contact(String last) {
+        return new Contact("Ada", last, "42 Code Ave", "London", "England", "12345", "2125551212", "ada@example.com");
+    }
+
+    private static List<String> words(List<FuzzyIndex.Match> matches) {
+        return matches.stream().map(m -> m.getDistance() + ":" + m.getWord()).collect(Collectors.toList());
+    }
+
+    @Test
+    void within_findsValuesByEditDistanceClosestFirst() {
+        FuzzyIndex index = new FuzzyIndex(Contact::getLastName);
+        index.build(List.of(contact("Smith"), contact("Smyth"), contact("Smithers"), contact("Jones"), contact("Smith")));
+
+        assertEquals(List.of("1:smith", "1:smyth"), words(index.within("smoth", 1)));
+        assertEquals(List.of("0:smith", "1:smyth", "3:smithers"), words(index.within("smith", 3)));
+        assertEquals(2, index.within("smith", 0).get(0).getContacts().size());
+        assertTrue(index.within("brown", 2).isEmpty());
+    }
+
+    @Test
+    void remove_hidesValuesWithNoContactsLeft() {
+        FuzzyIndex index = new FuzzyIndex(Contact::getLastName);
+        Contact jones = contact("Jones");
+        index.build(List.of(jones));
+        index.add(contact("Janes"));
+
+        index.remove(jones);
+
+        assertEquals(List.of("1:janes"), words(index.within("jones", 1)));
+    }
+}
@@ -0,0 +1,39 @@
+package address_utils.index;
+
+import address_book.Contact;
+import address_utils.formatter.ContactNormalizer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HashIndexTest {
+
+    private static Contact contact(String phone) {
+        return new Contact("Ada", "Lovelace", "42 Code Ave", "London", "England", "12345", phone, "ada@example.com");
+    }
+
+    @Test
+    void get_matchesNormalizedKeys() {
+        HashIndex index = new HashIndex(Contact::getPhone, ContactNormalizer::phoneKey);
+        Contact ada = contact("(212) 555-1212");
+        index.add(ada);
+
+        assertEquals(1, index.get("2125551212").size());
+        assertSame(ada, index.get("212.555.1212").get(0));
+        assertTrue(index.get("2125551213").isEmpty());
+    }
+
+    @Test
+    void remove_dropsOnlyTheGivenContact() {
+        HashIndex index = new HashIndex(Contact::getEmail, ContactNormalizer::emailKey);
+        Contact first = contact("2125551212");
+        Contact second = contact("2125551212");
+        index.add(first);
+        index.add(second);
+
+        index.remove(first);
+
+        assertEquals(1, index.get("ADA@example.com").size());
+        assertSame(second, index.get("ada@example.com").get(0));
+    }
+}
@@ -0,0 +1,53 @@
+package address_utils.index;
+
+import address_book.Contact;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PhoneticIndexTest {
+
+    private static Contact contact(String first, String last) {
+        return new Contact(first, last, "42 Code Ave", "London", "England", "12345", "2125551212", "ada@example.com");
+    }
+
+    @Test
+    void get_findsNamesThatSoundAlike() {
+        PhoneticIndex index = new PhoneticIndex(Contact::getFirstName);
+        Contact catherine = contact("Catherine", "Smith");
+        Contact kathryn = contact("Kathryn", "Smyth");
+        Contact mary = contact("Mary", "Jones");
+        index.add(catherine);
+        index.add(kathryn);
+        index.add(mary);
+
+        assertEquals(List.of(catherine, kathryn), index.get("Katherine"));
+        assertEquals(List.of(mary), index.get("marie"));
+        assertTrue(index.get("Robert").isEmpty());
+        assertTrue(index.soundingLike("Cathryn").test(kathryn));
+    }
+
+    @Test
+    void get_returnsContactOnceWhenCodesMatchInReverseOrder() {
+        PhoneticIndex index = new PhoneticIndex(Contact::getLastName);
+        Contact schneider = contact("Anna", "Schneider");
+        index.add(schneider);
+
+        assertEquals(List.of(schneider), index.get("Snider"));
+    }
+
+    @Test
+    void remove_dropsOnlyTheGivenContact() {
+        PhoneticIndex index = new PhoneticIndex(Contact::getLastName);
+        Contact smith = contact("John", "Smith");
+        Contact smyth = contact("Jon", "Smyth");
+        index.add(smith);
+        index.add(smyth);
+
+        index.remove(smith);
+
+        assertEquals(List.of(smyth), index.get("Smith"));
+    }
+}
@@ -0,0 +1,60 @@
+package address_utils.index;
+
+import address_book.Contact;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrefixIndexTest {
+
+    private static Contact contact(String last) {
+        return new Contact("Ada", last, "42 Code Ave", "London", "England", "12345", "2125551212", "ada@example.com");
+    }
+
+    @Test
+    void startingWith_returnsFirstMatchesInLexicalOrderIgnoringCase() {
+        PrefixIndex index = new PrefixIndex(Contact::getLastName);
+        Contact smythe = contact("Smythe");
+        Contact smith = contact("smith");
+        Contact jones = contact("Jones");
+        Contact smart = contact("SMART");
+        index.build(List.of(smythe, smith, jones, smart));
+
+        assertEquals(List.of(smart, smith, smythe), index.startingWith("Sm", 10));
+        assertEquals(List.of(smart, smith), index.startingWith("sm", 2));
+        assertTrue(index.startingWith("Smz", 10).isEmpty());
+    }
+
+    @Test
+    void addAndRemove_keepOrderAndMatchByIdentity() {
+        PrefixIndex index = new PrefixIndex(Contact::getLastName);
+        Contact first = contact("Lovelace");
+        Contact second = contact("Lovelace");
+        index.build(List.of(first));
+
+        index.add(contact("Love"));
+        index.add(second);
+        index.remove(first);
+
+        List<Contact> matches = index.startingWith("lovel", 10);
+        assertEquals(1, matches.size());
+        assertSame(second, matches.get(0));
+        assertEquals("Love", index.startingWith("love", 1).get(0).getLastName());
+    }
+
+    @Test
+    void removeAll_dropsEveryGivenContactAndKeepsTheRestInOrder() {
+        PrefixIndex index = new PrefixIndex(Contact::getLastName);
+        Contact smith = contact("Smith");
+        Contact smart = contact("Smart");
+        Contact twin = contact("Smart");
+        Contact jones = contact("Jones");
+        index.build(List.of(smith, smart, twin, jones));
+
+        index.removeAll(List.of(smart, jones));
+
+        assertEquals(List.of(twin, smith), index.startingWith("", 10));
+    }
+}
@@ -0,0 +1,60 @@
+package address_utils.index;
+
+import address_book.Contact;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrigramIndexTest {
+
+    private static Contact contact(String first, String last) {
+        return new Contact(first, last, "42 Code Ave", "London", "England", "12345", "2125551212", "ada@example.com");
+    }
+
+    private static TrigramIndex nameIndex() {
+        return new TrigramIndex(List.of(c -> c.getFirstName() + " " + c.getLastName()));
+    }
+
+    @Test
+    void candidates_includeEveryContactContainingTheTerm() {
+        TrigramIndex index = nameIndex();
+        Contact ada = contact("Ada", "Lovelace");
+        Contact grace = contact("Grace", "Hopper");
+        index.build(List.of(ada, grace));
+
+        assertEquals(List.of(ada), index.candidates(0, "lovel"));
+        assertEquals(List.of(ada), index.candidates(0, "a lo"));
+        assertEquals(List.of(grace), index.candidates(0, "hop"));
+        assertTrue(index.candidates(0, "xyz").isEmpty());
+    }
+
+    @Test
+    void addAndRemove_maintainBuiltIndex() {
+        TrigramIndex index = nameIndex();
+        Contact ada = contact("Ada", "Lovelace");
+        index.build(List.of(ada));
+
+        Contact grace = contact("Grace", "Hopper");
+        index.add(grace);
+        index.remove(ada);
+
+        assertTrue(index.candidates(0, "love").isEmpty());
+        assertEquals(List.of(grace), index.candidates(0, "grace"));
+    }
+
+    @Test
+    void remove_compactsOnceMostSlotsAreDead() {
+        TrigramIndex index = nameIndex();
+        List<Contact> contacts = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) contacts.add(contact("Name" + i, "Smith"));
+        index.build(contacts);
+
+        for (int i = 0; i < 2990; i++) index.remove(contacts.get(i));
+
+        assertEquals(contacts.subList(2990, 3000), index.candidates(0, "smith"));
+        assertEquals(List.of(contacts.get(2995)), index.candidates(0, "name2995"));
+    }
+}
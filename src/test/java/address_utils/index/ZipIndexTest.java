@@ -0,0 +1,52 @@
+package address_utils.index;
+
+import address_book.Contact;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ZipIndexTest {
+
+    private static Contact contact(String first, String zip) {
+        return new Contact(first, "Smith", "1 Main St", "San Antonio", "Texas", zip, "2105551212", "a@example.com");
+    }
+
+    @Test
+    void between_returnsRangeInZipOrderIncludingExtensions() {
+        ZipIndex index = new ZipIndex();
+        Contact below = contact("Below", "78199");
+        Contact high = contact("High", "78299-1234");
+        Contact low = contact("Low", "78200");
+        Contact above = contact("Above", "78300");
+        for (Contact c : List.of(below, high, low, above)) index.add(c);
+
+        assertEquals(List.of(low, high), index.between("78200", "78299"));
+        assertEquals(List.of(high), index.between("782991234", "78299-1234"));
+        assertTrue(index.between("78299", "78200").isEmpty());
+    }
+
+    @Test
+    void remove_dropsOnlyTheGivenContact() {
+        ZipIndex index = new ZipIndex();
+        Contact first = contact("First", "78201");
+        Contact second = contact("Second", "78201");
+        index.add(first);
+        index.add(second);
+
+        index.remove(first);
+
+        assertEquals(List.of(second), index.between("78201", "78201"));
+    }
+
+    @Test
+    void between_rejectsInvalidBoundsAndSkipsInvalidZips() {
+        ZipIndex index = new ZipIndex();
+        index.add(contact("Bad", "7820"));
+
+        assertThrows(IllegalArgumentException.class, () -> index.between("782", "78299"));
+        assertThrows(IllegalArgumentException.class, () -> index.between("78200-", "78299"));
+        assertTrue(index.between("00000", "99999").isEmpty());
+    }
+}
@@ -2,6 +2,7 @@ package address_utils.parser;
 
 import address_book.Contact;
 import org.junit.jupiter.api.Test;
+import utilities.StringPool;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -37,4 +38,29 @@ class ContactLineParserTest {
         assertEquals("3125551212", c.getPhone());
         assertEquals("james@example.com", c.getEmail());
     }
+
+    @Test
+    void parse_sharesRepeatedFieldsThroughPool() {
+        ContactLineParser parser = new ContactLineParser(new StringPool(100), new StringPool(100), new StringPool(100, 5));
+        Contact first = parser.parse("Ada,Lovelace,1 A St,Chicago,Illinois,60601,3125551212,a@example.com".split(","));
+        Contact second = parser.parse("Ada,Byron,2 B St,Chicago,Illinois,60601,3125551213,b@example.com".split(","));
+        Contact third = parser.parse("Ada,Byron,2 B St,Chicago,Illinois,60601-1234,3125551213,b@example.com".split(","));
+        Contact fourth = parser.parse("Ada,Byron,2 B St,Chicago,Illinois,60601-1234,3125551213,b@example.com".split(","));
+
+        assertSame(first.getCity(), second.getCity());
+        assertSame(first.getState(), second.getState());
+        assertSame(first.getZipCode(), second.getZipCode());
+        assertNotSame(first.getFirstName(), second.getFirstName());
+        assertNotSame(third.getZipCode(), fourth.getZipCode());
+        assertNotSame(first.getEmail(), second.getEmail());
+    }
+
+    @Test
+    void parse_readsOptionalId() {
+        ContactLineParser parser = new ContactLineParser();
+
+        assertEquals(42, parser.parse("Ada,Lovelace,1 A St,Chicago,Illinois,60601,3125551212,a@example.com,42".split(",")).getId());
+        assertEquals(0, parser.parse("Ada,Lovelace,1 A St,Chicago,Illinois,60601,3125551212,a@example.com".split(",")).getId());
+        assertEquals(0, parser.parse("Ada,Lovelace,1 A St,Chicago,Illinois,60601,3125551212,a@example.com,x".split(",")).getId());
+    }
 }
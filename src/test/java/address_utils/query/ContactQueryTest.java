@@ -0,0 +1,49 @@
+package address_utils.query;
+
+import address_book.Contact;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContactQueryTest {
+
+    private static final Contact SMITH = new Contact("John", "Smith", "1 Main St", "San Antonio", "TX", "78201", "2105551212", "john@example.com");
+    private static final Contact SMITHERS = new Contact("Mary", "Smithers", "2 Oak Ave", "Austin", "TX", "78701", "5125551212", "mary@old.com");
+    private static final Contact JONES = new Contact("Ada", "Jones", "3 Elm St", "Chicago", "IL", "60601", "3125551212", "ada@example.com");
+    private static final List<Contact> ALL = List.of(SMITH, SMITHERS, JONES);
+
+    @Test
+    void filter_combinesClausesWithAndOrNot() {
+        assertEquals(List.of(SMITH), ContactQuery.parse("last:smi* AND state:TX AND NOT email:*@old.com").filter(ALL));
+        assertEquals(List.of(SMITH, JONES), ContactQuery.parse("last:smith OR city:chi*").filter(ALL));
+        assertEquals(List.of(SMITHERS), ContactQuery.parse("not (first:john or state:il)").filter(ALL));
+        assertEquals(List.of(SMITHERS), ContactQuery.parse("city:\"aus*\" email:*old*").filter(ALL));
+    }
+
+    @Test
+    void filter_matchesWildcardsAgainstWholeFieldIgnoringCase() {
+        assertEquals(List.of(SMITH), ContactQuery.parse("city:\"SAN ANTONIO\"").filter(ALL));
+        assertTrue(ContactQuery.parse("city:san").filter(ALL).isEmpty());
+        assertEquals(List.of(SMITH, SMITHERS), ContactQuery.parse("zip:78*01").filter(ALL));
+        assertEquals(List.of(JONES), ContactQuery.parse("full:a*j*s").filter(ALL));
+        assertEquals(ALL, ContactQuery.parse("phone:*").filter(ALL));
+    }
+
+    @Test
+    void parse_ordersCheapestClauseFirst() {
+        ContactQuery query = ContactQuery.parse("email:*old* AND last:smi* AND state:TX");
+
+        assertEquals("(last:smi* AND state:tx AND email:*old*)", query.toString());
+    }
+
+    @Test
+    void parse_rejectsMalformedQueries() {
+        assertThrows(IllegalArgumentException.class, () -> ContactQuery.parse("nickname:al"));
+        assertThrows(IllegalArgumentException.class, () -> ContactQuery.parse("last:smith AND"));
+        assertThrows(IllegalArgumentException.class, () -> ContactQuery.parse("(last:smith"));
+        assertThrows(IllegalArgumentException.class, () -> ContactQuery.parse("smith"));
+        assertThrows(IllegalArgumentException.class, () -> ContactQuery.parse("city:\"San Antonio"));
+    }
+}
@@ -1,9 +1,16 @@
 package address_utils.storage;
 
+import address_book.AddressBook;
 import address_book.Contact;
+import io.AppPaths;
 import org.junit.jupiter.api.Test;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static com.github.stefanbirkner.systemlambda.SystemLambda.withEnvironmentVariable;
 import static org.junit.jupiter.api.Assertions.*;
@@ -29,4 +36,50 @@ class AddressBookStorageTest {
                     assertEquals("Stevens", output.get(0).getLastName());
                 });
     }
+
+    @Test
+    void sharded_idsAssignedOnLoadSurviveSaveAndReload() throws Exception {
+        withEnvironmentVariable("APP_DATA_DIR", "target/test-data")
+                .and("ADDRESSBOOK_STORAGE_SHARDS", "4")
+                .execute(() -> {
+                    deleteShards();
+                    Files.deleteIfExists(AppPaths.JOURNAL_FILE);
+                    try {
+                        // Written without IDs, as by a version that did not save them
+                        List<Contact> input = List.of(
+                                new Contact("James", "Stevens", "123 Main St", "Chicago", "Illinois", "60601", "3125551212", "james@example.com"),
+                                new Contact("Ada", "Lovelace", "42 Code Ave", "London", "England", "12345", "2125551212", "ada@example.com")
+                        );
+                        ShardedContactStore shards = new ShardedContactStore(AppPaths.SHARD_DIRECTORY, 4);
+                        shards.markAllDirty();
+                        shards.capture(input, 0).write();
+
+                        AddressBookStorage storage = new AddressBookStorage();
+                        AddressBook book = new AddressBook();
+                        assertEquals(2, book.setContacts(storage.load()));
+                        storage.recordAssignedIds();
+                        storage.save(book.getContacts());
+
+                        List<Contact> reloaded = new AddressBookStorage().load();
+
+                        assertEquals(ids(book.getContacts()), ids(reloaded));
+                        assertFalse(ids(reloaded).contains(0L));
+                    } finally {
+                        deleteShards();
+                    }
+                });
+    }
+
+    private static List<Long> ids(List<Contact> contacts) {
+        return contacts.stream().map(Contact::getId).sorted().collect(Collectors.toList());
+    }
+
+    private static void deleteShards() throws Exception {
+        if (!Files.isDirectory(AppPaths.SHARD_DIRECTORY)) return;
+        try (Stream<Path> files = Files.walk(AppPaths.SHARD_DIRECTORY)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                Files.delete(file);
+            }
+        }
+    }
 }
@@ -0,0 +1,175 @@
+package address_utils.storage;
+
+import address_book.Contact;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContactJournalTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static Contact james() {
+        return new Contact("James", "Stevens", "123 Main St", "Chicago", "Illinois", "60601", "3125551212", "james@example.com");
+    }
+
+    private static Contact ada() {
+        return new Contact("Ada", "Lovelace", "42 Code Ave", "London", "England", "12345", "2125551212", "ada@example.com");
+    }
+
+    @Test
+    void replay_appliesAddDeleteAndUpdateInOrder() throws Exception {
+        ContactJournal journal = new ContactJournal(tempDir.resolve("address_book.journal"));
+
+        Contact updated = james();
+        updated.setCity("Springfield");
+
+        journal.appendAdd(ada());
+        journal.appendUpdate(james(), updated);
+        journal.appendDeletes(List.of(ada()));
+
+        List<Contact> contacts = new ArrayList<>(List.of(james()));
+        int replayed = new ContactJournal(tempDir.resolve("address_book.journal")).replay(contacts);
+
+        assertEquals(3, replayed);
+        assertEquals(1, contacts.size());
+        assertEquals("Springfield", contacts.get(0).getCity());
+    }
+
+    @Test
+    void replay_matchesRecordsByFieldsAndKeepsIds() throws Exception {
+        ContactJournal journal = new ContactJournal(tempDir.resolve("address_book.journal"));
+        Contact before = james();
+        before.setId(3);
+        Contact after = new Contact(before);
+        after.setCity("Springfield");
+        Contact deleted = ada();
+        deleted.setId(4);
+
+        journal.appendUpdate(before, after);
+        journal.appendDeletes(List.of(deleted));
+
+        // The base file was saved before IDs were assigned
+        List<Contact> contacts = new ArrayList<>(List.of(james(), ada()));
+        journal.replay(contacts);
+
+        assertEquals(1, contacts.size());
+        assertEquals("Springfield", contacts.get(0).getCity());
+        assertEquals(3, contacts.get(0).getId());
+    }
+
+    @Test
+    void replay_skipsTruncatedTrailingRecord() throws Exception {
+        Path path = tempDir.resolve("address_book.journal");
+        ContactJournal journal = new ContactJournal(path);
+        journal.appendAdd(ada());
+        Files.writeString(path, "ADD", StandardOpenOption.APPEND);
+
+        List<Contact> contacts = new ArrayList<>();
+        journal.replay(contacts);
+
+        assertEquals(1, contacts.size());
+        assertEquals("Ada", contacts.get(0).getFirstName());
+    }
+
+    @Test
+    void clear_removesAllRecords() throws Exception {
+        ContactJournal journal = new ContactJournal(tempDir.resolve("address_book.journal"));
+        journal.appendAdd(ada());
+        assertEquals(1, journal.size());
+
+        journal.clear();
+
+        List<Contact> contacts = new ArrayList<>();
+        assertEquals(0, journal.replay(contacts));
+        assertTrue(contacts.isEmpty());
+    }
+
+    @Test
+    void rotate_keepsSealedRecordsUntilDiscarded() throws Exception {
+        ContactJournal journal = new ContactJournal(tempDir.resolve("address_book.journal"));
+        journal.appendAdd(ada());
+        long sealed = journal.rotate();
+        journal.appendAdd(james());
+
+        List<Contact> beforeDiscard = new ArrayList<>();
+        assertEquals(2, new ContactJournal(tempDir.resolve("address_book.journal")).replay(beforeDiscard));
+
+        journal.discardRotated(sealed);
+
+        List<Contact> afterDiscard = new ArrayList<>();
+        new ContactJournal(tempDir.resolve("address_book.journal")).replay(afterDiscard);
+        assertEquals(1, afterDiscard.size());
+        assertEquals("James", afterDiscard.get(0).getFirstName());
+    }
+
+    @Test
+    void rotate_keepsEachRecordOnceWhenEarlierRecordsAreStillSealed() throws Exception {
+        ContactJournal journal = new ContactJournal(tempDir.resolve("address_book.journal"));
+        journal.appendAdd(ada());
+        long first = journal.rotate();
+        journal.appendAdd(james());
+        long second = journal.rotate();
+
+        assertTrue(second > first);
+        List<Contact> contacts = new ArrayList<>();
+        assertEquals(2, new ContactJournal(tempDir.resolve("address_book.journal")).replay(contacts));
+        assertEquals(2, contacts.size());
+    }
+
+    @Test
+    void replay_skipsSealedRecordsTheBaseFileWasSavedWith() throws Exception {
+        ContactJournal journal = new ContactJournal(tempDir.resolve("address_book.journal"));
+        Contact added = ada();
+        added.setId(2);
+        Contact updated = james();
+        updated.setId(1);
+        updated.setCity("Springfield");
+        Contact original = james();
+        original.setId(1);
+
+        journal.appendAdd(added);
+        journal.appendUpdate(original, updated);
+        long saved = journal.rotate();
+        Contact later = new Contact(updated);
+        later.setCity("Austin");
+        journal.appendUpdate(updated, later);
+
+        // The save wrote generation 'saved' but crashed before discarding the sealed records
+        List<Contact> contacts = new ArrayList<>(List.of(new Contact(updated), new Contact(added)));
+        new ContactJournal(tempDir.resolve("address_book.journal")).replay(contacts, saved, c -> saved);
+
+        assertEquals(2, contacts.size());
+        assertEquals("Austin", contacts.get(0).getCity());
+    }
+
+    @Test
+    void replay_skipsAddOfContactWhoseIdIsPresent() throws Exception {
+        ContactJournal journal = new ContactJournal(tempDir.resolve("address_book.journal"));
+        Contact added = ada();
+        added.setId(7);
+        journal.appendAdd(added);
+
+        List<Contact> contacts = new ArrayList<>(List.of(new Contact(added)));
+        journal.replay(contacts);
+
+        assertEquals(1, contacts.size());
+    }
+
+    @Test
+    void rotate_numbersPastTheSavedGenerationAfterReplay() throws Exception {
+        ContactJournal journal = new ContactJournal(tempDir.resolve("address_book.journal"));
+        journal.replay(new ArrayList<>(), 5, c -> 5);
+        journal.appendAdd(ada());
+
+        assertEquals(6, journal.rotate());
+    }
+}
@@ -0,0 +1,101 @@
+package address_utils.storage;
+
+import address_book.Contact;
+import address_utils.formatter.ContactCSVFormatter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContactSnapshotTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static List<Contact> contacts() {
+        Contact jose = new Contact("José", "Müller", "42 Code Ave", "São Paulo", "Texas", "12345-6789", "2125551212", "jose@example.com");
+        jose.setId(1L << 40);
+        return List.of(
+            new Contact("James", "Stevens", "123 Main St, Apt 4", "Chicago", "Illinois", "60601", "3125551212", "james@example.com"),
+            jose
+        );
+    }
+
+    @Test
+    void write_thenRead_roundTripsAllFields() throws Exception {
+        Path csv = Files.writeString(tempDir.resolve("address_book.csv"), "");
+        ContactSnapshot snapshot = new ContactSnapshot(tempDir.resolve("address_book.bin"));
+        snapshot.write(contacts(), csv, 9);
+
+        List<Contact> loaded = snapshot.read();
+
+        assertNotNull(loaded);
+        assertEquals(2, loaded.size());
+        assertEquals(9, snapshot.journalGeneration());
+        for (int i = 0; i < loaded.size(); i++) {
+            assertEquals(ContactCSVFormatter.toCSV(contacts().get(i)), ContactCSVFormatter.toCSV(loaded.get(i)));
+        }
+    }
+
+    @Test
+    void read_rejectsCorruptedBody() throws Exception {
+        Path csv = Files.writeString(tempDir.resolve("address_book.csv"), "");
+        Path path = tempDir.resolve("address_book.bin");
+        new ContactSnapshot(path).write(contacts(), csv, 0);
+
+        byte[] bytes = Files.readAllBytes(path);
+        bytes[bytes.length - 1] ^= 0x01;
+        Files.write(path, bytes);
+
+        assertNull(new ContactSnapshot(path).read());
+    }
+
+    @Test
+    void read_rejectsRecordCountLargerThanTheFile() throws Exception {
+        Path csv = Files.writeString(tempDir.resolve("address_book.csv"), "");
+        Path path = tempDir.resolve("address_book.bin");
+        new ContactSnapshot(path).write(contacts(), csv, 0);
+
+        byte[] bytes = Files.readAllBytes(path);
+        ByteBuffer.wrap(bytes).putInt(8, Integer.MAX_VALUE); // Record count follows magic and version
+        Files.write(path, bytes);
+
+        assertNull(new ContactSnapshot(path).read());
+    }
+
+    @Test
+    void isCurrentFor_matchesOnlyTheFileItWasWrittenWith() throws Exception {
+        Path csv = tempDir.resolve("address_book.csv");
+        ContactSnapshot snapshot = new ContactSnapshot(tempDir.resolve("address_book.bin"));
+        assertFalse(snapshot.isCurrentFor(csv));
+
+        Files.writeString(csv, "James,Stevens");
+        snapshot.write(contacts(), csv, 0);
+        assertTrue(snapshot.isCurrentFor(csv));
+
+        // Restored with an older modification time, as cp -p would
+        Files.setLastModifiedTime(csv, FileTime.fromMillis(System.currentTimeMillis() - 60_000));
+        assertFalse(snapshot.isCurrentFor(csv));
+    }
+
+    @Test
+    void isCurrentFor_rejectsChangedSizeAndMissingFile() throws Exception {
+        Path csv = Files.writeString(tempDir.resolve("address_book.csv"), "James,Stevens");
+        ContactSnapshot snapshot = new ContactSnapshot(tempDir.resolve("address_book.bin"));
+        snapshot.write(contacts(), csv, 0);
+        FileTime written = Files.getLastModifiedTime(csv);
+
+        Files.writeString(csv, "James,Stevens,Chicago");
+        Files.setLastModifiedTime(csv, written);
+        assertFalse(snapshot.isCurrentFor(csv));
+
+        Files.delete(csv);
+        assertFalse(snapshot.isCurrentFor(csv));
+    }
+}
@@ -0,0 +1,50 @@
+package address_utils.storage;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SaveSchedulerTest {
+
+    @Test
+    void flush_coalescesMutationsWithinWindowIntoOneSave() {
+        AtomicInteger saves = new AtomicInteger();
+        try (SaveScheduler scheduler = new SaveScheduler(saves::incrementAndGet, 60_000, 1000)) {
+            for (int i = 0; i < 50; i++) scheduler.markDirty();
+            assertEquals(0, saves.get());
+            assertTrue(scheduler.isDirty());
+
+            scheduler.flush();
+
+            assertEquals(1, saves.get());
+            assertFalse(scheduler.isDirty());
+        }
+        assertEquals(1, saves.get()); // Nothing left to save on close
+    }
+
+    @Test
+    void markDirty_savesInBackgroundOnceMutationLimitReached() throws Exception {
+        CountDownLatch saved = new CountDownLatch(1);
+        try (SaveScheduler scheduler = new SaveScheduler(saved::countDown, 60_000, 3)) {
+            scheduler.markDirty();
+            scheduler.markDirty();
+            scheduler.markDirty();
+
+            assertTrue(saved.await(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void markDirty_savesInBackgroundWhenWindowCloses() throws Exception {
+        CountDownLatch saved = new CountDownLatch(1);
+        try (SaveScheduler scheduler = new SaveScheduler(saved::countDown, 10, 1000)) {
+            scheduler.markDirty();
+
+            assertTrue(saved.await(5, TimeUnit.SECONDS));
+        }
+    }
+}
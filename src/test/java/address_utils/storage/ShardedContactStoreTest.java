@@ -0,0 +1,107 @@
+package address_utils.storage;
+
+import address_book.Contact;
+import address_utils.formatter.ContactCSVFormatter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShardedContactStoreTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static List<Contact> contacts(int count) {
+        List<Contact> contacts = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            contacts.add(new Contact("First" + i, "Last" + i, i + " Main St", "Chicago", "Illinois",
+                    "60601", "312555" + String.format("%04d", i), "person" + i + "@example.com"));
+        }
+        return contacts;
+    }
+
+    private static List<String> sortedCsv(List<Contact> contacts) {
+        return contacts.stream().map(ContactCSVFormatter::toCSV).sorted().collect(Collectors.toList());
+    }
+
+    @Test
+    void load_returnsNullWhenNoShardsExist() throws Exception {
+        assertNull(new ShardedContactStore(tempDir, 4).load());
+    }
+
+    @Test
+    void saveThenLoad_roundTripsAcrossShards() throws Exception {
+        ShardedContactStore store = new ShardedContactStore(tempDir, 4);
+        List<Contact> input = contacts(100);
+        store.markAllDirty();
+        store.capture(input, 0).write();
+
+        List<Contact> output = new ShardedContactStore(tempDir, 4).load();
+
+        assertEquals(sortedCsv(input), sortedCsv(output));
+    }
+
+    @Test
+    void capture_rewritesOnlyDirtyShards() throws Exception {
+        ShardedContactStore store = new ShardedContactStore(tempDir, 4);
+        List<Contact> contacts = contacts(100);
+        store.markAllDirty();
+        store.capture(contacts, 0).write();
+
+        Contact changed = contacts.get(0);
+        int dirtyShard = store.shardOf(changed);
+        int cleanShard = (dirtyShard + 1) % 4;
+        Path dirtyFile = tempDir.resolve(String.format("shard-%03d.csv", dirtyShard));
+        Path cleanFile = tempDir.resolve(String.format("shard-%03d.csv", cleanShard));
+        Files.delete(dirtyFile);
+        Files.delete(cleanFile);
+
+        changed.setCity("Springfield");
+        store.markDirty(changed);
+        store.capture(contacts, 0).write();
+
+        assertTrue(Files.exists(dirtyFile));
+        assertFalse(Files.exists(cleanFile));
+        assertFalse(store.isDirty());
+    }
+
+    @Test
+    void load_redistributesShardsWrittenWithAnotherCount() throws Exception {
+        ShardedContactStore before = new ShardedContactStore(tempDir, 8);
+        List<Contact> input = contacts(100);
+        before.markAllDirty();
+        before.capture(input, 0).write();
+
+        ShardedContactStore after = new ShardedContactStore(tempDir, 2);
+        List<Contact> loaded = after.load();
+        assertTrue(after.isDirty());
+        after.capture(loaded, 0).write();
+
+        assertFalse(Files.exists(tempDir.resolve("shard-007.csv")));
+        assertEquals(sortedCsv(input), sortedCsv(new ShardedContactStore(tempDir, 2).load()));
+    }
+
+    @Test
+    void load_rewritesShardsWhenCompressionChanges() throws Exception {
+        ShardedContactStore plain = new ShardedContactStore(tempDir, 2, false);
+        List<Contact> input = contacts(50);
+        plain.markAllDirty();
+        plain.capture(input, 0).write();
+
+        ShardedContactStore compressed = new ShardedContactStore(tempDir, 2, true);
+        List<Contact> loaded = compressed.load();
+        assertTrue(compressed.isDirty());
+        compressed.capture(loaded, 0).write();
+
+        assertFalse(Files.exists(tempDir.resolve("shard-000.csv")));
+        assertTrue(Files.exists(tempDir.resolve("shard-000.csv.gz")));
+        assertEquals(sortedCsv(input), sortedCsv(new ShardedContactStore(tempDir, 2, true).load()));
+    }
+}
@@ -0,0 +1,61 @@
+package benchmarks;
+
+import address_book.Contact;
+import address_utils.formatter.ContactCSVFormatter;
+import address_utils.parser.ContactLineParser;
+import io.FileLoader;
+import io.FileParser;
+import io.FileSaver;
+
+import java.io.BufferedReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Reports file size, save time, and load time of the address book CSV in
+ * plain and gzip-compressed form.
+ *
+ * Run with: java -cp target/classes:target/test-classes:&lt;aspectjrt.jar&gt;
+ * benchmarks.CompressionBenchmark [contacts]
+ */
+public class CompressionBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        Path dir = Paths.get("target", "benchmark-data");
+        Files.createDirectories(dir);
+
+        List<String> lines = new ArrayList<>(count + 1);
+        lines.add(ContactCSVFormatter.header());
+        lines.addAll(SyntheticContacts.generate(count).stream()
+                .map(ContactCSVFormatter::toCSV).collect(Collectors.toList()));
+
+        System.out.printf("%d contacts%n", count);
+        System.out.printf("%-6s %10s %10s %10s%n", "mode", "size MB", "save ms", "load ms");
+        for (Path file : List.of(dir.resolve("compression.csv"), dir.resolve("compression.csv.gz"))) {
+            long save = Long.MAX_VALUE;
+            long load = Long.MAX_VALUE;
+            for (int round = 0; round < 3; round++) {
+                System.gc();
+                long start = System.nanoTime();
+                FileSaver.saveLinesAtomically(file, lines);
+                save = Math.min(save, System.nanoTime() - start);
+
+                System.gc();
+                start = System.nanoTime();
+                List<Contact> contacts = new ArrayList<>();
+                try (BufferedReader reader = FileLoader.openReader(file)) {
+                    reader.readLine();
+                    new FileParser<>(',', new ContactLineParser()).parse(reader, contacts::add);
+                }
+                load = Math.min(load, System.nanoTime() - start);
+            }
+            System.out.printf("%-6s %10.1f %10d %10d%n", FileLoader.isCompressed(file) ? "gzip" : "plain",
+                    Files.size(file) / (1024.0 * 1024), save / 1_000_000, load / 1_000_000);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package benchmarks;
+
+import address_book.AddressBook;
+import address_book.Contact;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Reports address book throughput with several threads sharing one book,
+ * for a range of reader/writer mixes.
+ *
+ * A read is an exact email lookup or a lookup by ID; a write adds a copy of
+ * a contact and then removes it by ID, so the book keeps its size. Each mix
+ * runs for a fixed time after a warm-up.
+ *
+ * Run with: java -Xmx3g -cp target/classes:target/test-classes:&lt;aspectjrt.jar&gt;
+ * benchmarks.ConcurrentBookBenchmark [contacts] [threads]
+ */
+public class ConcurrentBookBenchmark {
+
+    private static final int[] READ_PERCENTS = {100, 95, 80, 50};
+    private static final long RUN_MILLIS = 2_000;
+
+    public static void main(String[] args) throws InterruptedException {
+        System.setProperty("addressbook.search.cache.size", "0"); // Time the book, not cache hits
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+        List<Contact> contacts = SyntheticContacts.generate(count);
+        AddressBook book = new AddressBook();
+        book.setContacts(new ArrayList<>(contacts));
+
+        run(book, contacts, threads, 90, RUN_MILLIS / 2); // Warm-up
+        System.out.printf("%d contacts, %d threads, %d available processors%n",
+                count, threads, Runtime.getRuntime().availableProcessors());
+        for (int readPercent : READ_PERCENTS) {
+            long ops = run(book, contacts, threads, readPercent, RUN_MILLIS);
+            System.out.printf("%3d%% reads: %,.0f ops/s%n", readPercent, ops * 1000.0 / RUN_MILLIS);
+        }
+    }
+
+    private static long run(AddressBook book, List<Contact> contacts, int threads, int readPercent, long millis)
+            throws InterruptedException {
+        LongAdder ops = new LongAdder();
+        long deadline = System.currentTimeMillis() + millis;
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            Thread worker = new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                long done = 0;
+                while ((done & 255) != 0 || System.currentTimeMillis() < deadline) {
+                    Contact c = contacts.get(random.nextInt(contacts.size()));
+                    if (random.nextInt(100) < readPercent) {
+                        if (random.nextBoolean()) {
+                            book.findByEmail(c.getEmail());
+                        } else {
+                            book.getContact(1 + random.nextInt(contacts.size()));
+                        }
+                    } else {
+                        Contact copy = new Contact(c);
+                        copy.setId(0);
+                        book.addContact(copy);
+                        book.removeContact(copy.getId());
+                    }
+                    done++;
+                }
+                ops.add(done);
+            });
+            workers.add(worker);
+            worker.start();
+        }
+        for (Thread worker : workers) worker.join();
+        return ops.sum();
+    }
+}
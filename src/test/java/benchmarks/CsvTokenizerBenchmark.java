@@ -0,0 +1,67 @@
+package benchmarks;
+
+import address_book.Contact;
+import address_utils.formatter.ContactCSVFormatter;
+import address_utils.parser.ContactLineParser;
+import io.FileParser;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntSupplier;
+
+/**
+ * Compares the regex split path of {@link FileParser} with the
+ * {@link io.CsvTokenizer} path on the same synthetic CSV data.
+ *
+ * Run with: java -cp target/classes:target/test-classes:&lt;aspectjrt.jar&gt;
+ * benchmarks.CsvTokenizerBenchmark [contacts]
+ */
+public class CsvTokenizerBenchmark {
+
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 500_000;
+        List<String> lines = new ArrayList<>(count);
+        StringBuilder builder = new StringBuilder();
+        for (Contact c : SyntheticContacts.generate(count)) {
+            String line = ContactCSVFormatter.toCSV(c);
+            lines.add(line);
+            builder.append(line).append('\n');
+        }
+        String text = builder.toString();
+
+        FileParser<Contact> split = new FileParser<>(",", new ContactLineParser());
+        FileParser<Contact> tokenizer = new FileParser<>(',', new ContactLineParser());
+
+        for (int round = 0; round < 10; round++) {
+            System.out.printf("round %d: lines split %d ms / tokenizer %d ms, reader split %d ms / tokenizer %d ms%n",
+                    round,
+                    time(() -> split.parseLines(lines).size()),
+                    time(() -> tokenizer.parseLines(lines).size()),
+                    time(() -> parseReader(split, text)),
+                    time(() -> parseReader(tokenizer, text)));
+        }
+    }
+
+    private static int parseReader(FileParser<Contact> parser, String text) {
+        List<Contact> contacts = new ArrayList<>();
+        try {
+            parser.parse(new BufferedReader(new StringReader(text)), contacts::add);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return contacts.size();
+    }
+
+    private static long time(IntSupplier task) {
+        System.gc();
+        long start = System.nanoTime();
+        int parsed = task.getAsInt();
+        long elapsed = (System.nanoTime() - start) / 1_000_000;
+        if (parsed == 0) throw new IllegalStateException("nothing parsed");
+        return elapsed;
+    }
+}
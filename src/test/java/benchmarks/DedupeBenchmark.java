@@ -0,0 +1,74 @@
+package benchmarks;
+
+import address_book.Contact;
+import address_utils.dedupe.DuplicateFinder;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Reports the time to find duplicate clusters in a synthetic book with
+ * injected near-duplicates, and how many of those were found, at several
+ * sizes to show how the time grows.
+ *
+ * Every 50th contact gets a copy with a typo in the first name and either
+ * a new phone number, a new email domain, or a new street number, so each
+ * kind of blocking key has to do its share.
+ *
+ * Run with: java -cp target/classes:target/test-classes:&lt;aspectjrt.jar&gt;:&lt;commons-codec.jar&gt;
+ * benchmarks.DedupeBenchmark [largest]
+ */
+public class DedupeBenchmark {
+
+    public static void main(String[] args) {
+        int largest = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+        for (int count = largest / 4; count <= largest; count *= 2) {
+            run(count);
+        }
+    }
+
+    private static void run(int count) {
+        List<Contact> contacts = SyntheticContacts.generate(count);
+        Random random = new Random(11);
+        Map<Contact, Contact> originals = new IdentityHashMap<>();
+        for (int i = 0; i < count; i += 50) {
+            Contact original = contacts.get(i);
+            Contact copy = new Contact(original);
+            String first = original.getFirstName();
+            int at = 1 + random.nextInt(first.length() - 2);
+            copy.setFirstName(first.substring(0, at) + first.charAt(at + 1) + first.charAt(at) + first.substring(at + 2));
+            switch (random.nextInt(3)) {
+                case 0:
+                    copy.setPhone(String.format("999555%04d", random.nextInt(10_000)));
+                    break;
+                case 1:
+                    copy.setEmail(original.getEmail().replaceAll("@.*", "@moved.net"));
+                    break;
+                default:
+                    copy.setStreet("1" + original.getStreet());
+                    break;
+            }
+            contacts.add(copy);
+            originals.put(copy, original);
+        }
+
+        long start = System.nanoTime();
+        List<List<Contact>> clusters = new DuplicateFinder().findClusters(contacts);
+        long elapsed = System.nanoTime() - start;
+
+        int found = 0;
+        int clustered = 0;
+        for (List<Contact> cluster : clusters) {
+            clustered += cluster.size();
+            for (Contact c : cluster) {
+                Contact original = originals.get(c);
+                if (original != null && cluster.stream().anyMatch(o -> o == original)) found++;
+            }
+        }
+        System.out.printf("%d contacts: %d ms, %d clusters (%d contacts), %d of %d injected duplicates found%n",
+                contacts.size(), elapsed / 1_000_000, clusters.size(), clustered, found, originals.size());
+    }
+}
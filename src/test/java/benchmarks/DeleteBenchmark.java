@@ -0,0 +1,47 @@
+package benchmarks;
+
+import address_book.AddressBook;
+import address_book.Contact;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Reports the time per deletion from an address book: removing the contact
+ * from a list by identity, as deletion did before contacts had IDs, and
+ * {@link AddressBook#removeContact(long)}, which finds the contact's
+ * position by ID, swaps the last contact into it, and updates the indexes.
+ *
+ * Run with: java -Xmx3g -cp target/classes:target/test-classes:&lt;aspectjrt.jar&gt;
+ * benchmarks.DeleteBenchmark [contacts]
+ */
+public class DeleteBenchmark {
+
+    private static final int DELETES = 20_000;
+
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        List<Contact> contacts = SyntheticContacts.generate(count);
+        AddressBook book = new AddressBook();
+        book.setContacts(new ArrayList<>(contacts));
+
+        List<Contact> doomed = new ArrayList<>(contacts);
+        Collections.shuffle(doomed, new Random(7));
+        doomed = doomed.subList(0, DELETES);
+
+        List<Contact> list = new ArrayList<>(contacts);
+        long start = System.nanoTime();
+        for (Contact c : doomed) list.remove(c);
+        long byIdentity = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (Contact c : doomed) book.removeContact(c.getId());
+        long byId = System.nanoTime() - start;
+
+        if (list.size() != book.getContacts().size()) throw new IllegalStateException();
+        System.out.printf("%d contacts: list remove %.1f us/delete, removeContact by ID with index upkeep %.1f us/delete%n",
+                count, byIdentity / 1000.0 / DELETES, byId / 1000.0 / DELETES);
+    }
+}
@@ -0,0 +1,105 @@
+package benchmarks;
+
+import address_book.AddressBook;
+import address_book.Contact;
+import address_book.ContactSearcher;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Reports the time per fuzzy name search with one and two typos.
+ *
+ * The synthetic generator draws names from a few dozen values, which would
+ * make the name dictionaries trivially small, so this benchmark gives the
+ * contacts last names from a pool of about 100,000 made-up surnames and
+ * first names from a pool of about 5,000.
+ *
+ * Run with: java -cp target/classes:target/test-classes:&lt;aspectjrt.jar&gt;
+ * benchmarks.FuzzySearchBenchmark [contacts]
+ */
+public class FuzzySearchBenchmark {
+
+    private static final String[] SYLLABLES = {
+            "an", "ber", "cal", "do", "el", "fen", "gar", "ha", "ia", "jo", "ken", "lo", "mar", "ne",
+            "or", "per", "qui", "ro", "son", "ta", "ul", "ver", "wil", "xa", "yo", "zen", "ste", "ton"
+    };
+
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        Random random = new Random(42);
+        List<String> lastNames = names(random, 100_000, 3);
+        List<String> firstNames = names(random, 5_000, 2);
+
+        List<Contact> contacts = SyntheticContacts.generate(count);
+        for (Contact c : contacts) {
+            c.setFirstName(firstNames.get(random.nextInt(firstNames.size())));
+            c.setLastName(lastNames.get(random.nextInt(lastNames.size())));
+        }
+        AddressBook book = new AddressBook();
+        book.setContacts(new ArrayList<>(contacts));
+
+        long start = System.nanoTime();
+        book.findFuzzy("warmup", 1, 1);
+        System.out.printf("%d contacts, %d distinct last names, %d distinct first names: build %d ms%n",
+                count, lastNames.size(), firstNames.size(), (System.nanoTime() - start) / 1_000_000);
+
+        int queries = 500;
+        for (int typos = 1; typos <= 2; typos++) {
+            String[] lastOnly = new String[queries];
+            String[] full = new String[queries];
+            for (int i = 0; i < queries; i++) {
+                Contact c = contacts.get(random.nextInt(count));
+                lastOnly[i] = misspell(random, c.getLastName(), typos);
+                full[i] = misspell(random, c.getFirstName(), typos / 2) + " " + misspell(random, c.getLastName(), typos - typos / 2);
+            }
+            report("last name", lastOnly, book, typos);
+            report("full name", full, book, typos);
+        }
+    }
+
+    private static void report(String label, String[] queries, AddressBook book, int typos) {
+        long best = Long.MAX_VALUE;
+        int found = 0;
+        int hits = 0;
+        for (int round = 0; round < 3; round++) {
+            found = 0;
+            hits = 0;
+            long start = System.nanoTime();
+            for (String query : queries) {
+                List<Contact> matches = book.findFuzzy(query, typos, ContactSearcher.MAX_FUZZY_MATCHES);
+                found += matches.size();
+                if (!matches.isEmpty()) hits++;
+            }
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        System.out.printf("k=%d %s: %.3f ms/query, %d/%d queries matched, %d contacts returned%n",
+                typos, label, best / 1e6 / queries.length, hits, queries.length, found);
+    }
+
+    static List<String> names(Random random, int target, int maxSyllables) {
+        Set<String> names = new HashSet<>();
+        while (names.size() < target) {
+            StringBuilder name = new StringBuilder();
+            int syllables = 2 + random.nextInt(maxSyllables);
+            for (int s = 0; s < syllables; s++) name.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+            name.setCharAt(0, Character.toUpperCase(name.charAt(0)));
+            names.add(name.toString());
+        }
+        return new ArrayList<>(names);
+    }
+
+    /**
+     * Applies the given number of random substitutions.
+     */
+    private static String misspell(Random random, String name, int typos) {
+        char[] chars = name.toLowerCase().toCharArray();
+        for (int t = 0; t < typos; t++) {
+            chars[random.nextInt(chars.length)] = (char) ('a' + random.nextInt(26));
+        }
+        return new String(chars);
+    }
+}
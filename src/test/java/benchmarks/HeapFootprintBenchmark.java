@@ -0,0 +1,57 @@
+package benchmarks;
+
+import address_book.Contact;
+import address_utils.formatter.ContactCSVFormatter;
+import address_utils.parser.ContactLineParser;
+import io.CsvTokenizer;
+import utilities.StringPool;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reports the heap retained per contact after loading a CSV address book,
+ * with and without pooling the repeated fields.
+ *
+ * The contacts are written to CSV lines and parsed back, as a load from
+ * disk would, so every field starts as a fresh String. Retained heap is
+ * measured after full collections, with the lines themselves excluded.
+ * Run with a heap large enough to hold the lines and two books.
+ *
+ * Run with: java -Xmx3g -cp target/classes:target/test-classes:&lt;aspectjrt.jar&gt;
+ * benchmarks.HeapFootprintBenchmark [contacts]
+ */
+public class HeapFootprintBenchmark {
+
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        List<String> lines = new ArrayList<>(count);
+        for (Contact c : SyntheticContacts.generate(count)) lines.add(ContactCSVFormatter.toCSV(c));
+
+        long plain = measure(lines, new StringPool(0), new StringPool(0), new StringPool(0));
+        StringPool cities = new StringPool(65_536);
+        StringPool states = new StringPool(65_536);
+        StringPool zipCodes = new StringPool(65_536, 5);
+        long pooled = measure(lines, cities, states, zipCodes);
+        System.out.printf("%d contacts: %d bytes/contact without pooling, %d with (%d pooled values), %.0f%% saved%n",
+                count, plain / count, pooled / count, cities.size() + states.size() + zipCodes.size(),
+                100.0 * (plain - pooled) / plain);
+    }
+
+    private static long measure(List<String> lines, StringPool cities, StringPool states, StringPool zipCodes) {
+        CsvTokenizer tokenizer = new CsvTokenizer(',');
+        ContactLineParser parser = new ContactLineParser(cities, states, zipCodes);
+        long before = usedHeap();
+        List<Contact> contacts = new ArrayList<>(lines.size());
+        for (String line : lines) contacts.add(parser.parse(tokenizer.tokenize(line)));
+        long after = usedHeap();
+        if (contacts.size() != lines.size()) throw new IllegalStateException();
+        return after - before;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
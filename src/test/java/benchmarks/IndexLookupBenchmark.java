@@ -0,0 +1,53 @@
+package benchmarks;
+
+import address_book.AddressBook;
+import address_book.Contact;
+import address_book.ContactSearcher;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reports the time per exact email and phone lookup using a linear scan
+ * against the address book's hash indexes.
+ *
+ * Run with: java -cp target/classes:target/test-classes:&lt;aspectjrt.jar&gt;
+ * benchmarks.IndexLookupBenchmark [contacts]
+ */
+public class IndexLookupBenchmark {
+
+    public static void main(String[] args) {
+        System.setProperty("addressbook.search.cache.size", "0"); // Time the indexes, not cache hits
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        List<Contact> contacts = SyntheticContacts.generate(count);
+        AddressBook book = new AddressBook();
+        book.setContacts(new ArrayList<>(contacts));
+
+        int queries = 200;
+        String[] emails = new String[queries];
+        String[] phones = new String[queries];
+        for (int i = 0; i < queries; i++) {
+            Contact c = contacts.get((int) ((long) i * count / queries));
+            emails[i] = c.getEmail();
+            phones[i] = c.getPhone();
+        }
+
+        for (String field : new String[] { "email", "phone" }) {
+            String[] values = field.equals("email") ? emails : phones;
+            long scan = Long.MAX_VALUE;
+            long indexed = Long.MAX_VALUE;
+            int found = 0;
+            for (int round = 0; round < 3; round++) {
+                long start = System.nanoTime();
+                for (String value : values) found += ContactSearcher.findMatches(contacts, field, value).size();
+                scan = Math.min(scan, System.nanoTime() - start);
+
+                start = System.nanoTime();
+                for (String value : values) found += ContactSearcher.findMatches(book, field, value).size();
+                indexed = Math.min(indexed, System.nanoTime() - start);
+            }
+            System.out.printf("%s (%d contacts): scan %.1f us/lookup, index %.2f us/lookup (%d found)%n",
+                    field, count, scan / 1000.0 / queries, indexed / 1000.0 / queries, found);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package benchmarks;
+
+import address_book.AddressBook;
+import address_book.Contact;
+import address_book.ContactCursor;
+import address_book.ContactSearcher;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compares collecting every match of a broad search with reading only the
+ * first page from a cursor, and reports the time and heap allocated by each.
+ *
+ * Run with: java -cp target/classes:target/test-classes:&lt;aspectjrt.jar&gt;:&lt;commons-codec.jar&gt;
+ * benchmarks.PaginationBenchmark [contacts]
+ */
+public class PaginationBenchmark {
+
+    private static final String[][] SEARCHES = {
+        { "first", "a" }, { "last", "s" }, { "query", "last:s* OR state:TX" }, { "phone", "55" },
+    };
+
+    public static void main(String[] args) {
+        System.setProperty("addressbook.search.cache.size", "0"); // Time the searches, not cache hits
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        AddressBook book = new AddressBook();
+        book.setContacts(new ArrayList<>(SyntheticContacts.generate(count)));
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) java.lang.management.ManagementFactory.getThreadMXBean();
+
+        for (String[] search : SEARCHES) {
+            long all = Long.MAX_VALUE;
+            long page = Long.MAX_VALUE;
+            long allBytes = 0;
+            long pageBytes = 0;
+            int found = 0;
+            for (int round = 0; round < 5; round++) {
+                long bytes = threads.getCurrentThreadAllocatedBytes();
+                long start = System.nanoTime();
+                List<Contact> matches = ContactSearcher.findMatches(book, search[0], search[1]);
+                all = Math.min(all, System.nanoTime() - start);
+                allBytes = threads.getCurrentThreadAllocatedBytes() - bytes;
+                found = matches.size();
+
+                bytes = threads.getCurrentThreadAllocatedBytes();
+                start = System.nanoTime();
+                ContactCursor cursor = ContactSearcher.search(book, search[0], search[1]);
+                List<Contact> first = cursor.page(0, ContactSearcher.PAGE_SIZE);
+                cursor.hasMoreThan(first.size());
+                page = Math.min(page, System.nanoTime() - start);
+                pageBytes = threads.getCurrentThreadAllocatedBytes() - bytes;
+            }
+            System.out.printf("%s:%s (%d matches): all %.3f ms / %d KB, first page %.3f ms / %d KB%n",
+                    search[0], search[1], found, all / 1e6, allBytes / 1024, page / 1e6, pageBytes / 1024);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package benchmarks;
+
+import address_book.Contact;
+import address_utils.formatter.ContactCSVFormatter;
+import address_utils.parser.ContactLineParser;
+import io.FileParser;
+import io.ParallelFileParser;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Reports wall-clock load time of the streaming parser against the parallel
+ * memory-mapped parser for 1..N worker threads, where N is the core count.
+ *
+ * Run with: java -cp target/classes:target/test-classes:&lt;aspectjrt.jar&gt;
+ * benchmarks.ParallelLoadBenchmark [contacts]
+ */
+public class ParallelLoadBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        Path file = Paths.get("target", "benchmark-data", "parallel_load.csv");
+        Files.createDirectories(file.getParent());
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            writer.write(ContactCSVFormatter.header());
+            writer.newLine();
+            for (Contact c : SyntheticContacts.generate(count)) {
+                writer.write(ContactCSVFormatter.toCSV(c));
+                writer.newLine();
+            }
+        }
+        System.out.printf("%d contacts, %d MB, %d cores%n",
+                count, Files.size(file) >> 20, Runtime.getRuntime().availableProcessors());
+
+        long sequential = Long.MAX_VALUE;
+        for (int round = 0; round < 5; round++) {
+            System.gc();
+            long start = System.nanoTime();
+            List<Contact> contacts = new ArrayList<>();
+            try (BufferedReader reader = Files.newBufferedReader(file)) {
+                reader.readLine();
+                new FileParser<>(',', new ContactLineParser()).parse(reader, contacts::add);
+            }
+            sequential = Math.min(sequential, System.nanoTime() - start);
+        }
+        System.out.printf("streaming: %d ms%n", sequential / 1_000_000);
+
+        int cores = Runtime.getRuntime().availableProcessors();
+        for (int threads = 1; threads <= cores; threads = threads < cores ? Math.min(threads * 2, cores) : cores + 1) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            ParallelFileParser<Contact> parser = new ParallelFileParser<>(',', new ContactLineParser(), pool);
+            long best = Long.MAX_VALUE;
+            for (int round = 0; round < 5; round++) {
+                System.gc();
+                long start = System.nanoTime();
+                parser.parse(file, tokens -> tokens[0].equals("First Name"));
+                best = Math.min(best, System.nanoTime() - start);
+            }
+            pool.shutdown();
+            System.out.printf("parallel, %d threads: %d ms (%.2fx)%n",
+                    threads, best / 1_000_000, (double) sequential / best);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package benchmarks;
+
+import address_book.Contact;
+import address_book.ContactSearcher;
+import address_utils.query.ContactQuery;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+
+/**
+ * Reports how a linear search scales with the number of fork-join worker
+ * threads, from one up to the number of available processors (at least
+ * four, so oversubscription shows on small machines). The sequential path
+ * is the baseline.
+ *
+ * Run with: java -cp target/classes:target/test-classes:&lt;aspectjrt.jar&gt;
+ * benchmarks.ParallelSearchBenchmark [contacts]
+ */
+public class ParallelSearchBenchmark {
+
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        List<Contact> contacts = SyntheticContacts.generate(count);
+        Predicate<Contact> substring = c -> c.getFoldedFullName().contains("s smi");
+        Predicate<Contact> query = ContactQuery.parse("last:smi* AND city:*o* AND NOT email:*@old.com");
+        System.out.println("Available processors: " + Runtime.getRuntime().availableProcessors());
+
+        double baseline = 0;
+        int maxThreads = Math.max(4, Runtime.getRuntime().availableProcessors());
+        for (int threads = 1; threads <= maxThreads; threads *= 2) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            // A single thread takes the sequential path, the baseline for the speedups
+            int threshold = threads == 1 ? Integer.MAX_VALUE : 1;
+            double substringMs = time(contacts, substring, pool, threshold);
+            double queryMs = time(contacts, query, pool, threshold);
+            if (threads == 1) baseline = substringMs;
+            System.out.printf("%2d threads: substring %.1f ms (%.2fx), query %.1f ms%n",
+                    threads, substringMs, baseline / substringMs, queryMs);
+            pool.shutdown();
+        }
+    }
+
+    private static double time(List<Contact> contacts, Predicate<Contact> predicate, ForkJoinPool pool, int threshold) {
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < 7; round++) {
+            long start = System.nanoTime();
+            ContactSearcher.filter(contacts, predicate, pool, threshold);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best / 1e6;
+    }
+}
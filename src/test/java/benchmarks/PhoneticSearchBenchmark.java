@@ -0,0 +1,77 @@
+package benchmarks;
+
+import address_book.AddressBook;
+import address_book.Contact;
+import address_book.ContactSearcher;
+import address_utils.index.PhoneticIndex;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Reports the cost of indexing contacts by phonetic code and the time per
+ * sound-alike lookup, against testing every contact's name with the same
+ * encoder.
+ *
+ * Lookups are measured twice: on the synthetic book, whose few dozen
+ * surnames make every lookup return tens of thousands of contacts, and
+ * with surnames drawn from about 100,000 made-up names, where results are
+ * small and the probe itself dominates.
+ *
+ * Run with: java -cp target/classes:target/test-classes:&lt;aspectjrt.jar&gt;:&lt;commons-codec.jar&gt;
+ * benchmarks.PhoneticSearchBenchmark [contacts]
+ */
+public class PhoneticSearchBenchmark {
+
+    public static void main(String[] args) {
+        System.setProperty("addressbook.search.cache.size", "0"); // Time the indexes, not cache hits
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        List<Contact> contacts = SyntheticContacts.generate(count);
+        run("synthetic surnames", contacts, new String[] {
+                "Smyth", "Jonsen", "Tomson", "Catherine Smith", "Stefen Garsia", "Mikael Lewis" });
+
+        Random random = new Random(7);
+        List<String> surnames = FuzzySearchBenchmark.names(random, 100_000, 3);
+        for (Contact c : contacts) c.setLastName(surnames.get(random.nextInt(surnames.size())));
+        String[] heard = new String[6];
+        for (int i = 0; i < heard.length; i++) {
+            Contact c = contacts.get(random.nextInt(count));
+            heard[i] = (i % 2 == 0 ? "" : c.getFirstName() + " ") + c.getLastName().replace('c', 'k');
+        }
+        run("100k surnames", contacts, heard);
+    }
+
+    private static void run(String label, List<Contact> contacts, String[] heard) {
+        int count = contacts.size();
+        System.out.println(label + ":");
+
+        PhoneticIndex lastNames = new PhoneticIndex(Contact::getFoldedLastName);
+        long start = System.nanoTime();
+        for (Contact c : contacts) lastNames.add(c);
+        System.out.printf("index %d last names: %d ms%n", count, (System.nanoTime() - start) / 1_000_000);
+
+        AddressBook book = new AddressBook();
+        start = System.nanoTime();
+        book.setContacts(new ArrayList<>(contacts));
+        System.out.printf("load into address book (all eager indexes): %d ms%n", (System.nanoTime() - start) / 1_000_000);
+
+        long scan = Long.MAX_VALUE;
+        long indexed = Long.MAX_VALUE;
+        int found = 0;
+        for (int round = 0; round < 5; round++) {
+            start = System.nanoTime();
+            for (String name : heard) {
+                found += ContactSearcher.filter(contacts, lastNames.soundingLike(name.substring(name.indexOf(' ') + 1)))
+                        .size();
+            }
+            scan = Math.min(scan, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            for (String name : heard) found += ContactSearcher.findMatches(book, "phonetic", name).size();
+            indexed = Math.min(indexed, System.nanoTime() - start);
+        }
+        System.out.printf("scan %.1f ms/lookup, index %.3f ms/lookup (%d found per lookup)%n",
+                scan / 1e6 / heard.length, indexed / 1e6 / heard.length, found / 10 / heard.length);
+    }
+}
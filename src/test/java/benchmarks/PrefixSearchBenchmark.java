@@ -0,0 +1,55 @@
+package benchmarks;
+
+import address_book.AddressBook;
+import address_book.Contact;
+import address_book.ContactSearcher;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reports the time per last-name prefix search, returning the first
+ * {@value ContactSearcher#MAX_PREFIX_MATCHES} matches, as the address book
+ * grows. The index-backed search should stay flat while the scan grows
+ * with the book.
+ *
+ * Run with: java -cp target/classes:target/test-classes:&lt;aspectjrt.jar&gt;
+ * benchmarks.PrefixSearchBenchmark
+ */
+public class PrefixSearchBenchmark {
+
+    public static void main(String[] args) {
+        System.setProperty("addressbook.search.cache.size", "0"); // Time the indexes, not cache hits
+        for (int count : new int[] { 10_000, 100_000, 1_000_000 }) {
+            List<Contact> contacts = SyntheticContacts.generate(count);
+            AddressBook book = new AddressBook();
+            book.setContacts(new ArrayList<>(contacts));
+
+            long start = System.nanoTime();
+            ContactSearcher.findMatches(book, "last-prefix", "a");
+            long build = System.nanoTime() - start;
+
+            int queries = 200;
+            String[] prefixes = new String[queries];
+            for (int i = 0; i < queries; i++) {
+                String last = contacts.get((int) ((long) i * count / queries)).getLastName();
+                prefixes[i] = last.substring(0, 1 + i % Math.min(4, last.length()));
+            }
+
+            long scan = Long.MAX_VALUE;
+            long indexed = Long.MAX_VALUE;
+            int found = 0;
+            for (int round = 0; round < 5; round++) {
+                start = System.nanoTime();
+                for (String prefix : prefixes) found += ContactSearcher.findMatches(contacts, "last-prefix", prefix).size();
+                scan = Math.min(scan, System.nanoTime() - start);
+
+                start = System.nanoTime();
+                for (String prefix : prefixes) found += ContactSearcher.findMatches(book, "last-prefix", prefix).size();
+                indexed = Math.min(indexed, System.nanoTime() - start);
+            }
+            System.out.printf("%,d contacts: build %d ms, scan %.2f ms/query, index %.2f us/query (%d found)%n",
+                    count, build / 1_000_000, scan / 1e6 / queries, indexed / 1e3 / queries, found);
+        }
+    }
+}
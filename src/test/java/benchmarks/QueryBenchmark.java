@@ -0,0 +1,52 @@
+package benchmarks;
+
+import address_book.Contact;
+import address_book.ContactSearcher;
+import address_utils.query.ContactQuery;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Compares a compiled multi-field query, evaluated in one short-circuiting
+ * pass, with running one single-field search per clause and intersecting
+ * the results.
+ *
+ * Run with: java -cp target/classes:target/test-classes:&lt;aspectjrt.jar&gt;
+ * benchmarks.QueryBenchmark [contacts]
+ */
+public class QueryBenchmark {
+
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        List<Contact> contacts = SyntheticContacts.generate(count);
+        ContactQuery query = ContactQuery.parse("last:smi* AND state:texas AND NOT email:*@old.com");
+
+        long compiled = Long.MAX_VALUE;
+        long passes = Long.MAX_VALUE;
+        int found = 0;
+        int intersected = 0;
+        for (int round = 0; round < 5; round++) {
+            long start = System.nanoTime();
+            found = ContactSearcher.findMatches(contacts, query).size();
+            compiled = Math.min(compiled, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            Set<Contact> result = identitySet(ContactSearcher.findMatches(contacts, "last-prefix", "smi"));
+            result.retainAll(identitySet(ContactSearcher.findMatches(contacts, "query", "state:texas")));
+            result.removeAll(identitySet(ContactSearcher.findMatches(contacts, "email", "@old.com")));
+            intersected = result.size();
+            passes = Math.min(passes, System.nanoTime() - start);
+        }
+        System.out.printf("%s (%d contacts): compiled %.1f ms (%d found), one pass per clause %.1f ms (%d found)%n",
+                query, count, compiled / 1e6, found, passes / 1e6, intersected);
+    }
+
+    private static Set<Contact> identitySet(List<Contact> contacts) {
+        Set<Contact> set = Collections.newSetFromMap(new IdentityHashMap<>());
+        set.addAll(contacts);
+        return set;
+    }
+}
@@ -0,0 +1,57 @@
+package benchmarks;
+
+import address_book.AddressBook;
+import address_book.Contact;
+import address_book.ContactSearcher;
+import address_utils.query.ContactQuery;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reports the time per ZIP range and city/state search through the
+ * address book's indexes, against a scan with the equivalent query, and
+ * the cost of maintaining the regional indexes at load.
+ *
+ * Run with: java -cp target/classes:target/test-classes:&lt;aspectjrt.jar&gt;:&lt;commons-codec.jar&gt;
+ * benchmarks.RegionSearchBenchmark [contacts]
+ */
+public class RegionSearchBenchmark {
+
+    private static final String[][] SEARCHES = {
+        { "zip", "78200-78209", "zip:7820*" },
+        { "zip", "60601", "zip:60601*" },
+        { "region", "San Antonio, Texas", "city:\"San Antonio\" state:Texas" },
+        { "region", "Oregon", "state:Oregon" },
+    };
+
+    public static void main(String[] args) {
+        System.setProperty("addressbook.search.cache.size", "0"); // Time the indexes, not cache hits
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        List<Contact> contacts = SyntheticContacts.generate(count);
+
+        AddressBook book = new AddressBook();
+        long start = System.nanoTime();
+        book.setContacts(new ArrayList<>(contacts));
+        System.out.printf("load %d contacts (all eager indexes): %d ms%n", count, (System.nanoTime() - start) / 1_000_000);
+
+        for (String[] search : SEARCHES) {
+            ContactQuery query = ContactQuery.parse(search[2]);
+            long scan = Long.MAX_VALUE;
+            long indexed = Long.MAX_VALUE;
+            int scanned = 0;
+            int found = 0;
+            for (int round = 0; round < 5; round++) {
+                start = System.nanoTime();
+                scanned = ContactSearcher.findMatches(contacts, query).size();
+                scan = Math.min(scan, System.nanoTime() - start);
+
+                start = System.nanoTime();
+                found = ContactSearcher.findMatches(book, search[0], search[1]).size();
+                indexed = Math.min(indexed, System.nanoTime() - start);
+            }
+            System.out.printf("%s:%s (%d found, scan %d): scan %.2f ms, index %.3f ms%n",
+                    search[0], search[1], found, scanned, scan / 1e6, indexed / 1e6);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package benchmarks;
+
+import address_book.Contact;
+import address_book.ContactSearcher;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+/**
+ * Reports the bytes allocated and the time taken by one linear search of
+ * every field, per query and per contact scanned.
+ *
+ * Allocation is read from the JVM's per-thread counter, so run it on a
+ * HotSpot-based JVM.
+ *
+ * Run with: java -cp target/classes:target/test-classes:&lt;aspectjrt.jar&gt;
+ * benchmarks.SearchAllocationBenchmark [contacts]
+ */
+public class SearchAllocationBenchmark {
+
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        List<Contact> contacts = SyntheticContacts.generate(count);
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+
+        String[][] queries = {
+                { "first", "tric" }, { "last", "mit" }, { "full", "s smi" },
+                { "email", "nobody@" }, { "phone", "9999" }
+        };
+        for (String[] query : queries) {
+            long bytes = Long.MAX_VALUE;
+            long nanos = Long.MAX_VALUE;
+            int found = 0;
+            for (int round = 0; round < 5; round++) {
+                long allocated = threads.getThreadAllocatedBytes(thread);
+                long start = System.nanoTime();
+                found = ContactSearcher.findMatches(contacts, query[0], query[1]).size();
+                nanos = Math.min(nanos, System.nanoTime() - start);
+                bytes = Math.min(bytes, threads.getThreadAllocatedBytes(thread) - allocated);
+            }
+            System.out.printf("%-5s (%d contacts): %.1f MB allocated (%.1f bytes/contact), %.1f ms (%d found)%n",
+                    query[0], count, bytes / 1e6, (double) bytes / count, nanos / 1e6, found);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package benchmarks;
+
+import address_book.AddressBook;
+import address_book.Contact;
+import address_book.ContactSearcher;
+import address_book.SearchCache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Replays a skewed stream of repeated searches against an address book,
+ * with and without the search result cache, and reports the time per
+ * search and the cache's hit, miss, and eviction counts.
+ *
+ * Searches are drawn from a pool of terms with a Zipf-like skew, so a few
+ * are very common, as in an interactive session. Every {@code writeEvery}
+ * searches a contact is added, which empties the cache.
+ *
+ * Run with: java -cp target/classes:target/test-classes:&lt;aspectjrt.jar&gt;:&lt;commons-codec.jar&gt;
+ * benchmarks.SearchCacheBenchmark [contacts] [writeEvery]
+ */
+public class SearchCacheBenchmark {
+
+    private static final String[][] TERMS = {
+        { "last", "son" }, { "first", "mar" }, { "full", "an" }, { "email", "example" },
+        { "phone", "555" }, { "last-prefix", "s" }, { "first-prefix", "j" }, { "fuzzy", "jonson" },
+        { "phonetic", "smyth" }, { "query", "last:s* AND NOT first:j*" }, { "last", "ill" },
+        { "first", "li" }, { "email", "mail.com" }, { "full", "son" }, { "last-prefix", "mo" },
+    };
+
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int writeEvery = args.length > 1 ? Integer.parseInt(args[1]) : 100;
+        List<Contact> contacts = SyntheticContacts.generate(count);
+
+        Random random = new Random(3);
+        int[] stream = new int[2_000];
+        for (int i = 0; i < stream.length; i++) {
+            stream[i] = (int) (TERMS.length * Math.pow(random.nextDouble(), 3)); // Skewed to the first terms
+        }
+
+        for (String size : new String[] { "0", "256" }) {
+            System.setProperty("addressbook.search.cache.size", size);
+            AddressBook book = new AddressBook();
+            book.setContacts(new ArrayList<>(contacts));
+            for (String[] term : TERMS) ContactSearcher.findMatches(book, term[0], term[1]); // Build lazy indexes
+
+            long found = 0;
+            long start = System.nanoTime();
+            for (int i = 0; i < stream.length; i++) {
+                if (i % writeEvery == 0) {
+                    book.addContact(new Contact("Added", "Person" + i, "1 Main St", "Austin", "TX", "78701",
+                            "5125550100", "added" + i + "@example.com"));
+                }
+                String[] term = TERMS[stream[i]];
+                found += ContactSearcher.findMatches(book, term[0], term[1]).size();
+            }
+            long elapsed = System.nanoTime() - start;
+
+            SearchCache cache = book.getSearchCache();
+            System.out.printf("cache size %s: %.3f ms/search (%d found), hits %d, misses %d, evictions %d%n",
+                    size, elapsed / 1e6 / stream.length, found, cache.getHits(), cache.getMisses(),
+                    cache.getEvictions());
+        }
+    }
+}
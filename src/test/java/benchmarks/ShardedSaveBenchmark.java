@@ -0,0 +1,56 @@
+package benchmarks;
+
+import address_book.Contact;
+import address_utils.storage.ShardedContactStore;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * Reports the cost of a save that rewrites every shard against a save after
+ * editing a single contact, and the time to load all shards.
+ *
+ * Run with: java -cp target/classes:target/test-classes:&lt;aspectjrt.jar&gt;
+ * benchmarks.ShardedSaveBenchmark [contacts] [shards]
+ */
+public class ShardedSaveBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int shardCount = args.length > 1 ? Integer.parseInt(args[1]) : 64;
+        Path dir = Paths.get("target", "benchmark-data", "shards");
+        Files.createDirectories(dir);
+
+        List<Contact> contacts = SyntheticContacts.generate(count);
+        ShardedContactStore store = new ShardedContactStore(dir, shardCount);
+
+        long full = Long.MAX_VALUE;
+        long single = Long.MAX_VALUE;
+        long load = Long.MAX_VALUE;
+        for (int round = 0; round < 5; round++) {
+            System.gc();
+            long start = System.nanoTime();
+            store.markAllDirty();
+            store.capture(contacts, 0).write();
+            full = Math.min(full, System.nanoTime() - start);
+
+            Contact edited = contacts.get(round);
+            edited.setCity("Springfield");
+            start = System.nanoTime();
+            store.markDirty(edited);
+            store.capture(contacts, 0).write();
+            single = Math.min(single, System.nanoTime() - start);
+
+            System.gc();
+            start = System.nanoTime();
+            new ShardedContactStore(dir, shardCount).load();
+            load = Math.min(load, System.nanoTime() - start);
+        }
+        System.out.printf("%d contacts, %d shards%n", count, shardCount);
+        System.out.printf("save all shards: %d ms%n", full / 1_000_000);
+        System.out.printf("save after one edit: %d ms (%.0fx less)%n", single / 1_000_000, (double) full / single);
+        System.out.printf("load all shards: %d ms%n", load / 1_000_000);
+    }
+}
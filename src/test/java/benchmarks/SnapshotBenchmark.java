@@ -0,0 +1,69 @@
+package benchmarks;
+
+import address_book.Contact;
+import address_utils.formatter.ContactCSVFormatter;
+import address_utils.parser.ContactLineParser;
+import address_utils.storage.ContactSnapshot;
+import io.FileParser;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reports startup load time of the CSV file against the binary snapshot.
+ *
+ * Run with: java -cp target/classes:target/test-classes:&lt;aspectjrt.jar&gt;
+ * benchmarks.SnapshotBenchmark [contacts]
+ */
+public class SnapshotBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        Path dir = Paths.get("target", "benchmark-data");
+        Path csv = dir.resolve("snapshot.csv");
+        Files.createDirectories(dir);
+
+        List<Contact> contacts = SyntheticContacts.generate(count);
+        try (BufferedWriter writer = Files.newBufferedWriter(csv)) {
+            writer.write(ContactCSVFormatter.header());
+            writer.newLine();
+            for (Contact c : contacts) {
+                writer.write(ContactCSVFormatter.toCSV(c));
+                writer.newLine();
+            }
+        }
+        ContactSnapshot snapshot = new ContactSnapshot(dir.resolve("snapshot.bin"));
+        snapshot.write(contacts, csv, 0);
+        contacts = null;
+
+        System.out.printf("%d contacts: csv %d MB, snapshot %d MB%n",
+                count, Files.size(csv) >> 20, Files.size(dir.resolve("snapshot.bin")) >> 20);
+
+        long csvBest = Long.MAX_VALUE;
+        long snapshotBest = Long.MAX_VALUE;
+        for (int round = 0; round < 5; round++) {
+            System.gc();
+            long start = System.nanoTime();
+            List<Contact> loaded = new ArrayList<>();
+            try (BufferedReader reader = Files.newBufferedReader(csv)) {
+                reader.readLine();
+                new FileParser<>(',', new ContactLineParser()).parse(reader, loaded::add);
+            }
+            csvBest = Math.min(csvBest, System.nanoTime() - start);
+            loaded = null;
+
+            System.gc();
+            start = System.nanoTime();
+            loaded = snapshot.read();
+            snapshotBest = Math.min(snapshotBest, System.nanoTime() - start);
+            if (loaded == null || loaded.size() != count) throw new IllegalStateException("Snapshot load failed");
+        }
+        System.out.printf("csv: %d ms%nsnapshot: %d ms (%.1fx)%n",
+                csvBest / 1_000_000, snapshotBest / 1_000_000, (double) csvBest / snapshotBest);
+    }
+}
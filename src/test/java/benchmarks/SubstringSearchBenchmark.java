@@ -0,0 +1,71 @@
+package benchmarks;
+
+import address_book.AddressBook;
+import address_book.Contact;
+import address_book.ContactSearcher;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reports the time per substring search using a linear scan against the
+ * address book's trigram index, along with the one-time cost of building
+ * the index.
+ *
+ * Run with: java -cp target/classes:target/test-classes:&lt;aspectjrt.jar&gt;
+ * benchmarks.SubstringSearchBenchmark [contacts]
+ */
+public class SubstringSearchBenchmark {
+
+    public static void main(String[] args) {
+        System.setProperty("addressbook.search.cache.size", "0"); // Time the indexes, not cache hits
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        List<Contact> contacts = SyntheticContacts.generate(count);
+        AddressBook book = new AddressBook();
+        book.setContacts(new ArrayList<>(contacts));
+
+        long start = System.nanoTime();
+        ContactSearcher.findMatches(book, "last", "warmup");
+        System.out.printf("index build (%d contacts): %d ms%n", count, (System.nanoTime() - start) / 1_000_000);
+
+        int queries = 50;
+        for (String field : new String[] { "last", "full", "email", "phone" }) {
+            String[] terms = new String[queries];
+            for (int i = 0; i < queries; i++) {
+                Contact c = contacts.get((int) ((long) i * count / queries));
+                terms[i] = term(field, c);
+            }
+
+            long scan = Long.MAX_VALUE;
+            long indexed = Long.MAX_VALUE;
+            int found = 0;
+            for (int round = 0; round < 3; round++) {
+                start = System.nanoTime();
+                for (String term : terms) found += ContactSearcher.findMatches(contacts, field, term).size();
+                scan = Math.min(scan, System.nanoTime() - start);
+
+                start = System.nanoTime();
+                for (String term : terms) found += ContactSearcher.findMatches(book, field, term).size();
+                indexed = Math.min(indexed, System.nanoTime() - start);
+            }
+            System.out.printf("%s: scan %.2f ms/query, index %.3f ms/query (%d found)%n",
+                    field, scan / 1e6 / queries, indexed / 1e6 / queries, found);
+        }
+    }
+
+    /**
+     * Takes a middle part of the field so the search is a true substring match.
+     */
+    private static String term(String field, Contact c) {
+        switch (field) {
+            case "last":
+                return c.getLastName().substring(1);
+            case "full":
+                return c.getFirstName().substring(1) + " " + c.getLastName().substring(0, 3);
+            case "email":
+                return c.getEmail().substring(2, c.getEmail().indexOf('@'));
+            default:
+                return c.getPhone().substring(c.getPhone().length() - 7);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package benchmarks;
+
+import address_book.Contact;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates reproducible, realistic-looking contacts for benchmarks.
+ * Values are drawn from small pools so cities, states and email domains
+ * repeat the way they do in real address books.
+ */
+final class SyntheticContacts {
+
+    private static final String[] FIRST = {
+            "James", "Mary", "Robert", "Patricia", "John", "Jennifer", "Michael", "Linda",
+            "David", "Elizabeth", "William", "Barbara", "Richard", "Susan", "Joseph", "Jessica",
+            "Thomas", "Sarah", "Charles", "Karen", "Catherine", "Kathryn", "Steven", "Stephen"
+    };
+    private static final String[] LAST = {
+            "Smith", "Smyth", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller",
+            "Davis", "Rodriguez", "Martinez", "Hernandez", "Lopez", "Gonzalez", "Wilson",
+            "Anderson", "Thomas", "Taylor", "Moore", "Jackson", "Martin", "Lee", "Perez",
+            "Thompson", "White", "Harris", "Sanchez", "Clark", "Ramirez", "Lewis", "Robinson"
+    };
+    private static final String[] STREETS = {
+            "Main St", "Oak Ave", "Pine Rd", "Maple Dr", "Cedar Ln", "Elm St", "Lake View Blvd",
+            "Hill Ct", "Sunset Way", "River Rd, Apt 4"
+    };
+    private static final String[][] CITIES = {
+            {"San Antonio", "Texas", "782"}, {"Austin", "Texas", "787"}, {"Houston", "Texas", "770"},
+            {"Chicago", "Illinois", "606"}, {"Springfield", "Illinois", "627"},
+            {"Denver", "Colorado", "802"}, {"Phoenix", "Arizona", "850"},
+            {"Seattle", "Washington", "981"}, {"Portland", "Oregon", "972"},
+            {"Boston", "Massachusetts", "021"}, {"New York", "New York", "100"}
+    };
+    private static final String[] DOMAINS = {
+            "example.com", "mail.com", "inbox.org", "corp.net", "old.com"
+    };
+
+    private SyntheticContacts() {
+    }
+
+    static List<Contact> generate(int count) {
+        Random random = new Random(42);
+        List<Contact> contacts = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String first = FIRST[random.nextInt(FIRST.length)];
+            String last = LAST[random.nextInt(LAST.length)];
+            String[] city = CITIES[random.nextInt(CITIES.length)];
+            String zip = city[2] + String.format("%02d", random.nextInt(100));
+            if (random.nextInt(4) == 0) zip += "-" + String.format("%04d", random.nextInt(10000));
+            contacts.add(new Contact(
+                    first,
+                    last,
+                    (100 + random.nextInt(9900)) + " " + STREETS[random.nextInt(STREETS.length)],
+                    city[0],
+                    city[1],
+                    zip,
+                    String.format("%03d555%04d", 200 + random.nextInt(800), i % 10000),
+                    first.toLowerCase() + "." + last.toLowerCase() + i + "@" + DOMAINS[random.nextInt(DOMAINS.length)]
+            ));
+        }
+        return contacts;
+    }
+}
@@ -0,0 +1,46 @@
+package io;
+
+import address_book.Contact;
+import address_utils.formatter.ContactCSVFormatter;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvTokenizerTest {
+
+    @Test
+    void tokenize_splitsPlainFields() {
+        CsvTokenizer tokenizer = new CsvTokenizer(',');
+        assertArrayEquals(new String[]{"a", "", "c", ""}, tokenizer.tokenize("a,,c,"));
+    }
+
+    @Test
+    void tokenize_handlesQuotedDelimitersAndEscapedQuotes() {
+        CsvTokenizer tokenizer = new CsvTokenizer(',');
+        assertArrayEquals(
+                new String[]{"123 \"Main\", St", "Chicago"},
+                tokenizer.tokenize("\"123 \"\"Main\"\", St\",Chicago"));
+    }
+
+    @Test
+    void tokenize_readsBackFormatterOutput() {
+        Contact c = new Contact("James", "Stevens", "123 \"Main\", St", "Chicago", "Illinois", "60601", "3125551212", "james@example.com");
+
+        String[] tokens = new CsvTokenizer(',').tokenize(ContactCSVFormatter.toCSV(c));
+
+        assertEquals(8, tokens.length);
+        assertEquals("123 \"Main\", St", tokens[2]);
+        assertEquals("james@example.com", tokens[7]);
+    }
+
+    @Test
+    void nextRecord_keepsLineBreaksInsideQuotes() throws Exception {
+        CsvTokenizer tokenizer = new CsvTokenizer(new StringReader("a,\"line1\r\nline2\"\r\nb,c\n"), ',');
+
+        assertArrayEquals(new String[]{"a", "line1\r\nline2"}, tokenizer.nextRecord());
+        assertArrayEquals(new String[]{"b", "c"}, tokenizer.nextRecord());
+        assertNull(tokenizer.nextRecord());
+    }
+}
@@ -0,0 +1,42 @@
+package io;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileSaverTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void saveLinesAtomically_compressesGzipFilesTransparently() throws Exception {
+        Path path = tempDir.resolve("book.csv.gz");
+        List<String> lines = List.of("First Name,Last Name", "Ada,Lovelace", "José,Müller");
+
+        FileSaver.saveLinesAtomically(path, lines);
+
+        byte[] bytes = Files.readAllBytes(path);
+        assertEquals((byte) 0x1f, bytes[0]); // gzip magic
+        assertEquals((byte) 0x8b, bytes[1]);
+        assertEquals(lines, FileLoader.loadLines(path));
+        try (var files = Files.list(tempDir)) {
+            assertEquals(1, files.count()); // No temporary file left behind
+        }
+    }
+
+    @Test
+    void appendLines_concatenatesCompressedMembers() throws Exception {
+        Path path = tempDir.resolve("journal.gz");
+
+        FileSaver.appendLines(path, List.of("one"));
+        FileSaver.appendLines(path, List.of("two", "three"));
+
+        assertEquals(List.of("one", "two", "three"), FileLoader.loadLines(path));
+    }
+}
@@ -0,0 +1,54 @@
+package io;
+
+import address_book.Contact;
+import address_utils.formatter.ContactCSVFormatter;
+import address_utils.parser.ContactLineParser;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelFileParserTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void parse_matchesSequentialParserAcrossChunks() throws Exception {
+        // ~4 MB of records, every third street spanning two lines inside quotes
+        List<String> lines = new ArrayList<>();
+        lines.add(ContactCSVFormatter.header());
+        for (int i = 0; i < 40_000; i++) {
+            String street = i % 3 == 0 ? i + " Main St,\nApt " + i : i + " Oak Ave";
+            lines.add(ContactCSVFormatter.toCSV(new Contact(
+                    "First" + i, "Last", street, "Chicago", "Illinois", "60601", "3125551212", "c" + i + "@example.com")));
+        }
+        Path file = tempDir.resolve("address_book.csv");
+        Files.write(file, lines);
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        List<Contact> parallel = new ParallelFileParser<>(',', new ContactLineParser(), pool)
+                .parse(file, tokens -> tokens[0].equals("First Name"));
+        pool.shutdown();
+
+        List<Contact> sequential = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(file)) {
+            reader.readLine();
+            new FileParser<>(',', new ContactLineParser()).parse(reader, sequential::add);
+        }
+
+        assertEquals(40_000, parallel.size());
+        assertEquals(sequential.size(), parallel.size());
+        for (int i = 0; i < sequential.size(); i++) {
+            assertEquals(ContactCSVFormatter.toCSV(sequential.get(i)), ContactCSVFormatter.toCSV(parallel.get(i)));
+        }
+        assertEquals("0 Main St,\nApt 0", parallel.get(0).getStreet());
+    }
+}
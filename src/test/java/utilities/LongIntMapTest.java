@@ -0,0 +1,43 @@
+package utilities;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongIntMapTest {
+
+    @Test
+    void putGetRemove_matchHashMapThroughGrowthAndRemoval() {
+        LongIntMap map = new LongIntMap();
+        Map<Long, Integer> expected = new HashMap<>();
+        Random random = new Random(7);
+        for (int i = 0; i < 20_000; i++) {
+            long key = 1 + random.nextInt(3_000);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.getOrDefault(key, LongIntMap.MISSING), map.remove(key));
+                expected.remove(key);
+            } else {
+                map.put(key, i);
+                expected.put(key, i);
+            }
+        }
+
+        assertEquals(expected.size(), map.size());
+        for (long key = 1; key <= 3_000; key++) {
+            assertEquals(expected.getOrDefault(key, LongIntMap.MISSING), map.get(key));
+        }
+    }
+
+    @Test
+    void put_rejectsNonPositiveKeys() {
+        LongIntMap map = new LongIntMap();
+
+        assertThrows(IllegalArgumentException.class, () -> map.put(0, 1));
+        assertEquals(LongIntMap.MISSING, map.get(0));
+        assertFalse(map.containsKey(-1));
+    }
+}
@@ -0,0 +1,43 @@
+package utilities;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StringPoolTest {
+
+    @Test
+    void canonical_returnsFirstInstanceOfEqualValues() {
+        StringPool pool = new StringPool(10);
+        String first = new String("Texas");
+        String second = new String("Texas");
+
+        assertSame(first, pool.canonical(first));
+        assertSame(first, pool.canonical(second));
+        assertNull(pool.canonical(null));
+        assertEquals(1, pool.size());
+    }
+
+    @Test
+    void canonical_stopsAdmittingWhenFull() {
+        StringPool pool = new StringPool(1);
+        String texas = pool.canonical(new String("Texas"));
+        String ohio = new String("Ohio");
+
+        assertSame(ohio, pool.canonical(ohio));
+        assertNotSame(ohio, pool.canonical(new String("Ohio")));
+        assertSame(texas, pool.canonical(new String("Texas")));
+        assertEquals(1, pool.size());
+    }
+
+    @Test
+    void canonical_returnsLongerValuesUnchanged() {
+        StringPool pool = new StringPool(10, 5);
+        String zip = pool.canonical(new String("60601"));
+        String zipPlusFour = new String("60601-1234");
+
+        assertSame(zip, pool.canonical(new String("60601")));
+        assertSame(zipPlusFour, pool.canonical(zipPlusFour));
+        assertEquals(1, pool.size());
+    }
+}